@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.assertion.assertj;
 import com.github.vladislavsevruk.assertion.AbstractRecursiveAssertion;
 import com.github.vladislavsevruk.assertion.verifier.AssertJSoftAssertionAdapter;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.ConcurrentSoftAssertion;
 import org.assertj.core.api.SoftAssertions;
 
 /**
@@ -51,6 +52,17 @@ public final class RecursiveAssertion<T> extends AbstractRecursiveAssertion<T, R
         return new RecursiveAssertion<>(actual);
     }
 
+    /**
+     * Creates new concurrent soft assertion that may collect verifications of several assertions performed at
+     * different threads and passes them to AssertJ soft assertion at <code>ConcurrentSoftAssertion.assertAll()</code>
+     * call.
+     *
+     * @return new <code>ConcurrentSoftAssertion</code> instance.
+     */
+    public static ConcurrentSoftAssertion newConcurrentSoftAssertion() {
+        return new ConcurrentSoftAssertion(new AssertJSoftAssertionAdapter(new SoftAssertions()));
+    }
+
     /**
      * Sets SoftAssertions to use for verifications. If set then no exception will be thrown at verification end and
      * additional <code>SoftAssertions.assertAll()</code> call is required.
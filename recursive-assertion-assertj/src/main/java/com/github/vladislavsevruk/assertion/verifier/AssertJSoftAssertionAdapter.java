@@ -30,7 +30,7 @@ import java.util.Map;
 /**
  * Adapts AssertJ SoftAssertions functionality to common interface with required soft assertion actions.
  */
-public class AssertJSoftAssertionAdapter implements CommonSoftAssertion {
+public class AssertJSoftAssertionAdapter extends AbstractCommonSoftAssertion {
 
     private SoftAssertions softAssertions;
 
@@ -50,7 +50,7 @@ public class AssertJSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEmpty(Object[] actual, String message) {
+    protected void verifyEmpty(Object[] actual, String message) {
         softAssertions.assertThat(actual).as(message).isEmpty();
     }
 
@@ -58,7 +58,7 @@ public class AssertJSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEmpty(Iterable<?> actual, String message) {
+    protected void verifyEmpty(Iterable<?> actual, String message) {
         softAssertions.assertThat(actual).as(message).isEmpty();
     }
 
@@ -66,7 +66,7 @@ public class AssertJSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEmpty(Map<?, ?> actual, String message) {
+    protected void verifyEmpty(Map<?, ?> actual, String message) {
         softAssertions.assertThat(actual).as(message).isEmpty();
     }
 
@@ -74,7 +74,7 @@ public class AssertJSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEqualSize(Object[] actual, Object[] expected, String message) {
+    protected void verifyEqualSize(Object[] actual, Object[] expected, String message) {
         softAssertions.assertThat(actual).as(message).hasSameSizeAs(expected);
     }
 
@@ -82,7 +82,7 @@ public class AssertJSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+    protected void verifyEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
         softAssertions.assertThat(actual).as(message).hasSameSizeAs(expected);
     }
 
@@ -90,7 +90,7 @@ public class AssertJSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public <T> void assertEquals(T actual, T expected, String message) {
+    protected <T> void verifyEquals(T actual, T expected, String message) {
         softAssertions.assertThat(actual).as(message).isEqualTo(expected);
     }
 
@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.assertion.assertj;
 import com.github.vladislavsevruk.assertion.assertj.data.ComplexObjectWithoutComparator;
 import com.github.vladislavsevruk.assertion.assertj.data.NestedComplexObject;
 import com.github.vladislavsevruk.assertion.assertj.extension.ComparatorExtension;
+import com.github.vladislavsevruk.assertion.configuration.DepthLimitFallback;
 import org.assertj.core.error.AssertJMultipleFailuresError;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -394,6 +395,26 @@ class ComplexModelAssertionTest {
         RecursiveAssertion.assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void complexObjectFailFastTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 2, 2 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .failFast();
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertJMultipleFailuresError amfEr) {
+            Assertions.assertEquals(2, amfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(amfEr.getFailures().get(0).getMessage().startsWith(
+                    "[[ComplexObjectWithoutComparator.nestedSimpleTypeArray] Length of actual and expected arrays differs]"));
+            Assertions.assertTrue(amfEr.getFailures().get(1).getMessage()
+                    .startsWith("Verification was stopped after 1 failure(s), remaining values weren't verified."));
+        }
+    }
+
     @Test
     void complexObjectIgnoreFieldByNameTest() {
         ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
@@ -470,6 +491,113 @@ class ComplexModelAssertionTest {
         Assertions.assertThrows(AssertJMultipleFailuresError.class, () -> recursiveAssertion.isEqualTo(expected));
     }
 
+    @Test
+    void complexObjectMaxDepthComparatorEqualArraysTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        RecursiveAssertion.assertThat(actual).maxDepth(0, DepthLimitFallback.COMPARATOR).isEqualTo(expected);
+    }
+
+    @Test
+    void complexObjectMaxDepthEqualArraysTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        RecursiveAssertion.assertThat(actual).maxDepth(0).isEqualTo(expected);
+    }
+
+    @Test
+    void complexObjectMaxDepthEqualsTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        NestedComplexObject actualNestedObject = new NestedComplexObject();
+        actualNestedObject.setId(1L);
+        actual.setNestedComplexObject(actualNestedObject);
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        NestedComplexObject expectedNestedObject = new NestedComplexObject();
+        expectedNestedObject.setId(2L);
+        expected.setNestedComplexObject(expectedNestedObject);
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .maxDepth(0);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertJMultipleFailuresError amfEr) {
+            Assertions.assertEquals(1, amfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(amfEr.getFailures().get(0).getMessage()
+                    .startsWith("[ComplexObjectWithoutComparator.nestedComplexObject] "));
+        }
+    }
+
+    @Test
+    void complexObjectMaxDepthNotEqualArraysTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 4 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .maxDepth(0);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertJMultipleFailuresError amfEr) {
+            Assertions.assertEquals(1, amfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(amfEr.getFailures().get(0).getMessage()
+                    .startsWith("[ComplexObjectWithoutComparator.nestedSimpleTypeArray] "));
+        }
+    }
+
+    @Test
+    void complexObjectMaxDepthSkipTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        NestedComplexObject actualNestedObject = new NestedComplexObject();
+        actualNestedObject.setId(1L);
+        actual.setNestedComplexObject(actualNestedObject);
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        NestedComplexObject expectedNestedObject = new NestedComplexObject();
+        expectedNestedObject.setId(2L);
+        expected.setNestedComplexObject(expectedNestedObject);
+        RecursiveAssertion.assertThat(actual).maxDepth(0, DepthLimitFallback.SKIP).isEqualTo(expected);
+    }
+
+    @Test
+    void complexObjectMaxFailuresNotReachedTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 2, 2 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .breakOnSizeInequality(false).maxFailures(4);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertJMultipleFailuresError amfEr) {
+            Assertions.assertEquals(3, amfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(amfEr.getFailures().get(2).getMessage()
+                    .startsWith("Unexpected element at 'ComplexObjectWithoutComparator.nestedSimpleTypeArray': "));
+        }
+    }
+
+    @Test
+    void complexObjectMaxFailuresTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 2, 2 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .breakOnSizeInequality(false).maxFailures(2);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertJMultipleFailuresError amfEr) {
+            Assertions.assertEquals(3, amfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(amfEr.getFailures().get(2).getMessage()
+                    .startsWith("Verification was stopped after 2 failure(s), remaining values weren't verified."));
+        }
+    }
+
     @Test
     void complexObjectNotBreakOnIdInequalityArrayTest() {
         ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
@@ -602,6 +730,37 @@ class ComplexModelAssertionTest {
         }
     }
 
+    @Test
+    void complexObjectOnlyFieldsByPathTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setId(1L);
+        actual.setSimpleTypeField("simpleTestValue1");
+        NestedComplexObject actualNestedObject = new NestedComplexObject();
+        actualNestedObject.setId(1L);
+        actualNestedObject.setSimpleTypeField("simpleTestValue1");
+        actual.setNestedComplexObject(actualNestedObject);
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setId(2L);
+        expected.setSimpleTypeField("simpleTestValue2");
+        NestedComplexObject expectedNestedObject = new NestedComplexObject();
+        expectedNestedObject.setId(1L);
+        expectedNestedObject.setSimpleTypeField("simpleTestValue2");
+        expected.setNestedComplexObject(expectedNestedObject);
+        RecursiveAssertion.assertThat(actual).onlyFieldsByPath("ComplexObjectWithoutComparator.nestedComplexObject.id")
+                .isEqualTo(expected);
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .onlyFieldsByPath("ComplexObjectWithoutComparator.id", "ComplexObjectWithoutComparator.nestedComplexObject");
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertJMultipleFailuresError amfEr) {
+            Assertions.assertEquals(2, amfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(amfEr.getFailures().get(0).getMessage().startsWith("[ComplexObjectWithoutComparator.id] "));
+            Assertions.assertTrue(amfEr.getFailures().get(1).getMessage()
+                    .startsWith("[ComplexObjectWithoutComparator.nestedComplexObject.simpleTypeField] "));
+        }
+    }
+
     @Test
     void complexObjectSortInnerSimpleTypeArrayTest() {
         ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
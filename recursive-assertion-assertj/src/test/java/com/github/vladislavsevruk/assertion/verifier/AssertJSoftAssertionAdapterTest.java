@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+class AssertJSoftAssertionAdapterTest {
+
+    @Test
+    void failedAssertionsKeepFrameworkMessagesTest() {
+        Object[] array = new Object[1];
+        Object[] longerArray = new Object[2];
+        List<String> list = Collections.singletonList("a");
+        List<String> longerList = Arrays.asList("a", "b");
+        Map<String, String> map = Collections.singletonMap("k", "v");
+        assertSameMessage(adapter -> adapter.assertEquals(1, 2, "field"),
+                softAssertions -> softAssertions.assertThat(1).as("field").isEqualTo(2));
+        assertSameMessage(adapter -> adapter.assertEmpty(array, "array"),
+                softAssertions -> softAssertions.assertThat(array).as("array").isEmpty());
+        assertSameMessage(adapter -> adapter.assertEmpty(list, "iterable"),
+                softAssertions -> softAssertions.assertThat(list).as("iterable").isEmpty());
+        assertSameMessage(adapter -> adapter.assertEmpty(map, "map"),
+                softAssertions -> softAssertions.assertThat(map).as("map").isEmpty());
+        assertSameMessage(adapter -> adapter.assertEqualSize(array, longerArray, "array"),
+                softAssertions -> softAssertions.assertThat(array).as("array").hasSameSizeAs(longerArray));
+        assertSameMessage(adapter -> adapter.assertEqualSize(list, longerList, "iterable"),
+                softAssertions -> softAssertions.assertThat(list).as("iterable").hasSameSizeAs(longerList));
+        assertSameMessage(adapter -> adapter.fail("message"), softAssertions -> softAssertions.fail("message"));
+    }
+
+    @Test
+    void passedAssertionsAreNotPassedToSoftAssertionsTest() {
+        SoftAssertions softAssertions = Mockito.mock(SoftAssertions.class);
+        AssertJSoftAssertionAdapter adapter = new AssertJSoftAssertionAdapter(softAssertions);
+        adapter.assertEquals("a", "a", "message");
+        adapter.assertEquals(null, null, () -> "message");
+        adapter.assertEmpty(new Object[0], "message");
+        adapter.assertEmpty(Collections.emptyList(), () -> "message");
+        adapter.assertEmpty(Collections.emptyMap(), "message");
+        adapter.assertEqualSize(new Object[1], new Object[1], "message");
+        adapter.assertEqualSize(Collections.singletonList(1), Collections.singletonList(2), () -> "message");
+        Mockito.verifyNoInteractions(softAssertions);
+    }
+
+    private void assertSameMessage(Consumer<AssertJSoftAssertionAdapter> adapterAssertion,
+            Consumer<SoftAssertions> softAssertionsAssertion) {
+        SoftAssertions adaptedSoftAssertions = new SoftAssertions();
+        adapterAssertion.accept(new AssertJSoftAssertionAdapter(adaptedSoftAssertions));
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertionsAssertion.accept(softAssertions);
+        Assertions.assertEquals(1, softAssertions.errorsCollected().size());
+        Assertions.assertEquals(getMessages(softAssertions), getMessages(adaptedSoftAssertions));
+    }
+
+    private List<String> getMessages(SoftAssertions softAssertions) {
+        // AssertJ appends location of assertion call that is different for adapter
+        return softAssertions.errorsCollected().stream()
+                .map(error -> error.getMessage().replaceFirst("\\nat [^\\n]*$", "")).collect(Collectors.toList());
+    }
+}
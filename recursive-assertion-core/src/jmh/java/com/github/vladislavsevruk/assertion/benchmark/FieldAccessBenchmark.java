@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.benchmark;
+
+import com.github.vladislavsevruk.assertion.field.ClassFieldsPlan;
+import com.github.vladislavsevruk.assertion.field.FieldAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of reading all fields of wide model using reflective <code>Field.get</code> and
+ * <code>MethodHandle</code> based field accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FieldAccessBenchmark {
+
+    private List<FieldAccessor> fieldAccessors;
+    private Field[] fields;
+    private WideModel model;
+
+    @Benchmark
+    public void methodHandleAccess(Blackhole blackhole) {
+        for (FieldAccessor fieldAccessor : fieldAccessors) {
+            blackhole.consume(fieldAccessor.get(model));
+        }
+    }
+
+    @Benchmark
+    public void reflectiveAccess(Blackhole blackhole) throws IllegalAccessException {
+        for (Field field : fields) {
+            blackhole.consume(field.get(model));
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        model = new WideModel();
+        fieldAccessors = ClassFieldsPlan.of(WideModel.class).getFields();
+        fields = WideModel.class.getDeclaredFields();
+        for (Field field : fields) {
+            field.setAccessible(true);
+        }
+    }
+
+    private static class WideModel {
+
+        private int field01;
+        private long field02;
+        private double field03;
+        private boolean field04;
+        private String field05;
+        private Integer field06;
+        private Long field07;
+        private Double field08;
+        private int field09;
+        private long field10;
+        private double field11;
+        private boolean field12;
+        private String field13;
+        private Integer field14;
+        private Long field15;
+        private Double field16;
+        private int field17;
+        private long field18;
+        private double field19;
+        private boolean field20;
+        private String field21;
+        private Integer field22;
+        private Long field23;
+        private Double field24;
+        private int field25;
+        private long field26;
+        private double field27;
+        private boolean field28;
+        private String field29;
+        private Integer field30;
+        private Long field31;
+        private Double field32;
+
+        private WideModel() {
+            field01 = 1;
+            field02 = 2L;
+            field03 = 3.5;
+            field04 = true;
+            field05 = "value5";
+            field06 = 6;
+            field07 = 7L;
+            field08 = 8.25;
+            field09 = 9;
+            field10 = 10L;
+            field11 = 11.5;
+            field12 = true;
+            field13 = "value13";
+            field14 = 14;
+            field15 = 15L;
+            field16 = 16.25;
+            field17 = 17;
+            field18 = 18L;
+            field19 = 19.5;
+            field20 = true;
+            field21 = "value21";
+            field22 = 22;
+            field23 = 23L;
+            field24 = 24.25;
+            field25 = 25;
+            field26 = 26L;
+            field27 = 27.5;
+            field28 = true;
+            field29 = "value29";
+            field30 = 30;
+            field31 = 31L;
+            field32 = 32.25;
+        }
+    }
+}
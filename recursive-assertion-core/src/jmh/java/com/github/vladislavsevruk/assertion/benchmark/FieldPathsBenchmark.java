@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.benchmark;
+
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares cost of checking fields of list elements against field paths to ignore when every pattern and trace are
+ * split to parts on each check as it was done before and when patterns are compiled once and match state is
+ * advanced along with trace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FieldPathsBenchmark {
+
+    private static final int FIELDS_COUNT = 20;
+    private CompiledFieldPaths compiledPatterns;
+    @Param({ "1000" })
+    private int elementsCount;
+    private String[] fieldNames;
+    @Param({ "40" })
+    private int patternsCount;
+    private List<String> patterns;
+
+    @Benchmark
+    public void compiledPatterns(Blackhole blackhole) {
+        FieldTrace listTrace = new FieldTrace("Model").field("items");
+        for (int i = 0; i < elementsCount; ++i) {
+            FieldTrace elementTrace = listTrace.index(i);
+            if (compiledPatterns.isMatch(elementTrace)) {
+                continue;
+            }
+            boolean checkFieldPaths = compiledPatterns.mayMatchBelow(elementTrace);
+            for (String fieldName : fieldNames) {
+                blackhole.consume(checkFieldPaths && compiledPatterns.isMatch(elementTrace.field(fieldName)));
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        fieldNames = new String[FIELDS_COUNT];
+        for (int i = 0; i < FIELDS_COUNT; ++i) {
+            fieldNames[i] = "field" + i;
+        }
+        patterns = new ArrayList<>();
+        for (int i = 0; i < patternsCount; ++i) {
+            patterns.add(String.format("Model.%s.field%d", i % 2 == 0 ? "items" : "other", i));
+        }
+        compiledPatterns = CompiledFieldPaths.compile(patterns);
+    }
+
+    @Benchmark
+    public void splitPatterns(Blackhole blackhole) {
+        FieldTrace listTrace = new FieldTrace("Model").field("items");
+        for (int i = 0; i < elementsCount; ++i) {
+            FieldTrace elementTrace = listTrace.index(i);
+            if (isMatchAny(elementTrace)) {
+                continue;
+            }
+            for (String fieldName : fieldNames) {
+                blackhole.consume(isMatchAny(elementTrace.field(fieldName)));
+            }
+        }
+    }
+
+    private boolean isMatch(String pattern, FieldTrace fieldTrace) {
+        String[] patternParts = pattern.split("\\.");
+        String[] traceParts = fieldTrace.getTrace().split("\\.");
+        if (patternParts.length != traceParts.length) {
+            return false;
+        }
+        for (int i = 0; i < patternParts.length; ++i) {
+            if (!isPartMatch(patternParts[i], traceParts[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isMatchAny(FieldTrace fieldTrace) {
+        return patterns.stream().anyMatch(pattern -> isMatch(pattern, fieldTrace));
+    }
+
+    private boolean isPartMatch(String patternPart, String tracePart) {
+        if (patternPart.equals(tracePart)) {
+            return true;
+        }
+        if (patternPart.contains("[")) {
+            return false;
+        }
+        return tracePart.startsWith(patternPart) && (tracePart.charAt(patternPart.length()) == '[' && tracePart
+                .endsWith("]"));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.benchmark;
+
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares cost of building field traces for elements of list of wide models when every trace formats full path
+ * string as it was done before and when traces are linked nodes that don't build path strings. Should be run with
+ * <code>-prof gc</code> to see allocation per verified node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FieldTraceBenchmark {
+
+    private static final int FIELDS_COUNT = 20;
+    @Param({ "1000" })
+    private int elementsCount;
+    private String[] fieldNames;
+
+    @Benchmark
+    public void formattedTraces(Blackhole blackhole) {
+        String listTrace = String.format("%s.%s", "Model", "items");
+        for (int i = 0; i < elementsCount; ++i) {
+            String elementTrace = String.format("%s[%d]", removeArrayBrackets(listTrace), i);
+            for (String fieldName : fieldNames) {
+                blackhole.consume(String.format("%s.%s", elementTrace, fieldName));
+            }
+        }
+    }
+
+    @Benchmark
+    public void linkedTraces(Blackhole blackhole) {
+        FieldTrace listTrace = new FieldTrace("Model").field("items");
+        for (int i = 0; i < elementsCount; ++i) {
+            FieldTrace elementTrace = listTrace.index(i);
+            for (String fieldName : fieldNames) {
+                blackhole.consume(elementTrace.field(fieldName));
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        fieldNames = new String[FIELDS_COUNT];
+        for (int i = 0; i < FIELDS_COUNT; ++i) {
+            fieldNames[i] = "field" + i;
+        }
+    }
+
+    private String removeArrayBrackets(String trace) {
+        if (trace.endsWith("[]")) {
+            return trace.substring(0, trace.length() - 2);
+        }
+        return trace;
+    }
+}
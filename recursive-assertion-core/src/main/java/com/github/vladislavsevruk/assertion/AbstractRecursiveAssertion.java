@@ -25,11 +25,13 @@ package com.github.vladislavsevruk.assertion;
 
 import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
 import com.github.vladislavsevruk.assertion.configuration.AssertionConfigurationBuilder;
+import com.github.vladislavsevruk.assertion.configuration.DepthLimitFallback;
 import com.github.vladislavsevruk.assertion.context.AssertionContextManager;
 import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
 import com.github.vladislavsevruk.assertion.field.VerificationField;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.ConcurrentSoftAssertion;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.Optional;
@@ -99,6 +101,17 @@ public abstract class AbstractRecursiveAssertion<T, U extends AbstractRecursiveA
         return thisInstance();
     }
 
+    /**
+     * Stops verification after first failure. Report contains note that verification was stopped if any values
+     * remained unverified.
+     *
+     * @return this.
+     */
+    public U failFast() {
+        configurationBuilder.failFast();
+        return thisInstance();
+    }
+
     /**
      * Adds names of fields that shouldn't be verified.
      *
@@ -148,10 +161,11 @@ public abstract class AbstractRecursiveAssertion<T, U extends AbstractRecursiveA
             log.debug("Using soft assertions received from user.");
         }
         if (expected != null || !configuration.ignoreNullFields()) {
+            String modelName = getModelName(expected);
             VerificationField<T> verificationField = new VerificationField<>(actual, expected,
-                    new FieldTrace(getModelName(expected)));
-            FieldVerificationConfiguration<T> fieldVerificationConfiguration = new FieldVerificationConfiguration<>(
-                    commonSoftAssertion, verificationField, configuration);
+                    new FieldTrace(modelName));
+            FieldVerificationConfiguration<T> fieldVerificationConfiguration = FieldVerificationConfiguration
+                    .forRootField(getVerificationSoftAssertion(modelName), verificationField, configuration);
             AssertionContextManager.getContext().getAssertionEngine().compareObjects(fieldVerificationConfiguration);
             if (useHardAssertion) {
                 log.debug("There is no soft assertions received from user. Asserting all verifications.");
@@ -162,6 +176,103 @@ public abstract class AbstractRecursiveAssertion<T, U extends AbstractRecursiveA
         }
     }
 
+    /**
+     * Sets flag that indicates if elements of iterables and arrays should be paired regardless of their order. Elements
+     * are bucketed by structural hash that is computed according to verification rules, equal elements of same bucket
+     * are paired first and remaining elements are paired with limited number of candidates by minimal number of
+     * differences that doesn't exceed maximum pairing cost. Elements without pair are reported as missed or
+     * unexpected. Identifier fields take precedence over this mode. Default value is <code>false</code>.
+     *
+     * @param isTrue <code>boolean</code> flag.
+     * @return this.
+     * @see #maxPairingCandidates(int)
+     * @see #maxPairingCost(int)
+     */
+    public U matchUnorderedElements(boolean isTrue) {
+        configurationBuilder.matchUnorderedElements(isTrue);
+        return thisInstance();
+    }
+
+    /**
+     * Sets maximum depth of verification. Non-null values of fields that are placed deeper than received number of
+     * path segments after root model aren't verified recursively but are compared using <code>equals</code> method.
+     * By default depth of verification isn't limited.
+     *
+     * @param maxDepth <code>int</code> with maximum depth of verification.
+     * @return this.
+     */
+    public U maxDepth(int maxDepth) {
+        configurationBuilder.maxDepth(maxDepth);
+        return thisInstance();
+    }
+
+    /**
+     * Sets maximum depth of verification and way to verify non-null values of fields that are placed deeper than
+     * received number of path segments after root model.
+     *
+     * @param maxDepth         <code>int</code> with maximum depth of verification.
+     * @param maxDepthFallback <code>DepthLimitFallback</code> to verify values that are placed deeper.
+     * @return this.
+     */
+    public U maxDepth(int maxDepth, DepthLimitFallback maxDepthFallback) {
+        configurationBuilder.maxDepth(maxDepth, maxDepthFallback);
+        return thisInstance();
+    }
+
+    /**
+     * Sets maximum number of failures after which verification is stopped. Report contains note that verification was
+     * stopped if any values remained unverified. By default number of failures isn't limited.
+     *
+     * @param maxFailures <code>int</code> with maximum number of failures.
+     * @return this.
+     */
+    public U maxFailures(int maxFailures) {
+        configurationBuilder.maxFailures(maxFailures);
+        return thisInstance();
+    }
+
+    /**
+     * Sets maximum number of remaining actual elements each expected element without equal pair is compared with when
+     * elements are matched regardless of their order. Candidates are taken from positions that are closest to position
+     * of expected element so number of comparisons grows linearly with number of elements. Default value is
+     * <code>16</code>.
+     *
+     * @param maxPairingCandidates <code>int</code> with maximum number of elements to compare with.
+     * @return this.
+     * @see #matchUnorderedElements(boolean)
+     */
+    public U maxPairingCandidates(int maxPairingCandidates) {
+        configurationBuilder.maxPairingCandidates(maxPairingCandidates);
+        return thisInstance();
+    }
+
+    /**
+     * Sets maximum number of differences between elements that still may be paired when elements are matched
+     * regardless of their order. Elements that differ more are reported as missed or unexpected. Number of differences
+     * is counted only until this limit is exceeded so it also limits cost of pairing. Default value is <code>10</code>.
+     *
+     * @param maxPairingCost <code>int</code> with maximum number of differences between paired elements.
+     * @return this.
+     * @see #matchUnorderedElements(boolean)
+     */
+    public U maxPairingCost(int maxPairingCost) {
+        configurationBuilder.maxPairingCost(maxPairingCost);
+        return thisInstance();
+    }
+
+    /**
+     * Adds path patterns for fields that should be verified. If any patterns are added then only fields that match
+     * them, their inner fields and fields that lead to them are verified while other fields aren't traversed at all.
+     *
+     * @param fieldPathsToVerify <code>String</code> vararg with paths of fields to verify.
+     * @return this.
+     * @see com.github.vladislavsevruk.assertion.util.FieldPathMatcher
+     */
+    public U onlyFieldsByPath(String... fieldPathsToVerify) {
+        configurationBuilder.onlyFieldsByPath(fieldPathsToVerify);
+        return thisInstance();
+    }
+
     /**
      * Sets flag that indicates if iterables and arrays should be sorted before validation. Default value is
      * <code>false</code>.
@@ -174,6 +285,32 @@ public abstract class AbstractRecursiveAssertion<T, U extends AbstractRecursiveA
         return thisInstance();
     }
 
+    /**
+     * Sets concurrent soft assertion to collect verifications together with verifications of other assertions that may
+     * be performed at other threads. If set then no exception will be thrown at verification end and additional
+     * <code>ConcurrentSoftAssertion.assertAll()</code> call is required after all verifications are finished. Failures
+     * are reported grouped by names of verified objects in order they were found by each verification.
+     *
+     * @param concurrentSoftAssertion <code>ConcurrentSoftAssertion</code> to collect verifications to.
+     * @return this.
+     */
+    public U useConcurrentSoftAssertion(ConcurrentSoftAssertion concurrentSoftAssertion) {
+        return useCommonSoftAssertion(concurrentSoftAssertion);
+    }
+
+    /**
+     * Sets time in milliseconds after which verification is stopped. Time limit and thread interruption are checked
+     * periodically while verifying values and report contains note with number of verified values if verification was
+     * stopped. By default verification time isn't limited.
+     *
+     * @param timeoutMillis <code>long</code> with time limit in milliseconds.
+     * @return this.
+     */
+    public U withinMillis(long timeoutMillis) {
+        configurationBuilder.withinMillis(timeoutMillis);
+        return thisInstance();
+    }
+
     protected abstract CommonSoftAssertion newCommonAssertion();
 
     protected U useCommonSoftAssertion(CommonSoftAssertion commonSoftAssertion) {
@@ -189,6 +326,12 @@ public abstract class AbstractRecursiveAssertion<T, U extends AbstractRecursiveA
                 .orElseGet(() -> actual == null ? "null" : actual.getClass().getSimpleName());
     }
 
+    private CommonSoftAssertion getVerificationSoftAssertion(String modelName) {
+        // assertions collected from several threads are grouped by verified model in order of verification
+        return commonSoftAssertion instanceof ConcurrentSoftAssertion ? ((ConcurrentSoftAssertion) commonSoftAssertion)
+                .forVerification(modelName) : commonSoftAssertion;
+    }
+
     @SuppressWarnings("unchecked")
     private U thisInstance() {
         return (U) this;
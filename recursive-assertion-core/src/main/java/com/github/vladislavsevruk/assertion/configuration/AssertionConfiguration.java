@@ -23,6 +23,7 @@
  */
 package com.github.vladislavsevruk.assertion.configuration;
 
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 
@@ -38,21 +39,43 @@ public final class AssertionConfiguration {
 
     private final boolean breakOnIdInequality;
     private final boolean breakOnSizeInequality;
+    private final CompiledFieldPaths compiledFieldPathsToIgnore;
+    private final CompiledFieldPaths compiledFieldPathsToVerify;
     private final boolean emptyCollectionEqualNull;
     private final Set<String> fieldPathsToIgnore;
+    private final Set<String> fieldPathsToVerify;
     private final Set<String> fieldsToIgnore;
     private final boolean ignoreNullFields;
+    private final boolean matchUnorderedElements;
+    private final int maxDepth;
+    private final DepthLimitFallback maxDepthFallback;
+    private final int maxFailures;
+    private final int maxPairingCandidates;
+    private final int maxPairingCost;
     private final boolean sortCollections;
+    private final long timeoutMillis;
 
     AssertionConfiguration(boolean breakOnIdInequality, boolean breakOnSizeInequality, boolean ignoreNullFields,
             boolean emptyCollectionEqualNull, boolean sortCollections, Set<String> fieldPathsToIgnore,
-            Set<String> fieldsToIgnore) {
+            Set<String> fieldsToIgnore, int maxFailures, long timeoutMillis, int maxDepth,
+            DepthLimitFallback maxDepthFallback, Set<String> fieldPathsToVerify, boolean matchUnorderedElements,
+            int maxPairingCost, int maxPairingCandidates) {
         this.breakOnIdInequality = breakOnIdInequality;
         this.breakOnSizeInequality = breakOnSizeInequality;
         this.ignoreNullFields = ignoreNullFields;
         this.emptyCollectionEqualNull = emptyCollectionEqualNull;
         this.sortCollections = sortCollections;
         this.fieldPathsToIgnore = Collections.unmodifiableSet(fieldPathsToIgnore);
+        this.compiledFieldPathsToIgnore = CompiledFieldPaths.compile(fieldPathsToIgnore);
         this.fieldsToIgnore = Collections.unmodifiableSet(fieldsToIgnore);
+        this.maxFailures = maxFailures;
+        this.timeoutMillis = timeoutMillis;
+        this.maxDepth = maxDepth;
+        this.maxDepthFallback = maxDepthFallback;
+        this.fieldPathsToVerify = Collections.unmodifiableSet(fieldPathsToVerify);
+        this.compiledFieldPathsToVerify = CompiledFieldPaths.compile(fieldPathsToVerify);
+        this.matchUnorderedElements = matchUnorderedElements;
+        this.maxPairingCost = maxPairingCost;
+        this.maxPairingCandidates = maxPairingCandidates;
     }
 }
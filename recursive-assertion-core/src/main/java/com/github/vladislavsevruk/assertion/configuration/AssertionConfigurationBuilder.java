@@ -45,18 +45,38 @@ public final class AssertionConfigurationBuilder {
     @Setter
     private boolean emptyCollectionEqualNull = false;
     private Set<String> fieldPathsToIgnore = new HashSet<>();
+    private Set<String> fieldPathsToVerify = new HashSet<>();
     private Set<String> fieldsToIgnore = new HashSet<>();
     @Setter
     private boolean ignoreNullFields = false;
     @Setter
+    private boolean matchUnorderedElements = false;
+    private int maxDepth = Integer.MAX_VALUE;
+    private DepthLimitFallback maxDepthFallback = DepthLimitFallback.EQUALS;
+    private int maxFailures = Integer.MAX_VALUE;
+    private int maxPairingCandidates = 16;
+    private int maxPairingCost = 10;
+    @Setter
     private boolean sortCollections = false;
+    private long timeoutMillis = 0L;
 
     /**
      * Returns new <code>AssertionConfiguration</code> with parameters set by this builder.
      */
     public AssertionConfiguration build() {
         return new AssertionConfiguration(breakOnIdInequality, breakOnSizeInequality, ignoreNullFields,
-                emptyCollectionEqualNull, sortCollections, fieldPathsToIgnore, fieldsToIgnore);
+                emptyCollectionEqualNull, sortCollections, fieldPathsToIgnore, fieldsToIgnore, maxFailures,
+                timeoutMillis, maxDepth, maxDepthFallback, fieldPathsToVerify, matchUnorderedElements, maxPairingCost,
+                maxPairingCandidates);
+    }
+
+    /**
+     * Sets verification to stop after first failure.
+     *
+     * @return this.
+     */
+    public AssertionConfigurationBuilder failFast() {
+        return maxFailures(1);
     }
 
     /**
@@ -80,4 +100,103 @@ public final class AssertionConfigurationBuilder {
         this.fieldPathsToIgnore.addAll(Arrays.asList(fieldPathsToIgnore));
         return this;
     }
+
+    /**
+     * Sets maximum depth of verification. Values that are placed deeper are compared using <code>equals</code> method.
+     *
+     * @param maxDepth <code>int</code> with maximum depth of verification.
+     * @return this.
+     */
+    public AssertionConfigurationBuilder maxDepth(int maxDepth) {
+        return maxDepth(maxDepth, DepthLimitFallback.EQUALS);
+    }
+
+    /**
+     * Sets maximum depth of verification and way to verify values that are placed deeper.
+     *
+     * @param maxDepth         <code>int</code> with maximum depth of verification.
+     * @param maxDepthFallback <code>DepthLimitFallback</code> to verify values that are placed deeper.
+     * @return this.
+     */
+    public AssertionConfigurationBuilder maxDepth(int maxDepth, DepthLimitFallback maxDepthFallback) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Maximum depth shouldn't be negative.");
+        }
+        if (maxDepthFallback == null) {
+            throw new IllegalArgumentException("Fallback for maximum depth shouldn't be null.");
+        }
+        this.maxDepth = maxDepth;
+        this.maxDepthFallback = maxDepthFallback;
+        return this;
+    }
+
+    /**
+     * Sets maximum number of failures after which verification is stopped.
+     *
+     * @param maxFailures <code>int</code> with maximum number of failures.
+     * @return this.
+     */
+    public AssertionConfigurationBuilder maxFailures(int maxFailures) {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("Maximum number of failures should be positive.");
+        }
+        this.maxFailures = maxFailures;
+        return this;
+    }
+
+    /**
+     * Sets maximum number of remaining actual elements each remaining expected element is compared with when elements
+     * are matched regardless of their order.
+     *
+     * @param maxPairingCandidates <code>int</code> with maximum number of elements to compare with.
+     * @return this.
+     */
+    public AssertionConfigurationBuilder maxPairingCandidates(int maxPairingCandidates) {
+        if (maxPairingCandidates < 1) {
+            throw new IllegalArgumentException("Maximum number of pairing candidates should be positive.");
+        }
+        this.maxPairingCandidates = maxPairingCandidates;
+        return this;
+    }
+
+    /**
+     * Sets maximum number of differences between elements that still may be paired when elements are matched
+     * regardless of their order.
+     *
+     * @param maxPairingCost <code>int</code> with maximum number of differences between paired elements.
+     * @return this.
+     */
+    public AssertionConfigurationBuilder maxPairingCost(int maxPairingCost) {
+        if (maxPairingCost < 0) {
+            throw new IllegalArgumentException("Maximum pairing cost shouldn't be negative.");
+        }
+        this.maxPairingCost = maxPairingCost;
+        return this;
+    }
+
+    /**
+     * Adds paths of fields that should be verified. If any paths are added then only fields that are placed on these
+     * paths are verified.
+     *
+     * @param fieldPathsToVerify <code>String</code> vararg with paths of fields to verify.
+     * @return this.
+     */
+    public AssertionConfigurationBuilder onlyFieldsByPath(String... fieldPathsToVerify) {
+        this.fieldPathsToVerify.addAll(Arrays.asList(fieldPathsToVerify));
+        return this;
+    }
+
+    /**
+     * Sets time in milliseconds after which verification is stopped.
+     *
+     * @param timeoutMillis <code>long</code> with time limit in milliseconds.
+     * @return this.
+     */
+    public AssertionConfigurationBuilder withinMillis(long timeoutMillis) {
+        if (timeoutMillis < 1L) {
+            throw new IllegalArgumentException("Time limit should be positive.");
+        }
+        this.timeoutMillis = timeoutMillis;
+        return this;
+    }
 }
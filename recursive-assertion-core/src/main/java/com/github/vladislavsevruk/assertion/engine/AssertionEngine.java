@@ -24,6 +24,9 @@
 package com.github.vladislavsevruk.assertion.engine;
 
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+
+import java.util.Iterator;
 
 /**
  * Verifies objects values using recursion and flexible verification configuration.
@@ -37,4 +40,21 @@ public interface AssertionEngine {
      * @param <T>                            type of verification field value.
      */
     <T> void compareObjects(final FieldVerificationConfiguration<T> fieldVerificationConfiguration);
+
+    /**
+     * Verifies nested values of field one by one as they are provided by iterator. Iterator may register assertions
+     * on advance and return <code>null</code> when there is no nested value to verify at current step.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> of field with nested values.
+     * @param nestedFields                   <code>Iterator</code> over fields with nested values.
+     */
+    default void compareNestedObjects(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Iterator<? extends VerificationField<?>> nestedFields) {
+        while (nestedFields.hasNext()) {
+            VerificationField<?> nestedField = nestedFields.next();
+            if (nestedField != null) {
+                compareObjects(fieldVerificationConfiguration.forInnerField(nestedField));
+            }
+        }
+    }
 }
@@ -25,6 +25,8 @@ package com.github.vladislavsevruk.assertion.engine;
 
 import com.github.vladislavsevruk.assertion.context.AssertionContext;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.field.VerificationState;
 import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
 import lombok.extern.log4j.Log4j2;
 
@@ -47,15 +49,21 @@ public final class AssertionEngineImpl implements AssertionEngine {
      */
     @Override
     public <T> void compareObjects(final FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
-        for (FieldVerifier verifier : assertionContext.getFieldVerifierStorage().getAll()) {
-            if (verifier.canVerify(fieldVerificationConfiguration.getVerificationField())) {
-                verifier.verify(fieldVerificationConfiguration);
-                log.debug(() -> String.format("Using '%s' verifier for '%s' field.", verifier.getClass().getName(),
-                        fieldVerificationConfiguration.getVerificationField().trace()));
-                return;
-            }
+        VerificationState verificationState = fieldVerificationConfiguration.getVerificationState();
+        if (!verificationState.enter(fieldVerificationConfiguration)) {
+            return;
         }
-        log.warn(() -> String.format("Failed to find verifier for '%s', field will not be verified.",
-                fieldVerificationConfiguration.getVerificationField().trace()));
+        VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+        FieldVerifier verifier = assertionContext.getFieldVerifierStorage().get(fieldVerificationConfiguration);
+        if (verifier == null) {
+            log.warn(() -> String.format("Failed to find verifier for '%s', field will not be verified.",
+                    verificationField.trace()));
+            verificationState.exit(fieldVerificationConfiguration);
+            return;
+        }
+        verifier.verify(fieldVerificationConfiguration);
+        verificationState.exit(fieldVerificationConfiguration);
+        log.debug(() -> String.format("Using '%s' verifier for '%s' field.", verifier.getClass().getName(),
+                verificationField.trace()));
     }
 }
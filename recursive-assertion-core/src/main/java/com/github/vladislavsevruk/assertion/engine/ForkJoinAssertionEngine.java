@@ -0,0 +1,328 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.engine;
+
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.field.VerificationState;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of <code>AssertionEngine</code> that verifies nested values of arrays, iterables, maps and objects in
+ * parallel using <code>ForkJoinPool</code>. Every task verifies its values sequentially until number of values it
+ * verified reaches threshold and then splits remaining nested values into halves for other tasks, so both wide and
+ * deep models are split according to accumulated work. Assertions are recorded by worker threads and passed to
+ * original soft assertion at calling thread in the same order as by <code>AssertionEngineImpl</code> so failures order
+ * and messages don't depend on threads scheduling. Subtrees without recorded assertions are released as soon as they
+ * are verified and other subtrees are released as soon as their assertions are passed. Limit of failures is applied
+ * while recorded assertions are passed so reported failures are the same as for <code>AssertionEngineImpl</code> as
+ * well, while time limit and interruption stop verification at all threads. Tasks use forked verification states
+ * that don't memoize failures, so unlike other engines this one verifies same pair of objects met at several paths
+ * again instead of replaying its failures.
+ *
+ * @see AssertionEngine
+ * @see AssertionEngineImpl
+ */
+@Log4j2
+public final class ForkJoinAssertionEngine implements AssertionEngine {
+
+    private static final ThreadLocal<Node> CURRENT_NODE = new ThreadLocal<>();
+    private static final int DEFAULT_THRESHOLD = 256;
+    private AssertionContext assertionContext;
+    private ForkJoinPool forkJoinPool;
+    private int threshold;
+
+    public ForkJoinAssertionEngine(AssertionContext assertionContext) {
+        this(assertionContext, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates engine that uses received pool for parallel verification.
+     *
+     * @param assertionContext <code>AssertionContext</code> to use.
+     * @param forkJoinPool     <code>ForkJoinPool</code> to perform verification at.
+     * @param threshold        number of values verified by task after which its remaining nested values are split
+     *                         to verify them in parallel.
+     */
+    public ForkJoinAssertionEngine(AssertionContext assertionContext, ForkJoinPool forkJoinPool, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold should be greater than 1.");
+        }
+        this.assertionContext = assertionContext;
+        this.forkJoinPool = forkJoinPool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void compareObjects(final FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        Node currentNode = CURRENT_NODE.get();
+        if (currentNode != null && currentNode.commonSoftAssertion == fieldVerificationConfiguration
+                .getCommonSoftAssertion()) {
+            // nested verification requested by verifier is performed after verifier finishes
+            currentNode.addNestedNode(new Node(fieldVerificationConfiguration.getVerificationField(),
+                    fieldVerificationConfiguration.getConfiguration()));
+            return;
+        }
+        Node rootNode = new Node(fieldVerificationConfiguration.getVerificationField(),
+                fieldVerificationConfiguration.getConfiguration());
+        VerificationState verificationState = fieldVerificationConfiguration.getVerificationState();
+        forkJoinPool.invoke(new NodesVerificationTask(this, new Node[]{ rootNode }, 0, 1, verificationState, 0));
+        rootNode.replay(fieldVerificationConfiguration.getCommonSoftAssertion(), verificationState);
+        verificationState.reportStop();
+    }
+
+    private void verify(Node node, VerificationState verificationState, NodesVerificationTask task) {
+        FieldVerificationConfiguration<?> fieldVerificationConfiguration = new FieldVerificationConfiguration<>(
+                verificationState.getCommonSoftAssertion(), node.verificationField, node.configuration,
+                verificationState);
+        ++task.verifiedValues;
+        if (!verificationState.enter(fieldVerificationConfiguration)) {
+            return;
+        }
+        FieldVerifier verifier = assertionContext.getFieldVerifierStorage().get(fieldVerificationConfiguration);
+        if (verifier == null) {
+            log.warn(() -> String.format("Failed to find verifier for '%s', field will not be verified.",
+                    node.verificationField.trace()));
+            verificationState.exit(fieldVerificationConfiguration);
+            return;
+        }
+        Node outerNode = CURRENT_NODE.get();
+        node.commonSoftAssertion = fieldVerificationConfiguration.getCommonSoftAssertion();
+        CURRENT_NODE.set(node);
+        try {
+            verifier.verify(fieldVerificationConfiguration);
+        } finally {
+            CURRENT_NODE.set(outerNode);
+            node.commonSoftAssertion = null;
+        }
+        log.debug(() -> String.format("Using '%s' verifier for '%s' field.", verifier.getClass().getName(),
+                node.verificationField.trace()));
+        verifyNestedNodes(node.getNestedNodes(), verificationState, task);
+        node.releaseVerifiedNestedNodes();
+        verificationState.exit(fieldVerificationConfiguration);
+    }
+
+    private void verifyNestedNodes(Node[] nestedNodes, VerificationState verificationState,
+            NodesVerificationTask task) {
+        if (nestedNodes.length < 2 || task.verifiedValues < threshold) {
+            for (Node nestedNode : nestedNodes) {
+                verify(nestedNode, verificationState, task);
+            }
+        } else {
+            // nested task continues path of current task and takes its work so nested values are split at once
+            NodesVerificationTask nestedTask = new NodesVerificationTask(this, nestedNodes, 0, nestedNodes.length,
+                    verificationState, task.verifiedValues);
+            task.verifiedValues = 0;
+            nestedTask.invoke();
+        }
+    }
+
+    /**
+     * Passes assertions to node which verifier is executed at current thread.
+     */
+    private static final class CurrentNodeSoftAssertion implements CommonSoftAssertion {
+
+        private static final CurrentNodeSoftAssertion INSTANCE = new CurrentNodeSoftAssertion();
+
+        @Override
+        public void assertAll() {
+            CURRENT_NODE.get().record(CommonSoftAssertion::assertAll);
+        }
+
+        @Override
+        public void assertEmpty(Object[] actual, String message) {
+            CURRENT_NODE.get().record(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+        }
+
+        @Override
+        public void assertEmpty(Iterable<?> actual, String message) {
+            CURRENT_NODE.get().record(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+        }
+
+        @Override
+        public void assertEmpty(Map<?, ?> actual, String message) {
+            CURRENT_NODE.get().record(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+        }
+
+        @Override
+        public void assertEqualSize(Object[] actual, Object[] expected, String message) {
+            CURRENT_NODE.get()
+                    .record(commonSoftAssertion -> commonSoftAssertion.assertEqualSize(actual, expected, message));
+        }
+
+        @Override
+        public void assertEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+            CURRENT_NODE.get()
+                    .record(commonSoftAssertion -> commonSoftAssertion.assertEqualSize(actual, expected, message));
+        }
+
+        @Override
+        public <T> void assertEquals(T actual, T expected, String message) {
+            CURRENT_NODE.get()
+                    .record(commonSoftAssertion -> commonSoftAssertion.assertEquals(actual, expected, message));
+        }
+
+        @Override
+        public void fail(String message) {
+            CURRENT_NODE.get().record(commonSoftAssertion -> commonSoftAssertion.fail(message));
+        }
+    }
+
+    /**
+     * Verification of single field values with assertions and nested verifications requested by its verifier in
+     * order of their calls.
+     */
+    private static final class Node {
+
+        private static final Node VERIFIED_NODE = new Node(null, null);
+        private final AssertionConfiguration configuration;
+        private final List<Object> steps = new ArrayList<>();
+        private final VerificationField<?> verificationField;
+        private CommonSoftAssertion commonSoftAssertion;
+        private int nestedNodesCount;
+
+        private Node(VerificationField<?> verificationField, AssertionConfiguration configuration) {
+            this.verificationField = verificationField;
+            this.configuration = configuration;
+        }
+
+        private void addNestedNode(Node nestedNode) {
+            steps.add(nestedNode);
+            ++nestedNodesCount;
+        }
+
+        private Node[] getNestedNodes() {
+            Node[] nestedNodes = new Node[nestedNodesCount];
+            int index = 0;
+            for (Object step : steps) {
+                if (step instanceof Node) {
+                    nestedNodes[index++] = (Node) step;
+                }
+            }
+            return nestedNodes;
+        }
+
+        private void record(Consumer<CommonSoftAssertion> assertion) {
+            steps.add(assertion);
+        }
+
+        private void releaseVerifiedNestedNodes() {
+            // subtree without assertions is replayed as single check of failures limit so empty node replaces it
+            boolean hasAssertions = false;
+            for (int i = 0; i < steps.size(); ++i) {
+                Object step = steps.get(i);
+                if (step instanceof Node && ((Node) step).steps.isEmpty()) {
+                    steps.set(i, VERIFIED_NODE);
+                } else if (step != VERIFIED_NODE) {
+                    hasAssertions = true;
+                }
+            }
+            if (!hasAssertions) {
+                steps.clear();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean replay(CommonSoftAssertion commonSoftAssertion, VerificationState verificationState) {
+            for (int i = 0; i < steps.size(); ++i) {
+                // replayed steps are released so memory of subtree may be reclaimed before whole tree is replayed
+                Object step = steps.set(i, null);
+                if (step instanceof Node) {
+                    // limit of failures is checked before every nested value like it is done by sequential engine
+                    if (verificationState.checkFailureLimit() || !((Node) step)
+                            .replay(commonSoftAssertion, verificationState)) {
+                        return false;
+                    }
+                } else {
+                    ((Consumer<CommonSoftAssertion>) step).accept(commonSoftAssertion);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Verifies range of nodes sequentially using own fork of verification state. Every time number of values verified
+     * by task reaches threshold while at least two nodes of range remain, upper half of remaining nodes is forked to
+     * new task before next node is verified. Forked tasks are joined before task completes.
+     */
+    private static final class NodesVerificationTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final transient ForkJoinAssertionEngine engine;
+        private final int from;
+        private final transient Node[] nodes;
+        private final int to;
+        private final transient VerificationState verificationState;
+        private int verifiedValues;
+
+        private NodesVerificationTask(ForkJoinAssertionEngine engine, Node[] nodes, int from, int to,
+                VerificationState verificationState, int verifiedValues) {
+            this.engine = engine;
+            this.nodes = nodes;
+            this.from = from;
+            this.to = to;
+            this.verificationState = verificationState;
+            this.verifiedValues = verifiedValues;
+        }
+
+        @Override
+        protected void compute() {
+            VerificationState forkedState = verificationState.fork(CurrentNodeSoftAssertion.INSTANCE);
+            List<NodesVerificationTask> forkedTasks = new ArrayList<>();
+            int end = to;
+            for (int i = from; i < end; ++i) {
+                if (verifiedValues >= engine.threshold && end - i > 1) {
+                    int middle = (i + end) >>> 1;
+                    int forkedNodesCount = end - middle;
+                    log.debug(() -> String.format("Verifying %d nested values in parallel.", forkedNodesCount));
+                    NodesVerificationTask forkedTask = new NodesVerificationTask(engine, nodes, middle, end,
+                            verificationState, 0);
+                    forkedTask.fork();
+                    forkedTasks.add(forkedTask);
+                    end = middle;
+                    verifiedValues = 0;
+                }
+                engine.verify(nodes[i], forkedState, this);
+            }
+            for (int i = forkedTasks.size() - 1; i >= 0; --i) {
+                forkedTasks.get(i).join();
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.engine;
+
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.field.VerificationState;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of <code>AssertionEngine</code> that traverses verified objects using heap-allocated stack instead of
+ * recursion so depth of verified models isn't limited by thread stack size. Nested verifications requested by
+ * verifiers are deferred until verifier finishes and then performed in the same order together with recorded
+ * assertions so failures order and messages are the same as for <code>AssertionEngineImpl</code>. Nested values of
+ * sequences are taken from iterator one by one when previous value is verified, so traversal keeps only current
+ * element of each verified sequence instead of all of them.
+ *
+ * @see AssertionEngine
+ * @see AssertionEngineImpl
+ */
+@Log4j2
+public final class IterativeAssertionEngine implements AssertionEngine {
+
+    private static final ThreadLocal<RecordingSoftAssertion> CURRENT_RECORDER = new ThreadLocal<>();
+    private AssertionContext assertionContext;
+
+    public IterativeAssertionEngine(AssertionContext assertionContext) {
+        this.assertionContext = assertionContext;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void compareObjects(final FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        RecordingSoftAssertion currentRecorder = CURRENT_RECORDER.get();
+        if (currentRecorder != null && currentRecorder == fieldVerificationConfiguration.getCommonSoftAssertion()) {
+            // nested verification requested by verifier is performed after verifier finishes
+            currentRecorder.steps.addLast(new NestedVerificationStep(fieldVerificationConfiguration));
+            return;
+        }
+        traverse(fieldVerificationConfiguration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void compareNestedObjects(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Iterator<? extends VerificationField<?>> nestedFields) {
+        RecordingSoftAssertion currentRecorder = CURRENT_RECORDER.get();
+        if (currentRecorder != null && currentRecorder == fieldVerificationConfiguration.getCommonSoftAssertion()) {
+            // nested values are taken from iterator one by one after verifier finishes
+            currentRecorder.steps.addLast(
+                    new NestedSequenceStep(currentRecorder, fieldVerificationConfiguration, nestedFields));
+            return;
+        }
+        AssertionEngine.super.compareNestedObjects(fieldVerificationConfiguration, nestedFields);
+    }
+
+    private <T> Frame expand(FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        VerificationState verificationState = fieldVerificationConfiguration.getVerificationState();
+        if (!verificationState.enter(fieldVerificationConfiguration)) {
+            return null;
+        }
+        VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+        FieldVerifier verifier = assertionContext.getFieldVerifierStorage().get(fieldVerificationConfiguration);
+        if (verifier == null) {
+            log.warn(() -> String.format("Failed to find verifier for '%s', field will not be verified.",
+                    verificationField.trace()));
+            verificationState.exit(fieldVerificationConfiguration);
+            return null;
+        }
+        CommonSoftAssertion commonSoftAssertion = fieldVerificationConfiguration.getCommonSoftAssertion();
+        if (commonSoftAssertion instanceof RecordingSoftAssertion) {
+            commonSoftAssertion = ((RecordingSoftAssertion) commonSoftAssertion).delegate;
+        }
+        RecordingSoftAssertion recorder = new RecordingSoftAssertion(commonSoftAssertion);
+        CURRENT_RECORDER.set(recorder);
+        verifier.verify(new FieldVerificationConfiguration<>(recorder, verificationField,
+                fieldVerificationConfiguration.getConfiguration(), verificationState));
+        CURRENT_RECORDER.remove();
+        log.debug(() -> String.format("Using '%s' verifier for '%s' field.", verifier.getClass().getName(),
+                verificationField.trace()));
+        return new Frame(fieldVerificationConfiguration, recorder.steps);
+    }
+
+    private <T> void traverse(FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        RecordingSoftAssertion outerRecorder = CURRENT_RECORDER.get();
+        try {
+            Deque<Frame> stack = new ArrayDeque<>();
+            push(stack, expand(fieldVerificationConfiguration));
+            while (!stack.isEmpty()) {
+                Frame frame = stack.peek();
+                TraversalStep step = frame.steps.pollFirst();
+                if (step == null) {
+                    stack.pop();
+                    // pair is verified only after all nested verifications of its verifier are performed
+                    frame.fieldVerificationConfiguration.getVerificationState()
+                            .exit(frame.fieldVerificationConfiguration);
+                } else {
+                    step.perform(this, stack);
+                }
+            }
+        } finally {
+            if (outerRecorder == null) {
+                CURRENT_RECORDER.remove();
+            } else {
+                CURRENT_RECORDER.set(outerRecorder);
+            }
+        }
+    }
+
+    private static void push(Deque<Frame> stack, Frame frame) {
+        if (frame != null) {
+            stack.push(frame);
+        }
+    }
+
+    /**
+     * Step of objects traversal.
+     */
+    private interface TraversalStep {
+
+        void perform(IterativeAssertionEngine engine, Deque<Frame> stack);
+    }
+
+    /**
+     * Assertion recorded during verifier execution that is passed to original soft assertion in traversal order.
+     */
+    private static final class AssertionStep implements TraversalStep {
+
+        private final Consumer<CommonSoftAssertion> assertion;
+        private final CommonSoftAssertion commonSoftAssertion;
+
+        private AssertionStep(CommonSoftAssertion commonSoftAssertion, Consumer<CommonSoftAssertion> assertion) {
+            this.commonSoftAssertion = commonSoftAssertion;
+            this.assertion = assertion;
+        }
+
+        @Override
+        public void perform(IterativeAssertionEngine engine, Deque<Frame> stack) {
+            assertion.accept(commonSoftAssertion);
+        }
+    }
+
+    /**
+     * Steps of single verifier execution together with configuration of field it was executed for. Nested values of
+     * sequences are represented by single step that is returned to the front of steps until iterator is exhausted.
+     */
+    private static final class Frame {
+
+        private final FieldVerificationConfiguration<?> fieldVerificationConfiguration;
+        private final Deque<TraversalStep> steps;
+
+        private Frame(FieldVerificationConfiguration<?> fieldVerificationConfiguration, Deque<TraversalStep> steps) {
+            this.fieldVerificationConfiguration = fieldVerificationConfiguration;
+            this.steps = steps;
+        }
+    }
+
+    /**
+     * Nested values of sequence requested during verifier execution that are verified one at a time.
+     */
+    private static final class NestedSequenceStep implements TraversalStep {
+
+        private final Deque<TraversalStep> advanceSteps = new ArrayDeque<>();
+        private final FieldVerificationConfiguration<?> fieldVerificationConfiguration;
+        private final Iterator<? extends VerificationField<?>> nestedFields;
+        private final RecordingSoftAssertion recorder;
+
+        private NestedSequenceStep(RecordingSoftAssertion recorder,
+                FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+                Iterator<? extends VerificationField<?>> nestedFields) {
+            this.recorder = recorder;
+            this.fieldVerificationConfiguration = fieldVerificationConfiguration;
+            this.nestedFields = nestedFields;
+        }
+
+        @Override
+        public void perform(IterativeAssertionEngine engine, Deque<Frame> stack) {
+            if (!nestedFields.hasNext()) {
+                return;
+            }
+            // assertions registered by iterator on advance precede nested value and remaining values of sequence
+            Deque<TraversalStep> frameSteps = recorder.steps;
+            recorder.steps = advanceSteps;
+            VerificationField<?> nestedField;
+            try {
+                nestedField = nestedFields.next();
+            } finally {
+                recorder.steps = frameSteps;
+            }
+            frameSteps.addFirst(this);
+            if (nestedField != null) {
+                FieldVerificationConfiguration<?> nestedConfiguration = fieldVerificationConfiguration
+                        .forInnerField(nestedField);
+                frameSteps.addFirst(new NestedVerificationStep(nestedConfiguration));
+            }
+            while (!advanceSteps.isEmpty()) {
+                frameSteps.addFirst(advanceSteps.pollLast());
+            }
+        }
+    }
+
+    /**
+     * Nested verification requested during verifier execution.
+     */
+    private static final class NestedVerificationStep implements TraversalStep {
+
+        private final FieldVerificationConfiguration<?> fieldVerificationConfiguration;
+
+        private NestedVerificationStep(FieldVerificationConfiguration<?> fieldVerificationConfiguration) {
+            this.fieldVerificationConfiguration = fieldVerificationConfiguration;
+        }
+
+        @Override
+        public void perform(IterativeAssertionEngine engine, Deque<Frame> stack) {
+            push(stack, engine.expand(fieldVerificationConfiguration));
+        }
+    }
+
+    /**
+     * Records assertions and nested verifications requested by verifier in order of their calls.
+     */
+    private static final class RecordingSoftAssertion implements CommonSoftAssertion {
+
+        private final CommonSoftAssertion delegate;
+        private Deque<TraversalStep> steps = new ArrayDeque<>();
+
+        private RecordingSoftAssertion(CommonSoftAssertion delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void assertAll() {
+            record(CommonSoftAssertion::assertAll);
+        }
+
+        @Override
+        public void assertEmpty(Object[] actual, String message) {
+            record(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+        }
+
+        @Override
+        public void assertEmpty(Iterable<?> actual, String message) {
+            record(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+        }
+
+        @Override
+        public void assertEmpty(Map<?, ?> actual, String message) {
+            record(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+        }
+
+        @Override
+        public void assertEqualSize(Object[] actual, Object[] expected, String message) {
+            record(commonSoftAssertion -> commonSoftAssertion.assertEqualSize(actual, expected, message));
+        }
+
+        @Override
+        public void assertEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+            record(commonSoftAssertion -> commonSoftAssertion.assertEqualSize(actual, expected, message));
+        }
+
+        @Override
+        public <T> void assertEquals(T actual, T expected, String message) {
+            record(commonSoftAssertion -> commonSoftAssertion.assertEquals(actual, expected, message));
+        }
+
+        @Override
+        public void fail(String message) {
+            record(commonSoftAssertion -> commonSoftAssertion.fail(message));
+        }
+
+        private void record(Consumer<CommonSoftAssertion> assertion) {
+            steps.addLast(new AssertionStep(delegate, assertion));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable plan of fields that should be verified for instances of certain class. Contains ordered list of non-static
+ * fields of class and all its superclasses with accessors for their values so plan is built once per class and
+ * reused for every verified instance.
+ */
+@Log4j2
+public final class ClassFieldsPlan {
+
+    private static final ClassValue<ClassFieldsPlan> PLANS = new ClassValue<ClassFieldsPlan>() {
+        @Override
+        protected ClassFieldsPlan computeValue(Class<?> type) {
+            return new ClassFieldsPlan(type);
+        }
+    };
+    private final List<FieldAccessor> fields;
+    private final Map<Set<String>, List<FieldAccessor>> filteredFields = new ConcurrentHashMap<>();
+
+    private ClassFieldsPlan(Class<?> clazz) {
+        List<FieldAccessor> classFields = new ArrayList<>();
+        collectFields(clazz, classFields);
+        this.fields = Collections.unmodifiableList(classFields);
+        log.debug(() -> String.format("Built fields plan with %d field(s) for '%s' class.", fields.size(),
+                clazz.getName()));
+    }
+
+    /**
+     * Returns fields plan for received class.
+     *
+     * @param clazz <code>Class</code> to get fields plan for.
+     * @return <code>ClassFieldsPlan</code> for received class.
+     */
+    public static ClassFieldsPlan of(Class<?> clazz) {
+        return PLANS.get(clazz);
+    }
+
+    /**
+     * Returns unmodifiable list of accessors for all non-static fields of class and its superclasses.
+     */
+    public List<FieldAccessor> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns unmodifiable list of accessors for non-static fields of class and its superclasses excluding fields
+     * with received names.
+     *
+     * @param fieldsToIgnore <code>Set</code> with names of fields to exclude.
+     * @return <code>List</code> of accessors for fields that has names different from received ones.
+     */
+    public List<FieldAccessor> getFields(Set<String> fieldsToIgnore) {
+        if (fieldsToIgnore.isEmpty()) {
+            return fields;
+        }
+        List<FieldAccessor> filtered = filteredFields.get(fieldsToIgnore);
+        if (filtered == null) {
+            filtered = filterFields(fieldsToIgnore);
+            // received set may be a view of modifiable one so copy is used as key
+            filteredFields.putIfAbsent(new HashSet<>(fieldsToIgnore), filtered);
+        }
+        return filtered;
+    }
+
+    private void collectFields(Class<?> clazz, List<FieldAccessor> classFields) {
+        for (Field field : clazz.getDeclaredFields()) {
+            if (ReflectionUtil.isStatic(field)) {
+                log.debug(() -> String.format("Skipping static field '%s'.", field.getName()));
+                continue;
+            }
+            classFields.add(FieldAccessor.of(field));
+        }
+        if (ReflectionUtil.hasNonObjectSuperclass(clazz)) {
+            collectFields(clazz.getSuperclass(), classFields);
+        }
+    }
+
+    private List<FieldAccessor> filterFields(Set<String> fieldsToIgnore) {
+        List<FieldAccessor> filtered = new ArrayList<>(fields.size());
+        for (FieldAccessor fieldAccessor : fields) {
+            String fieldName = fieldAccessor.getField().getName();
+            if (fieldsToIgnore.contains(fieldName)) {
+                log.debug(() -> String.format("Skipping '%s' field by name.", fieldName));
+                continue;
+            }
+            filtered.add(fieldAccessor);
+        }
+        return Collections.unmodifiableList(filtered);
+    }
+}
@@ -0,0 +1,453 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import com.github.vladislavsevruk.assertion.util.FieldPathMatcher;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Field path patterns compiled once to trie of path parts. Match state is advanced incrementally along with field
+ * trace and is cached at trace nodes, so checking field costs single step from state of its parent trace regardless
+ * of number of patterns. State also tells if any pattern may match fields below trace so checks of whole subtree may
+ * be skipped and if any pattern matched trace or one of its parents so patterns may be used as allowlist too.
+ * Patterns follow rules of <code>FieldPathMatcher</code>. Wildcard and regular expression parts are compiled once
+ * together with other parts and are matched against name of path part without brackets.
+ *
+ * @see FieldPathMatcher
+ */
+@Log4j2
+public final class CompiledFieldPaths {
+
+    private static final String ANY_DEPTH = "**";
+    private static final CompiledFieldPaths EMPTY = new CompiledFieldPaths(null);
+    private static final int MAX_CACHED_STATES = 4;
+    private static final Node[] NO_NODES = new Node[0];
+    private final Node root;
+
+    private CompiledFieldPaths(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles received field path patterns.
+     *
+     * @param patterns <code>Collection</code> with field path patterns.
+     * @return <code>CompiledFieldPaths</code> with received patterns.
+     */
+    public static CompiledFieldPaths compile(Collection<String> patterns) {
+        if (patterns.isEmpty()) {
+            return EMPTY;
+        }
+        Node root = new Node();
+        for (String pattern : patterns) {
+            List<String> parts = splitPattern(pattern);
+            if (parts.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (String part : parts) {
+                node = node.child(part);
+            }
+            if (node.pattern == null) {
+                node.pattern = pattern;
+            }
+        }
+        return new CompiledFieldPaths(root);
+    }
+
+    /**
+     * Checks if there are no compiled patterns.
+     *
+     * @return <code>true</code> if there are no compiled patterns, <code>false</code> otherwise.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Checks if any of compiled patterns matches received field path.
+     *
+     * @param fieldTrace <code>FieldTrace</code> with path to field.
+     * @return <code>true</code> if any of compiled patterns matches received field path, <code>false</code> otherwise.
+     */
+    public boolean isMatch(FieldTrace fieldTrace) {
+        if (root == null) {
+            return false;
+        }
+        String matchedPattern = stateOf(fieldTrace).matchedPattern;
+        if (matchedPattern == null) {
+            return false;
+        }
+        log.debug(() -> String.format("Field path '%s' matches '%s' pattern.", fieldTrace, matchedPattern));
+        return true;
+    }
+
+    /**
+     * Checks if received field path is matched by any of compiled patterns, is placed below matched path or may lead
+     * to path that may be matched by any of compiled patterns.
+     *
+     * @param fieldTrace <code>FieldTrace</code> with path to field.
+     * @return <code>true</code> if received field path is placed on path matched by any of compiled patterns,
+     * <code>false</code> otherwise.
+     */
+    public boolean isOnMatchPath(FieldTrace fieldTrace) {
+        if (root == null) {
+            return false;
+        }
+        State state = stateOf(fieldTrace);
+        return state.withinMatch || state.matchBelow;
+    }
+
+    /**
+     * Checks if any of compiled patterns matches received field path or path of any of its parents.
+     *
+     * @param fieldTrace <code>FieldTrace</code> with path to field.
+     * @return <code>true</code> if any of compiled patterns matches received field path or path of any of its
+     * parents, <code>false</code> otherwise.
+     */
+    public boolean isWithinMatch(FieldTrace fieldTrace) {
+        return root != null && stateOf(fieldTrace).withinMatch;
+    }
+
+    /**
+     * Checks if any of compiled patterns may match path of any field below received field path.
+     *
+     * @param fieldTrace <code>FieldTrace</code> with path to field.
+     * @return <code>true</code> if any of compiled patterns may match path of field below received one,
+     * <code>false</code> otherwise.
+     */
+    public boolean mayMatchBelow(FieldTrace fieldTrace) {
+        return root != null && stateOf(fieldTrace).matchBelow;
+    }
+
+    private static int findRegexEnd(String pattern, int regexStart) {
+        for (int i = regexStart + 1; i < pattern.length(); ++i) {
+            if (pattern.charAt(i) == '/' && (i == pattern.length() - 1 || pattern.charAt(i + 1) == '.')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<String> splitPattern(String pattern) {
+        // dots inside of regular expression parts don't separate parts
+        List<String> parts = new ArrayList<>();
+        int partStart = 0;
+        for (int i = 0; i < pattern.length(); ++i) {
+            char symbol = pattern.charAt(i);
+            if (i == partStart && symbol == '/') {
+                int regexEnd = findRegexEnd(pattern, i);
+                if (regexEnd != -1) {
+                    i = regexEnd;
+                    continue;
+                }
+            }
+            if (symbol == '.') {
+                parts.add(pattern.substring(partStart, i));
+                partStart = i + 1;
+            }
+        }
+        parts.add(pattern.substring(partStart));
+        // trailing empty parts are dropped same way as by String.split
+        while (!parts.isEmpty() && parts.get(parts.size() - 1).isEmpty()) {
+            parts.remove(parts.size() - 1);
+        }
+        return parts;
+    }
+
+    private static Pattern toNamePattern(String part) {
+        if (part.length() > 2 && part.startsWith("/") && part.endsWith("/")) {
+            return Pattern.compile(part.substring(1, part.length() - 1));
+        }
+        if (part.indexOf('[') != -1 || (part.indexOf('*') == -1 && part.indexOf('?') == -1)) {
+            return null;
+        }
+        StringBuilder regexBuilder = new StringBuilder();
+        int literalStart = 0;
+        for (int i = 0; i < part.length(); ++i) {
+            char symbol = part.charAt(i);
+            if (symbol == '*' || symbol == '?') {
+                if (literalStart < i) {
+                    regexBuilder.append(Pattern.quote(part.substring(literalStart, i)));
+                }
+                regexBuilder.append(symbol == '*' ? ".*" : ".");
+                literalStart = i + 1;
+            }
+        }
+        if (literalStart < part.length()) {
+            regexBuilder.append(Pattern.quote(part.substring(literalStart)));
+        }
+        return Pattern.compile(regexBuilder.toString(), Pattern.DOTALL);
+    }
+
+    private State cachedState(FieldTrace fieldTrace) {
+        State state = fieldTrace.getMatchState();
+        while (state != null && state.owner != this) {
+            state = state.next;
+        }
+        return state;
+    }
+
+    private State nextState(State parentState, FieldTrace fieldTrace) {
+        State cachedStates = fieldTrace.getMatchState();
+        if (fieldTrace.isFieldSegment()) {
+            String fieldName = fieldTrace.getSegment();
+            return newState(parentState.after, fieldName, fieldName, true, parentState.withinMatch, cachedStates);
+        }
+        String part = null;
+        if (parentState.part != null) {
+            StringBuilder partBuilder = new StringBuilder(parentState.part);
+            fieldTrace.appendSegment(partBuilder);
+            part = partBuilder.toString();
+        }
+        return newState(parentState.before, parentState.base, part, true, parentState.withinMatch, cachedStates);
+    }
+
+    private State newState(Node[] before, String base, String part, boolean baseMatches, boolean withinMatch,
+            State cachedStates) {
+        // part is required only if there are patterns with brackets for this base and is null otherwise
+        if (before.length == 0) {
+            return new State(this, NO_NODES, NO_NODES, base, null, null, false, withinMatch, cachedStates);
+        }
+        List<Node> after = new ArrayList<>();
+        String matchedPattern = null;
+        boolean bracketPatterns = false;
+        for (Node node : before) {
+            Node plainChild = node.plainChildren.get(base);
+            if (plainChild != null && baseMatches) {
+                matchedPattern = reach(plainChild, after, matchedPattern);
+            }
+            Map<String, Node> bracketChildren = node.bracketChildren.get(base);
+            if (bracketChildren != null) {
+                bracketPatterns = true;
+                Node bracketChild = bracketChildren.get(part);
+                if (bracketChild != null) {
+                    matchedPattern = reach(bracketChild, after, matchedPattern);
+                }
+            }
+            if (baseMatches) {
+                for (NamePatternChild namePatternChild : node.namePatternChildren.values()) {
+                    if (namePatternChild.namePattern.matcher(base).matches()) {
+                        matchedPattern = reach(namePatternChild.node, after, matchedPattern);
+                    }
+                }
+            }
+            if (node.anyDepth) {
+                // any depth part may consume one more path part
+                matchedPattern = reach(node, after, matchedPattern);
+            }
+        }
+        // further bracket segments of current part may still complete pattern part with brackets
+        boolean matchBelow = bracketPatterns || !after.isEmpty();
+        return new State(this, before, after.toArray(NO_NODES), base, bracketPatterns ? part : null, matchedPattern,
+                matchBelow, withinMatch || matchedPattern != null, cachedStates);
+    }
+
+    private String reach(Node node, List<Node> after, String matchedPattern) {
+        if ((node.anyDepth || node.hasChildren()) && !after.contains(node)) {
+            after.add(node);
+        }
+        String reachedPattern = matchedPattern == null ? node.pattern : matchedPattern;
+        if (node.anyDepthChild != null) {
+            // any depth part may also consume no path parts at all
+            return reach(node.anyDepthChild, after, reachedPattern);
+        }
+        return reachedPattern;
+    }
+
+    private State rootState(FieldTrace rootTrace) {
+        String[] parts = rootTrace.getTrace().split("\\.");
+        State cachedStates = rootTrace.getMatchState();
+        if (parts.length == 0) {
+            return newState(NO_NODES, "", null, false, false, cachedStates);
+        }
+        List<Node> rootNodes = new ArrayList<>();
+        reach(root, rootNodes, null);
+        Node[] before = rootNodes.toArray(NO_NODES);
+        boolean withinMatch = false;
+        for (int i = 0; ; ++i) {
+            String part = parts[i];
+            int bracketIndex = part.indexOf('[');
+            String base = bracketIndex == -1 ? part : part.substring(0, bracketIndex);
+            boolean baseMatches = bracketIndex == -1 || part.endsWith("]");
+            State state = newState(before, base, part, baseMatches, withinMatch,
+                    i == parts.length - 1 ? cachedStates : null);
+            if (i == parts.length - 1) {
+                return state;
+            }
+            before = state.after;
+            withinMatch = state.withinMatch;
+        }
+    }
+
+    private State stateOf(FieldTrace fieldTrace) {
+        State state = cachedState(fieldTrace);
+        if (state != null) {
+            return state;
+        }
+        // traces are collected iteratively so deep traces don't depend on thread stack size
+        Deque<FieldTrace> uncachedTraces = new ArrayDeque<>();
+        FieldTrace trace = fieldTrace;
+        while (state == null) {
+            uncachedTraces.push(trace);
+            trace = trace.getParent();
+            if (trace == null) {
+                trace = uncachedTraces.pop();
+                state = store(trace, rootState(trace));
+            } else {
+                state = cachedState(trace);
+            }
+        }
+        while (!uncachedTraces.isEmpty()) {
+            trace = uncachedTraces.pop();
+            state = store(trace, nextState(state, trace));
+        }
+        return state;
+    }
+
+    private State store(FieldTrace fieldTrace, State state) {
+        // states of concurrently checked traces may be lost here but then they are just computed again
+        fieldTrace.setMatchState(state);
+        return state;
+    }
+
+    /**
+     * Node of patterns trie. Parts without brackets are kept by their names while parts with brackets are grouped by
+     * name before brackets and kept by their full text. Wildcard and regular expression parts are kept with compiled
+     * name patterns and any depth part is node that may be passed any number of times.
+     */
+    private static final class Node {
+
+        private final boolean anyDepth;
+        private Node anyDepthChild;
+        private final Map<String, Map<String, Node>> bracketChildren = new HashMap<>();
+        private final Map<String, NamePatternChild> namePatternChildren = new LinkedHashMap<>();
+        private String pattern;
+        private final Map<String, Node> plainChildren = new HashMap<>();
+
+        private Node() {
+            this(false);
+        }
+
+        private Node(boolean anyDepth) {
+            this.anyDepth = anyDepth;
+        }
+
+        private Node child(String part) {
+            if (ANY_DEPTH.equals(part)) {
+                if (anyDepthChild == null) {
+                    anyDepthChild = new Node(true);
+                }
+                return anyDepthChild;
+            }
+            NamePatternChild namePatternChild = namePatternChildren.get(part);
+            if (namePatternChild == null) {
+                Pattern namePattern = toNamePattern(part);
+                if (namePattern != null) {
+                    namePatternChild = new NamePatternChild(namePattern);
+                    namePatternChildren.put(part, namePatternChild);
+                }
+            }
+            if (namePatternChild != null) {
+                return namePatternChild.node;
+            }
+            int bracketIndex = part.indexOf('[');
+            if (bracketIndex == -1) {
+                return plainChildren.computeIfAbsent(part, key -> new Node());
+            }
+            return bracketChildren.computeIfAbsent(part.substring(0, bracketIndex), key -> new HashMap<>())
+                    .computeIfAbsent(part, key -> new Node());
+        }
+
+        private boolean hasChildren() {
+            return !plainChildren.isEmpty() || !bracketChildren.isEmpty() || !namePatternChildren.isEmpty()
+                    || anyDepthChild != null;
+        }
+    }
+
+    /**
+     * Child node of patterns trie for wildcard or regular expression part.
+     */
+    private static final class NamePatternChild {
+
+        private final Pattern namePattern;
+        private final Node node = new Node();
+
+        private NamePatternChild(Pattern namePattern) {
+            this.namePattern = namePattern;
+        }
+    }
+
+    /**
+     * Immutable match state of compiled patterns at certain field trace. States of different compiled patterns at
+     * same trace are linked to each other.
+     */
+    static final class State {
+
+        private final Node[] after;
+        private final String base;
+        private final Node[] before;
+        private final boolean matchBelow;
+        private final String matchedPattern;
+        private final State next;
+        private final CompiledFieldPaths owner;
+        private final String part;
+        private final boolean withinMatch;
+
+        private State(CompiledFieldPaths owner, Node[] before, Node[] after, String base, String part,
+                String matchedPattern, boolean matchBelow, boolean withinMatch, State next) {
+            this.owner = owner;
+            this.before = before;
+            this.after = after;
+            this.base = base;
+            this.part = part;
+            this.matchedPattern = matchedPattern;
+            this.matchBelow = matchBelow;
+            this.withinMatch = withinMatch;
+            this.next = trim(next);
+        }
+
+        private static State trim(State states) {
+            State state = states;
+            for (int i = 1; state != null; ++i) {
+                if (i == MAX_CACHED_STATES) {
+                    // patterns are compiled again and again for same trace so states of previous ones are dropped
+                    return null;
+                }
+                state = state.next;
+            }
+            return states;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import java.util.Arrays;
+
+/**
+ * Key tuple of several identifier fields. Values of primitive fields are kept unboxed and hash code is computed once
+ * when tuple is created.
+ */
+final class CompositeIdentifier {
+
+    private final IdentifierKeyExtractor extractor;
+    private final int hashCode;
+    private final long[] primitiveValues;
+    private final Object[] referenceValues;
+
+    CompositeIdentifier(IdentifierKeyExtractor extractor, long[] primitiveValues, Object[] referenceValues) {
+        this.extractor = extractor;
+        this.primitiveValues = primitiveValues;
+        this.referenceValues = referenceValues;
+        this.hashCode = 31 * Arrays.hashCode(primitiveValues) + Arrays.hashCode(referenceValues);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof CompositeIdentifier)) {
+            return false;
+        }
+        CompositeIdentifier other = (CompositeIdentifier) object;
+        return hashCode == other.hashCode && extractor == other.extractor && Arrays
+                .equals(primitiveValues, other.primitiveValues) && Arrays
+                .equals(referenceValues, other.referenceValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        extractor.appendTo(builder, primitiveValues, referenceValues);
+        return builder.toString();
+    }
+}
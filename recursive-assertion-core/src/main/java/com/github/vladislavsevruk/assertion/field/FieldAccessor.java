@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads value of certain field using <code>MethodHandle</code> getter that is built once per field and can be inlined
+ * by JIT unlike reflective <code>Field.get</code> call.
+ */
+public final class FieldAccessor {
+
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS
+            = new ClassValue<Map<String, FieldAccessor>>() {
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private final Field field;
+    private final MethodHandle getter;
+
+    private FieldAccessor(Field field) {
+        this.field = field;
+        this.getter = createGetter(field);
+    }
+
+    /**
+     * Returns accessor for received field. Received <code>Field</code> instance isn't modified as accessor uses its own
+     * accessible copy of field.
+     *
+     * @param field <code>Field</code> to get accessor for.
+     * @return <code>FieldAccessor</code> for received field.
+     */
+    public static FieldAccessor of(Field field) {
+        return ACCESSORS.get(field.getDeclaringClass())
+                .computeIfAbsent(field.getName(), fieldName -> new FieldAccessor(copyOf(field)));
+    }
+
+    private static Field copyOf(Field field) {
+        try {
+            Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+            copy.setAccessible(true);
+            return copy;
+        } catch (NoSuchFieldException nsfEx) {
+            throw new IllegalStateException("Failed to find field " + field.getName(), nsfEx);
+        }
+    }
+
+    private static MethodHandle createGetter(Field field) {
+        try {
+            MethodHandle fieldGetter = MethodHandles.lookup().unreflectGetter(field);
+            if (ReflectionUtil.isStatic(field)) {
+                fieldGetter = MethodHandles.dropArguments(fieldGetter, 0, Object.class);
+            }
+            return fieldGetter.asType(GETTER_TYPE);
+        } catch (IllegalAccessException iaEx) {
+            throw new IllegalStateException("Failed to get access to field " + field.getName(), iaEx);
+        }
+    }
+
+    /**
+     * Gets value of field of received object.
+     *
+     * @param object <code>Object</code> to get field value of.
+     * @return field value.
+     */
+    public Object get(Object object) {
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Failed to get value of field " + field.getName(), throwable);
+        }
+    }
+
+    /**
+     * Returns accessible <code>Field</code> this accessor reads.
+     */
+    public Field getField() {
+        return field;
+    }
+}
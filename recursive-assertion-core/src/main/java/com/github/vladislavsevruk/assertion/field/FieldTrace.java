@@ -23,17 +23,28 @@
  */
 package com.github.vladislavsevruk.assertion.field;
 
-import lombok.Getter;
-
 import java.lang.reflect.Field;
 
 /**
- * Class for building path to verified field.
+ * Class for building path to verified field. Every trace is node linked to trace of its parent that keeps only own
+ * path segment, so string with full path is built only when it is requested and then cached.
  */
-@Getter
 public final class FieldTrace {
 
-    private final String trace;
+    private static final int COMPOSITE_ID = 5;
+    private static final int FIELD = 1;
+    private static final int ID = 2;
+    private static final int INDEX = 3;
+    private static final int KEY = 4;
+    private static final int ROOT = 0;
+    private final int depth;
+    private final int index;
+    private final int kind;
+    private final FieldTrace parent;
+    private final String segment;
+    private final Object value;
+    private CompiledFieldPaths.State matchState;
+    private String trace;
 
     /**
      * Creates trace root based on received object.
@@ -50,9 +61,29 @@ public final class FieldTrace {
      * @param trace <code>String</code> with initial trace.
      */
     public FieldTrace(String trace) {
+        this(null, ROOT, trace, null, 0);
         this.trace = trace;
     }
 
+    private FieldTrace(FieldTrace parent, int kind, String segment, Object value, int index) {
+        this.parent = parent;
+        this.kind = kind;
+        this.segment = segment;
+        this.value = value;
+        this.index = index;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+    }
+
+    /**
+     * Creates new trace with path to sub item with received composite id.
+     *
+     * @param compositeId composite id of sub item that contains names and values of its identifier fields.
+     * @return new <code>FieldTrace</code> with path to sub item.
+     */
+    public FieldTrace compositeId(Object compositeId) {
+        return new FieldTrace(this, COMPOSITE_ID, null, compositeId, 0);
+    }
+
     /**
      * Creates new trace with path to sub item with received name.
      *
@@ -70,7 +101,7 @@ public final class FieldTrace {
      * @return new <code>FieldTrace</code> with path to sub item.
      */
     public FieldTrace field(String fieldName) {
-        return new FieldTrace(String.format("%s.%s", trace, fieldName));
+        return new FieldTrace(this, FIELD, fieldName, null, 0);
     }
 
     /**
@@ -83,6 +114,27 @@ public final class FieldTrace {
         return field(fieldNameProvider.getFieldName());
     }
 
+    /**
+     * Returns number of path segments after root of this trace.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns full path to field. Path is built on first call and is cached for further calls.
+     */
+    public String getTrace() {
+        String fullTrace = trace;
+        if (fullTrace == null) {
+            StringBuilder traceBuilder = new StringBuilder();
+            appendTo(traceBuilder);
+            fullTrace = traceBuilder.toString();
+            trace = fullTrace;
+        }
+        return fullTrace;
+    }
+
     /**
      * Creates new trace with path to sub item with received id.
      *
@@ -91,7 +143,7 @@ public final class FieldTrace {
      * @return new <code>FieldTrace</code> with path to sub item.
      */
     public FieldTrace id(Field idField, Object value) {
-        return new FieldTrace(String.format("%s[%s=%s]", removeArrayBrackets(trace), idField.getName(), value));
+        return new FieldTrace(this, ID, idField.getName(), value, 0);
     }
 
     /**
@@ -101,7 +153,7 @@ public final class FieldTrace {
      * @return new <code>FieldTrace</code> with path to sub item.
      */
     public FieldTrace index(int index) {
-        return new FieldTrace(String.format("%s[%d]", removeArrayBrackets(trace), index));
+        return new FieldTrace(this, INDEX, null, null, index);
     }
 
     /**
@@ -111,7 +163,7 @@ public final class FieldTrace {
      * @return new <code>FieldTrace</code> with path to sub item.
      */
     public FieldTrace key(Object key) {
-        return new FieldTrace(String.format("%s[%s]", trace, key));
+        return new FieldTrace(this, KEY, null, key, 0);
     }
 
     @Override
@@ -119,10 +171,71 @@ public final class FieldTrace {
         return getTrace();
     }
 
-    private String removeArrayBrackets(String trace) {
-        if (trace.endsWith("[]")) {
-            return trace.substring(0, trace.length() - 2);
+    CompiledFieldPaths.State getMatchState() {
+        return matchState;
+    }
+
+    FieldTrace getParent() {
+        return parent;
+    }
+
+    String getSegment() {
+        return segment;
+    }
+
+    boolean isFieldSegment() {
+        return kind == FIELD;
+    }
+
+    void setMatchState(CompiledFieldPaths.State matchState) {
+        this.matchState = matchState;
+    }
+
+    private void appendTo(StringBuilder traceBuilder) {
+        // segments are collected iteratively so deep traces don't depend on thread stack size
+        FieldTrace[] nodes = new FieldTrace[depth + 1];
+        FieldTrace node = this;
+        int firstIndex = depth;
+        while (true) {
+            nodes[firstIndex] = node;
+            if (node.trace != null) {
+                break;
+            }
+            node = node.parent;
+            --firstIndex;
+        }
+        traceBuilder.append(nodes[firstIndex].trace);
+        for (int i = firstIndex + 1; i < nodes.length; ++i) {
+            nodes[i].appendSegment(traceBuilder);
+        }
+    }
+
+    void appendSegment(StringBuilder traceBuilder) {
+        switch (kind) {
+            case FIELD:
+                traceBuilder.append('.').append(segment);
+                break;
+            case COMPOSITE_ID:
+                removeArrayBrackets(traceBuilder);
+                traceBuilder.append('[').append(value).append(']');
+                break;
+            case ID:
+                removeArrayBrackets(traceBuilder);
+                traceBuilder.append('[').append(segment).append('=').append(value).append(']');
+                break;
+            case INDEX:
+                removeArrayBrackets(traceBuilder);
+                traceBuilder.append('[').append(index).append(']');
+                break;
+            default:
+                traceBuilder.append('[').append(value).append(']');
+        }
+    }
+
+    private void removeArrayBrackets(StringBuilder traceBuilder) {
+        int length = traceBuilder.length();
+        if (length >= 2 && traceBuilder.charAt(length - 2) == '[' && traceBuilder.charAt(length - 1) == ']') {
+            traceBuilder.setLength(length - 2);
         }
-        return trace;
     }
 }
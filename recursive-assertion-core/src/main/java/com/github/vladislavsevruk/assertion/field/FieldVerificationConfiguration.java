@@ -38,11 +38,76 @@ public final class FieldVerificationConfiguration<T> {
     private final CommonSoftAssertion commonSoftAssertion;
     private final AssertionConfiguration configuration;
     private final VerificationField<T> verificationField;
+    private final VerificationState verificationState;
 
+    /**
+     * Creates configuration for root field of new verification.
+     *
+     * @param commonSoftAssertion <code>CommonSoftAssertion</code> to use for verification.
+     * @param verificationField   <code>VerificationField</code> to verify.
+     * @param configuration       <code>AssertionConfiguration</code> to use for verification.
+     * @deprecated configuration is created with new verification state so values verified with it don't share cycle
+     * detection, memoized failures, limit of failures and time limit with verification they are part of. Use
+     * {@link #forInnerField(VerificationField)} of enclosing field configuration for inner fields and
+     * {@link #forRootField(CommonSoftAssertion, VerificationField, AssertionConfiguration)} for root field of new
+     * verification instead.
+     */
+    @Deprecated
     public FieldVerificationConfiguration(CommonSoftAssertion commonSoftAssertion,
             VerificationField<T> verificationField, AssertionConfiguration configuration) {
+        this(verificationField, configuration, new VerificationState(commonSoftAssertion, configuration));
+    }
+
+    /**
+     * Creates configuration for field of verification with received state. Received soft assertion should pass
+     * assertions to soft assertion of verification state so failures are memoized for replay.
+     *
+     * @param commonSoftAssertion <code>CommonSoftAssertion</code> to use for verification.
+     * @param verificationField   <code>VerificationField</code> to verify.
+     * @param configuration       <code>AssertionConfiguration</code> to use for verification.
+     * @param verificationState   <code>VerificationState</code> of verification this field belongs to.
+     */
+    public FieldVerificationConfiguration(CommonSoftAssertion commonSoftAssertion,
+            VerificationField<T> verificationField, AssertionConfiguration configuration,
+            VerificationState verificationState) {
         this.commonSoftAssertion = commonSoftAssertion;
         this.verificationField = verificationField;
         this.configuration = configuration;
+        this.verificationState = verificationState;
+    }
+
+    private FieldVerificationConfiguration(VerificationField<T> verificationField,
+            AssertionConfiguration configuration, VerificationState verificationState) {
+        this(verificationState.getCommonSoftAssertion(), verificationField, configuration, verificationState);
+    }
+
+    /**
+     * Creates configuration for inner field that shares soft assertion, assertion configuration and verification
+     * state with this configuration.
+     *
+     * @param innerField <code>VerificationField</code> of inner field.
+     * @param <S>        type of inner field value.
+     * @return <code>FieldVerificationConfiguration</code> for inner field.
+     */
+    public <S> FieldVerificationConfiguration<S> forInnerField(VerificationField<S> innerField) {
+        return new FieldVerificationConfiguration<>(commonSoftAssertion, innerField, configuration,
+                verificationState);
+    }
+
+    /**
+     * Creates configuration for root field of new verification with new verification state. Configurations for inner
+     * fields should be created using {@link #forInnerField(VerificationField)} so they share state of this
+     * verification.
+     *
+     * @param commonSoftAssertion <code>CommonSoftAssertion</code> to use for verification.
+     * @param verificationField   <code>VerificationField</code> to verify.
+     * @param configuration       <code>AssertionConfiguration</code> to use for verification.
+     * @param <T>                 type of root field value.
+     * @return <code>FieldVerificationConfiguration</code> for root field.
+     */
+    public static <T> FieldVerificationConfiguration<T> forRootField(CommonSoftAssertion commonSoftAssertion,
+            VerificationField<T> verificationField, AssertionConfiguration configuration) {
+        return new FieldVerificationConfiguration<>(verificationField, configuration,
+                new VerificationState(commonSoftAssertion, configuration));
     }
 }
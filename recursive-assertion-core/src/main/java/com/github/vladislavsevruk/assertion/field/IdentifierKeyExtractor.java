@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Extracts identifier key of model using its identifier fields. Key of single identifier field is value of this field
+ * while key of several identifier fields is hashable <code>CompositeIdentifier</code> tuple that keeps values of
+ * primitive fields unboxed. Getters of all fields are built once per extractor using <code>MethodHandle</code>-s.
+ */
+public final class IdentifierKeyExtractor {
+
+    private static final MethodHandle BOOLEAN_TO_LONG;
+    private static final MethodHandle DOUBLE_TO_LONG;
+    private static final long[] NO_PRIMITIVE_VALUES = new long[0];
+    private static final Object[] NO_REFERENCE_VALUES = new Object[0];
+    private static final MethodType PRIMITIVE_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+    private final FieldAccessor[] accessors;
+    private final Field[] fields;
+    private final Class<?> modelClass;
+    private final int primitiveFieldsCount;
+    private final MethodHandle[] primitiveGetters;
+    private final int referenceFieldsCount;
+    private final int[] valueSlots;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            BOOLEAN_TO_LONG = lookup.findStatic(IdentifierKeyExtractor.class, "booleanToLong",
+                    MethodType.methodType(long.class, boolean.class));
+            DOUBLE_TO_LONG = lookup.findStatic(Double.class, "doubleToLongBits",
+                    MethodType.methodType(long.class, double.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private IdentifierKeyExtractor(List<Field> identifierFields) {
+        int fieldsCount = identifierFields.size();
+        this.accessors = new FieldAccessor[fieldsCount];
+        this.fields = new Field[fieldsCount];
+        this.primitiveGetters = new MethodHandle[fieldsCount];
+        this.valueSlots = new int[fieldsCount];
+        Class<?> deepestClass = identifierFields.get(0).getDeclaringClass();
+        int primitivesCount = 0;
+        int referencesCount = 0;
+        for (int i = 0; i < fieldsCount; ++i) {
+            Field field = identifierFields.get(i);
+            fields[i] = field;
+            accessors[i] = FieldAccessor.of(field);
+            if (deepestClass.isAssignableFrom(field.getDeclaringClass())) {
+                deepestClass = field.getDeclaringClass();
+            }
+            // single identifier is used as key itself so there is no tuple to keep its value unboxed
+            if (fieldsCount > 1 && field.getType().isPrimitive()) {
+                primitiveGetters[i] = createPrimitiveGetter(accessors[i].getField());
+                valueSlots[i] = primitivesCount++;
+            } else {
+                valueSlots[i] = referencesCount++;
+            }
+        }
+        this.modelClass = deepestClass;
+        this.primitiveFieldsCount = primitivesCount;
+        this.referenceFieldsCount = referencesCount;
+    }
+
+    /**
+     * Creates key extractor for received identifier fields. Several fields form composite identifier in received order.
+     *
+     * @param identifierFields <code>List</code> of identifier <code>Field</code>-s of same class hierarchy.
+     * @return <code>IdentifierKeyExtractor</code> for received fields.
+     */
+    public static IdentifierKeyExtractor of(List<Field> identifierFields) {
+        if (identifierFields.isEmpty()) {
+            throw new IllegalArgumentException("At least one identifier field is required.");
+        }
+        return new IdentifierKeyExtractor(identifierFields);
+    }
+
+    private static long booleanToLong(boolean value) {
+        return value ? 1L : 0L;
+    }
+
+    private static MethodHandle createPrimitiveGetter(Field field) {
+        try {
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            Class<?> fieldType = field.getType();
+            if (fieldType == boolean.class) {
+                getter = MethodHandles.filterReturnValue(getter, BOOLEAN_TO_LONG);
+            } else if (fieldType == float.class || fieldType == double.class) {
+                // bits of floating point values are compared same way as by Float and Double equals methods
+                getter = MethodHandles.filterReturnValue(
+                        getter.asType(getter.type().changeReturnType(double.class)), DOUBLE_TO_LONG);
+            }
+            return getter.asType(PRIMITIVE_GETTER_TYPE);
+        } catch (IllegalAccessException iaEx) {
+            throw new IllegalStateException("Failed to get access to field " + field.getName(), iaEx);
+        }
+    }
+
+    /**
+     * Extracts identifier key of received model.
+     *
+     * @param model <code>Object</code> to extract identifier key of.
+     * @return value of identifier field, <code>CompositeIdentifier</code> with values of identifier fields or
+     * <code>null</code> if received model is <code>null</code> or doesn't have identifier fields.
+     */
+    public Object extract(Object model) {
+        if (model == null || !modelClass.isInstance(model)) {
+            return null;
+        }
+        if (fields.length == 1) {
+            return accessors[0].get(model);
+        }
+        long[] primitiveValues = primitiveFieldsCount == 0 ? NO_PRIMITIVE_VALUES : new long[primitiveFieldsCount];
+        Object[] referenceValues = referenceFieldsCount == 0 ? NO_REFERENCE_VALUES : new Object[referenceFieldsCount];
+        for (int i = 0; i < fields.length; ++i) {
+            if (primitiveGetters[i] != null) {
+                primitiveValues[valueSlots[i]] = getPrimitiveValue(primitiveGetters[i], model, fields[i]);
+            } else {
+                referenceValues[valueSlots[i]] = accessors[i].get(model);
+            }
+        }
+        return new CompositeIdentifier(this, primitiveValues, referenceValues);
+    }
+
+    /**
+     * Returns trace to identifier of element with received trace.
+     *
+     * @param elementTrace <code>FieldTrace</code> of element.
+     * @return <code>FieldTrace</code> to identifier field of element or element trace itself for composite identifier.
+     */
+    public FieldTrace identifierTrace(FieldTrace elementTrace) {
+        return fields.length == 1 ? elementTrace.field(fields[0]) : elementTrace;
+    }
+
+    /**
+     * Creates trace to element with received identifier key.
+     *
+     * @param sequenceTrace <code>FieldTrace</code> of sequence that contains element.
+     * @param key           identifier key of element.
+     * @return new <code>FieldTrace</code> with path to element.
+     */
+    public FieldTrace elementTrace(FieldTrace sequenceTrace, Object key) {
+        return fields.length == 1 ? sequenceTrace.id(fields[0], key) : sequenceTrace.compositeId(key);
+    }
+
+    void appendTo(StringBuilder builder, long[] primitiveValues, Object[] referenceValues) {
+        for (int i = 0; i < fields.length; ++i) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(fields[i].getName()).append('=');
+            if (primitiveGetters[i] == null) {
+                builder.append(referenceValues[valueSlots[i]]);
+            } else {
+                builder.append(toPrimitiveValue(fields[i].getType(), primitiveValues[valueSlots[i]]));
+            }
+        }
+    }
+
+    private long getPrimitiveValue(MethodHandle getter, Object model, Field field) {
+        try {
+            return (long) getter.invokeExact(model);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Failed to get value of field " + field.getName(), throwable);
+        }
+    }
+
+    private Object toPrimitiveValue(Class<?> fieldType, long value) {
+        if (fieldType == boolean.class) {
+            return value != 0L;
+        }
+        if (fieldType == char.class) {
+            return (char) value;
+        }
+        if (fieldType == float.class) {
+            return (float) Double.longBitsToDouble(value);
+        }
+        if (fieldType == double.class) {
+            return Double.longBitsToDouble(value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,507 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import com.github.vladislavsevruk.assertion.util.IdentityPairMap;
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
+import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
+import com.github.vladislavsevruk.assertion.verifier.AbstractCommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Contains state shared between all fields of single verification. Skips values that are same object and tracks
+ * identity pairs of actual and expected non-simple values so pair that is already being verified at current path
+ * (cyclic reference) isn't verified again. Failures of every verified pair are memoized so when same pair is met
+ * again its failures are replayed under new field trace instead of verifying it once more. Verification is stopped
+ * when limit of failures or time limit is reached or when verifying thread is interrupted so remaining values aren't
+ * verified. State may be forked for parts of verification that are performed at other threads or may create
+ * auxiliary states for dry runs that have own failure limit but are stopped together with this verification. Forked
+ * states share time limit with this state but count failures separately so limit of failures may be applied in order
+ * of verification while their assertions are passed to this state.
+ */
+@Log4j2
+public final class VerificationState {
+
+    private static final int LIMITS_CHECK_PERIOD = 64;
+    private final FailureLoggingSoftAssertion commonSoftAssertion;
+    private PairVerification currentPair;
+    private int enteredValues;
+    private List<Failure> failures;
+    private final VerificationLimits limits;
+    private final VerificationState owner;
+    private IdentityPairMap<PairVerification> pairs;
+    private final VerificationState parent;
+    private int spentFailures;
+    private boolean stopReported;
+
+    /**
+     * Creates state for new verification.
+     *
+     * @param commonSoftAssertion <code>CommonSoftAssertion</code> verification failures are passed to.
+     */
+    public VerificationState(CommonSoftAssertion commonSoftAssertion) {
+        this(commonSoftAssertion, null, null, new VerificationLimits(Integer.MAX_VALUE, 0L));
+    }
+
+    /**
+     * Creates state for new verification that is limited by number of failures and time according to received
+     * configuration. Time limit is counted from state creation.
+     *
+     * @param commonSoftAssertion <code>CommonSoftAssertion</code> verification failures are passed to.
+     * @param configuration       <code>AssertionConfiguration</code> with verification limits.
+     */
+    public VerificationState(CommonSoftAssertion commonSoftAssertion, AssertionConfiguration configuration) {
+        this(commonSoftAssertion, null, null,
+                new VerificationLimits(configuration.maxFailures(), configuration.timeoutMillis()));
+    }
+
+    private VerificationState(CommonSoftAssertion commonSoftAssertion, VerificationState parent,
+            VerificationState owner, VerificationLimits limits) {
+        this.commonSoftAssertion = new FailureLoggingSoftAssertion(commonSoftAssertion);
+        this.parent = parent;
+        this.owner = owner;
+        this.limits = limits;
+    }
+
+    /**
+     * Creates state for auxiliary verification at current thread that is stopped after received number of failures
+     * regardless of configuration. Time limit and interruption are checked on behalf of this state so they stop both
+     * auxiliary verification and this one and reason of stop is passed to soft assertion of this state. Auxiliary
+     * state treats pairs of objects that are being verified at current path of this state as cyclic references. This
+     * state shouldn't be changed until verification with auxiliary state is finished.
+     *
+     * @param commonSoftAssertion <code>CommonSoftAssertion</code> failures of auxiliary state are passed to.
+     * @param maxFailures         <code>int</code> with maximum number of failures.
+     * @return auxiliary <code>VerificationState</code>.
+     */
+    public VerificationState auxiliary(CommonSoftAssertion commonSoftAssertion, int maxFailures) {
+        return new VerificationState(commonSoftAssertion, null, this, new VerificationLimits(maxFailures, 0L));
+    }
+
+    /**
+     * Checks if limit of failures is reached by assertions passed to soft assertion of this state and stops
+     * verification if so. Is used to apply limit of failures to assertions recorded by forked states in order of
+     * verification while they are passed to this state.
+     *
+     * @return <code>true</code> if limit of failures is reached, <code>false</code> otherwise.
+     */
+    public boolean checkFailureLimit() {
+        if (spentFailures < limits.maxFailures) {
+            return false;
+        }
+        stop(String.format("Verification was stopped after %d failure(s), remaining values weren't verified.",
+                limits.maxFailures));
+        return true;
+    }
+
+    /**
+     * Checks if values of received field should be verified and marks them as being verified if so. Values are
+     * skipped if verification is stopped, if they are same object or if same pair of objects is already being
+     * verified at current path. If same pair of objects was already verified and there are neither field paths to
+     * ignore or to verify nor maximum depth that may make result of verification depend on field path its failures are
+     * replayed with received field trace and values are skipped.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> of field to check.
+     * @return <code>true</code> if field values should be verified, <code>false</code> otherwise.
+     */
+    public boolean enter(FieldVerificationConfiguration<?> fieldVerificationConfiguration) {
+        VerificationField<?> verificationField = fieldVerificationConfiguration.getVerificationField();
+        if (checkLimits()) {
+            log.debug(() -> String.format("Skipping '%s' as verification is stopped.", verificationField.trace()));
+            return false;
+        }
+        limits.verifiedValues.increment();
+        if (verificationField.actual() == verificationField.expected()) {
+            log.debug(() -> String.format("Skipping '%s' as actual and expected values are same object.",
+                    verificationField.trace()));
+            return false;
+        }
+        if (!isTracked(verificationField)) {
+            return true;
+        }
+        if (pairs == null) {
+            pairs = new IdentityPairMap<>();
+            failures = parent == null ? new ArrayList<>() : null;
+        }
+        PairVerification pairVerification = pairs.get(verificationField.actual(), verificationField.expected());
+        if (pairVerification != null && pairVerification.isOnPath() || isOnEnclosingPath(verificationField.actual(),
+                verificationField.expected())) {
+            log.debug(() -> String.format("Skipping '%s' as same objects are already being verified at this path.",
+                    verificationField.trace()));
+            return false;
+        }
+        if (pairVerification != null && failures != null && !isPathDependent(
+                fieldVerificationConfiguration.getConfiguration())) {
+            log.debug(() -> String.format("Replaying failures of '%s' for '%s' as same objects were already verified.",
+                    pairVerification.trace, verificationField.trace()));
+            replay(pairVerification, verificationField.trace());
+            return false;
+        }
+        if (failures == null) {
+            pairs.put(verificationField.actual(), verificationField.expected(),
+                    new PairVerification(verificationField.trace(), 0, null));
+        } else {
+            currentPair = new PairVerification(verificationField.trace(), failures.size(), currentPair);
+            pairs.put(verificationField.actual(), verificationField.expected(), currentPair);
+        }
+        return true;
+    }
+
+    /**
+     * Marks values of received field as verified.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> of verified field.
+     */
+    public void exit(FieldVerificationConfiguration<?> fieldVerificationConfiguration) {
+        VerificationField<?> verificationField = fieldVerificationConfiguration.getVerificationField();
+        if (verificationField.actual() == verificationField.expected() || !isTracked(verificationField)) {
+            return;
+        }
+        if (failures == null) {
+            // forked state doesn't memoize failures so pair is just removed from current path
+            pairs.put(verificationField.actual(), verificationField.expected(), null);
+        } else {
+            PairVerification pairVerification = pairs.get(verificationField.actual(), verificationField.expected());
+            pairVerification.lastFailure = failures.size();
+            currentPair = pairVerification.enclosing;
+        }
+    }
+
+    /**
+     * Creates state for part of this verification that is performed at other thread. Forked state treats pairs of
+     * objects that are being verified at current path of this state as cyclic references but doesn't memoize
+     * failures of verified pairs. Forked state stops silently when it reaches limit of failures on its own and
+     * doesn't report reason of stop, so its assertions should be passed to this state in order of verification with
+     * {@link #checkFailureLimit()} check between values and with {@link #reportStop()} call at the end. This state
+     * shouldn't be changed until verification with forked state is finished.
+     *
+     * @param commonSoftAssertion <code>CommonSoftAssertion</code> failures of forked state are passed to.
+     * @return forked <code>VerificationState</code>.
+     */
+    public VerificationState fork(CommonSoftAssertion commonSoftAssertion) {
+        return new VerificationState(commonSoftAssertion, this, null, limits);
+    }
+
+    /**
+     * Returns <code>CommonSoftAssertion</code> that passes assertions to soft assertion this state was created with
+     * and memoizes failures for replay.
+     */
+    public CommonSoftAssertion getCommonSoftAssertion() {
+        return commonSoftAssertion;
+    }
+
+    /**
+     * Checks if verification was stopped because of reached limit or interruption.
+     *
+     * @return <code>true</code> if verification was stopped, <code>false</code> otherwise.
+     */
+    public boolean isStopped() {
+        return limits.stopMessage.get() != null || spentFailures >= limits.maxFailures || owner != null && owner
+                .isStopped();
+    }
+
+    /**
+     * Passes reason of stop to soft assertion of this state if verification was stopped by forked state and reason
+     * wasn't reported yet.
+     */
+    public void reportStop() {
+        String stopMessage = limits.stopMessage.get();
+        if (stopMessage != null && parent == null && !stopReported) {
+            stopReported = true;
+            commonSoftAssertion.delegate.fail(stopMessage);
+        }
+    }
+
+    private static boolean isTraceEnd(String message, int index) {
+        if (index == message.length()) {
+            return true;
+        }
+        char character = message.charAt(index);
+        return character == '.' || character == '[' || character == ']' || character == '\'';
+    }
+
+    private static boolean isTraceStart(String message, int index) {
+        return index == 0 || message.charAt(index - 1) == '[' || message.charAt(index - 1) == '\'';
+    }
+
+    private static String removeArrayBrackets(String trace) {
+        return trace.endsWith("[]") ? trace.substring(0, trace.length() - 2) : trace;
+    }
+
+    private boolean checkLimits() {
+        if (limits.stopMessage.get() != null) {
+            return true;
+        }
+        if (spentFailures >= limits.maxFailures) {
+            // forked state stops silently as limit is applied again when its assertions are passed to parent state
+            if (parent == null) {
+                checkFailureLimit();
+            }
+            return true;
+        }
+        if (owner != null) {
+            // values of auxiliary verification are counted by owner so its time limit is checked periodically
+            return owner.checkLimits();
+        }
+        if (++enteredValues % LIMITS_CHECK_PERIOD != 0) {
+            return false;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            stop(String.format("Verification was interrupted after %d value(s) were verified.",
+                    limits.verifiedValues.sum()));
+            return true;
+        }
+        if (limits.timeoutMillis != 0L && System.nanoTime() - limits.deadline >= 0L) {
+            stop(String.format("Verification was stopped after %d ms timeout, %d value(s) were verified.",
+                    limits.timeoutMillis, limits.verifiedValues.sum()));
+            return true;
+        }
+        return false;
+    }
+
+    private int indexOfCurrentTrace(String message) {
+        if (currentPair == null) {
+            return -1;
+        }
+        // messages start with trace or wrap it into brackets or quotes so values that contain same text are skipped
+        String trace = removeArrayBrackets(currentPair.trace.getTrace());
+        int index = message.indexOf(trace);
+        while (index != -1 && !(isTraceStart(message, index) && isTraceEnd(message, index + trace.length()))) {
+            index = message.indexOf(trace, index + 1);
+        }
+        return index;
+    }
+
+    private boolean isOnEnclosingPath(Object actual, Object expected) {
+        // forked state continues path of its parent and auxiliary state continues path of its owner
+        return parent != null && parent.isOnPath(actual, expected) || owner != null && owner
+                .isOnPath(actual, expected);
+    }
+
+    private boolean isOnPath(Object actual, Object expected) {
+        PairVerification pairVerification = pairs == null ? null : pairs.get(actual, expected);
+        if (pairVerification != null && pairVerification.isOnPath()) {
+            return true;
+        }
+        return isOnEnclosingPath(actual, expected);
+    }
+
+    private boolean isPathDependent(AssertionConfiguration configuration) {
+        // depth of field trace decides if values are verified recursively so it is also part of path
+        return !configuration.fieldPathsToIgnore().isEmpty() || !configuration.fieldPathsToVerify().isEmpty()
+                || configuration.maxDepth() != Integer.MAX_VALUE;
+    }
+
+    private boolean isTracked(VerificationField<?> verificationField) {
+        return verificationField.actual() != null && verificationField.expected() != null && !ReflectionUtil
+                .isSimpleType(verificationField.expected().getClass());
+    }
+
+    private void replay(PairVerification pairVerification, FieldTrace fieldTrace) {
+        String oldTrace = removeArrayBrackets(pairVerification.trace.getTrace());
+        String newTrace = removeArrayBrackets(fieldTrace.getTrace());
+        // replayed failures are memoized again so they are also replayed for pairs that contain this one
+        for (int i = pairVerification.firstFailure; i < pairVerification.lastFailure; ++i) {
+            Failure failure = failures.get(i);
+            // trace of failed value continues trace of replayed pair from position found when failure was memoized
+            String message = failure.traceIndex == -1 || !failure.message.startsWith(oldTrace, failure.traceIndex)
+                    ? failure.message : failure.message.substring(0, failure.traceIndex) + newTrace + failure.message
+                    .substring(failure.traceIndex + oldTrace.length());
+            failure.assertion.accept(commonSoftAssertion, message);
+        }
+    }
+
+    private boolean spendFailure() {
+        if (limits.maxFailures == Integer.MAX_VALUE) {
+            return true;
+        }
+        if (spentFailures < limits.maxFailures) {
+            ++spentFailures;
+            return true;
+        }
+        checkLimits();
+        return false;
+    }
+
+    private void stop(String message) {
+        // only first reason of stop is reported
+        limits.stopMessage.compareAndSet(null, message);
+        reportStop();
+    }
+
+    /**
+     * Memoized failed assertion with position of field trace at its message.
+     */
+    private static final class Failure {
+
+        private final BiConsumer<CommonSoftAssertion, String> assertion;
+        private final String message;
+        private final int traceIndex;
+
+        private Failure(String message, int traceIndex, BiConsumer<CommonSoftAssertion, String> assertion) {
+            this.message = message;
+            this.traceIndex = traceIndex;
+            this.assertion = assertion;
+        }
+    }
+
+    /**
+     * Limits of verification and its progress that are shared with forked states.
+     */
+    private static final class VerificationLimits {
+
+        private final long deadline;
+        private final int maxFailures;
+        private final AtomicReference<String> stopMessage = new AtomicReference<>();
+        private final long timeoutMillis;
+        private final LongAdder verifiedValues = new LongAdder();
+
+        private VerificationLimits(int maxFailures, long timeoutMillis) {
+            this.maxFailures = maxFailures;
+            this.timeoutMillis = timeoutMillis;
+            this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        }
+    }
+
+    /**
+     * Passes assertions that may fail to delegate soft assertion and memoizes them. Assertions are dropped after limit
+     * of failures is reached.
+     */
+    private final class FailureLoggingSoftAssertion extends AbstractCommonSoftAssertion {
+
+        private final CommonSoftAssertion delegate;
+
+        private FailureLoggingSoftAssertion(CommonSoftAssertion delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void assertAll() {
+            delegate.assertAll();
+        }
+
+        @Override
+        public void fail(String message) {
+            if (!spendFailure()) {
+                return;
+            }
+            memoize(message, CommonSoftAssertion::fail);
+            delegate.fail(message);
+        }
+
+        @Override
+        protected void verifyEmpty(Object[] actual, String message) {
+            if (!spendFailure()) {
+                return;
+            }
+            memoize(message, (commonSoftAssertion, newMessage) -> commonSoftAssertion.assertEmpty(actual, newMessage));
+            delegate.assertEmpty(actual, message);
+        }
+
+        @Override
+        protected void verifyEmpty(Iterable<?> actual, String message) {
+            if (!spendFailure()) {
+                return;
+            }
+            memoize(message, (commonSoftAssertion, newMessage) -> commonSoftAssertion.assertEmpty(actual, newMessage));
+            delegate.assertEmpty(actual, message);
+        }
+
+        @Override
+        protected void verifyEmpty(Map<?, ?> actual, String message) {
+            if (!spendFailure()) {
+                return;
+            }
+            memoize(message, (commonSoftAssertion, newMessage) -> commonSoftAssertion.assertEmpty(actual, newMessage));
+            delegate.assertEmpty(actual, message);
+        }
+
+        @Override
+        protected void verifyEqualSize(Object[] actual, Object[] expected, String message) {
+            if (!spendFailure()) {
+                return;
+            }
+            memoize(message, (commonSoftAssertion, newMessage) -> commonSoftAssertion
+                    .assertEqualSize(actual, expected, newMessage));
+            delegate.assertEqualSize(actual, expected, message);
+        }
+
+        @Override
+        protected void verifyEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+            if (!spendFailure()) {
+                return;
+            }
+            memoize(message, (commonSoftAssertion, newMessage) -> commonSoftAssertion
+                    .assertEqualSize(actual, expected, newMessage));
+            delegate.assertEqualSize(actual, expected, message);
+        }
+
+        @Override
+        protected <T> void verifyEquals(T actual, T expected, String message) {
+            if (!spendFailure()) {
+                return;
+            }
+            memoize(message, (commonSoftAssertion, newMessage) -> commonSoftAssertion
+                    .assertEquals(actual, expected, newMessage));
+            delegate.assertEquals(actual, expected, message);
+        }
+
+        private void memoize(String message, BiConsumer<CommonSoftAssertion, String> assertion) {
+            if (failures != null) {
+                failures.add(new Failure(message, indexOfCurrentTrace(message), assertion));
+            }
+        }
+    }
+
+    /**
+     * Verification of single identity pair of actual and expected values that refers to verification of pair it is
+     * nested in.
+     */
+    private static final class PairVerification {
+
+        private final PairVerification enclosing;
+        private final int firstFailure;
+        private int lastFailure = -1;
+        private final FieldTrace trace;
+
+        private PairVerification(FieldTrace trace, int firstFailure, PairVerification enclosing) {
+            this.trace = trace;
+            this.firstFailure = firstFailure;
+            this.enclosing = enclosing;
+        }
+
+        private boolean isOnPath() {
+            return lastFailure == -1;
+        }
+    }
+}
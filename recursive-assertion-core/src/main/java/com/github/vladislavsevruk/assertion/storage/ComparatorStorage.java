@@ -41,6 +41,16 @@ public interface ComparatorStorage {
      */
     <T> void add(Class<T> clazz, Comparator<? super T> comparator);
 
+    /**
+     * Checks if there is comparator associated with received class or its superclasses.
+     *
+     * @param clazz <code>Class</code> to check.
+     * @return <code>true</code> if there is associated <code>Comparator</code>, <code>false</code> otherwise.
+     */
+    default boolean contains(Class<?> clazz) {
+        return get(clazz) != null;
+    }
+
     /**
      * Returns stored comparator associated with received class.
      *
@@ -60,6 +60,15 @@ public final class ComparatorStorageImpl implements ComparatorStorage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Class<?> clazz) {
+        return clazz != null && (comparatorMap.containsKey(clazz) || !ClassUtil
+                .getSuperclasses(clazz, comparatorMap.keySet()).isEmpty());
+    }
+
     /**
      * {@inheritDoc}
      */
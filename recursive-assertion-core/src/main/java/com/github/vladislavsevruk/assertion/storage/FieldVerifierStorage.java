@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.assertion.storage;
 
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
 import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
 
 import java.util.List;
@@ -62,6 +64,35 @@ public interface FieldVerifierStorage {
      */
     void addBefore(FieldVerifier customFieldVerifier, Class<? extends FieldVerifier> targetType);
 
+    /**
+     * Returns first <code>FieldVerifier</code> from list that is able to verify received field values.
+     *
+     * @param verificationField <code>VerificationField</code> to pick verifier for.
+     * @param <T>               type of verification field value.
+     * @return <code>FieldVerifier</code> that is able to verify received <code>VerificationField</code> or
+     * <code>null</code> if there is no such verifier at storage.
+     */
+    default <T> FieldVerifier get(VerificationField<T> verificationField) {
+        for (FieldVerifier verifier : getAll()) {
+            if (verifier.canVerify(verificationField)) {
+                return verifier;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns <code>FieldVerifier</code> to verify values of received field according to received configuration.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> to pick verifier for.
+     * @param <T>                            type of verification field value.
+     * @return <code>FieldVerifier</code> that is able to verify received field or <code>null</code> if there is no such
+     * verifier at storage.
+     */
+    default <T> FieldVerifier get(FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        return get(fieldVerificationConfiguration.getVerificationField());
+    }
+
     /**
      * Returns list of all <code>FieldVerifier</code>-s that are present at storage.
      */
@@ -24,14 +24,22 @@
 package com.github.vladislavsevruk.assertion.storage;
 
 import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
 import com.github.vladislavsevruk.assertion.util.ClassUtil;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
 import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
+import com.github.vladislavsevruk.assertion.verifier.FieldVerifierFactory;
 import com.github.vladislavsevruk.assertion.verifier.impl.ActualNullVerifier;
 import com.github.vladislavsevruk.assertion.verifier.impl.ArrayVerifier;
 import com.github.vladislavsevruk.assertion.verifier.impl.ComplexObjectVerifier;
+import com.github.vladislavsevruk.assertion.verifier.impl.DepthLimitVerifier;
 import com.github.vladislavsevruk.assertion.verifier.impl.ExpectedNullVerifier;
 import com.github.vladislavsevruk.assertion.verifier.impl.IterableVerifier;
 import com.github.vladislavsevruk.assertion.verifier.impl.MapVerifier;
+import com.github.vladislavsevruk.assertion.verifier.impl.NullValueVerifier;
+import com.github.vladislavsevruk.assertion.verifier.impl.PrimitiveArrayVerifier;
+import com.github.vladislavsevruk.assertion.verifier.impl.SetVerifier;
 import com.github.vladislavsevruk.assertion.verifier.impl.SimpleTypeVerifier;
 import lombok.extern.log4j.Log4j2;
 
@@ -39,11 +47,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * Implementation of <code>FieldVerifierStorage</code>.
+ * Implementation of <code>FieldVerifierStorage</code>. Resolves verifier for non-null values once per class of
+ * expected value and re-resolves it after any change of verifiers list.
  *
  * @see FieldVerifier
  * @see FieldVerifierStorage
@@ -52,10 +63,14 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public final class FieldVerifierStorageImpl implements FieldVerifierStorage {
 
     private static final ReadWriteLock VERIFIERS_LOCK = new ReentrantReadWriteLock();
+    private final DepthLimitVerifier depthLimitVerifier;
+    private volatile VerifierChain verifierChain;
     private List<FieldVerifier> verifiers = new LinkedList<>();
 
     public FieldVerifierStorageImpl(AssertionContext assertionContext) {
+        depthLimitVerifier = new DepthLimitVerifier(assertionContext);
         initVerifiers(assertionContext);
+        refreshVerifierChain();
     }
 
     /**
@@ -100,6 +115,31 @@ public final class FieldVerifierStorageImpl implements FieldVerifierStorage {
         VERIFIERS_LOCK.writeLock().unlock();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> FieldVerifier get(VerificationField<T> verificationField) {
+        VerifierChain chain = verifierChain;
+        if (verificationField.actual() == null || verificationField.expected() == null) {
+            return chain.pick(verificationField);
+        }
+        return chain.pickForType(verificationField);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> FieldVerifier get(FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+        if (verificationField.trace().getDepth() > fieldVerificationConfiguration.getConfiguration().maxDepth()
+                && depthLimitVerifier.canVerify(verificationField)) {
+            return depthLimitVerifier;
+        }
+        return get(verificationField);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -123,15 +163,89 @@ public final class FieldVerifierStorageImpl implements FieldVerifierStorage {
         }
         log.debug(() -> String.format("Added '%s' field verifier.", customFieldVerifier.getClass().getName()));
         verifiers.add(index, customFieldVerifier);
+        refreshVerifierChain();
     }
 
     private void initVerifiers(AssertionContext assertionContext) {
         verifiers.add(new ActualNullVerifier());
         verifiers.add(new ExpectedNullVerifier());
         verifiers.add(new SimpleTypeVerifier());
+        verifiers.add(new PrimitiveArrayVerifier());
         verifiers.add(new ArrayVerifier(assertionContext));
+        verifiers.add(new SetVerifier(assertionContext));
         verifiers.add(new IterableVerifier(assertionContext));
         verifiers.add(new MapVerifier(assertionContext));
         verifiers.add(new ComplexObjectVerifier(assertionContext));
+        loadProvidedVerifiers(assertionContext);
+    }
+
+    private void loadProvidedVerifiers(AssertionContext assertionContext) {
+        try {
+            for (FieldVerifierFactory fieldVerifierFactory : ServiceLoader.load(FieldVerifierFactory.class)) {
+                // provided verifiers are placed before verifier of complex objects
+                add(verifiers.size() - 1, fieldVerifierFactory.create(assertionContext));
+            }
+        } catch (ServiceConfigurationError scError) {
+            log.error("Failed to load provided field verifiers.", scError);
+        }
+    }
+
+    private void refreshVerifierChain() {
+        verifierChain = new VerifierChain(verifiers.toArray(new FieldVerifier[0]));
+    }
+
+    /**
+     * Immutable snapshot of verifiers list with cache of verifiers that may verify non-null values of certain class.
+     */
+    private static final class VerifierChain {
+
+        private final ClassValue<FieldVerifier[]> candidatesByType = new ClassValue<FieldVerifier[]>() {
+            @Override
+            protected FieldVerifier[] computeValue(Class<?> type) {
+                return resolveCandidates(type);
+            }
+        };
+        private final FieldVerifier[] verifiers;
+
+        private VerifierChain(FieldVerifier[] verifiers) {
+            this.verifiers = verifiers;
+        }
+
+        private <T> FieldVerifier pick(VerificationField<T> verificationField) {
+            for (FieldVerifier verifier : verifiers) {
+                if (verifier.canVerify(verificationField)) {
+                    return verifier;
+                }
+            }
+            return null;
+        }
+
+        private <T> FieldVerifier pickForType(VerificationField<T> verificationField) {
+            for (FieldVerifier verifier : candidatesByType.get(verificationField.expected().getClass())) {
+                // class based candidate is always the last one and is already known to match received type
+                if (verifier instanceof ClassBasedFieldVerifier || verifier.canVerify(verificationField)) {
+                    return verifier;
+                }
+            }
+            return null;
+        }
+
+        private FieldVerifier[] resolveCandidates(Class<?> type) {
+            List<FieldVerifier> candidates = new ArrayList<>();
+            for (FieldVerifier verifier : verifiers) {
+                if (verifier instanceof NullValueVerifier) {
+                    continue;
+                }
+                if (!(verifier instanceof ClassBasedFieldVerifier)) {
+                    candidates.add(verifier);
+                } else if (((ClassBasedFieldVerifier) verifier).canVerify(type)) {
+                    candidates.add(verifier);
+                    break;
+                }
+            }
+            log.debug(() -> String.format("Resolved %d verifier candidate(s) for '%s' class.", candidates.size(),
+                    type.getName()));
+            return candidates.toArray(new FieldVerifier[0]);
+        }
     }
 }
@@ -23,7 +23,10 @@
  */
 package com.github.vladislavsevruk.assertion.storage;
 
+import com.github.vladislavsevruk.assertion.field.IdentifierKeyExtractor;
+
 import java.lang.reflect.Field;
+import java.util.Collections;
 
 /**
  * Contains fields that should be used as identifiers for certain complex models at iterables and arrays.
@@ -39,11 +42,25 @@ public interface IdentifierFieldStorage {
     void add(Class<?> clazz, Field field);
 
     /**
-     * Returns stored identifier field associated with received class.
+     * Returns identifier field associated with received class. Field registered manually takes precedence over field
+     * marked by <code>VerificationId</code> annotation.
      *
      * @param clazz <code>Class</code> to get identifier for.
      * @return <code>Field</code> that should be used as identifier for received <code>Class</code> or <code>null</code>
-     * if there is no such field found.
+     * if there is no such field found or class has composite identifier.
      */
     Field get(Class<?> clazz);
+
+    /**
+     * Returns extractor of identifier key for received class. Default implementation builds extractor for identifier
+     * field returned by {@link #get(Class)} method.
+     *
+     * @param clazz <code>Class</code> to get identifier key extractor for.
+     * @return <code>IdentifierKeyExtractor</code> for identifier fields of received <code>Class</code> or
+     * <code>null</code> if there are no such fields found.
+     */
+    default IdentifierKeyExtractor getKeyExtractor(Class<?> clazz) {
+        Field identifierField = get(clazz);
+        return identifierField == null ? null : IdentifierKeyExtractor.of(Collections.singletonList(identifierField));
+    }
 }
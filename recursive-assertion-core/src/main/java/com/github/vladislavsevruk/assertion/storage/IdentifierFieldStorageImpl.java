@@ -23,12 +23,18 @@
  */
 package com.github.vladislavsevruk.assertion.storage;
 
+import com.github.vladislavsevruk.assertion.annotation.VerificationId;
+import com.github.vladislavsevruk.assertion.field.IdentifierKeyExtractor;
 import com.github.vladislavsevruk.assertion.util.ClassUtil;
+import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -39,7 +45,14 @@ import java.util.concurrent.ConcurrentHashMap;
 @Log4j2
 public final class IdentifierFieldStorageImpl implements IdentifierFieldStorage {
 
+    private static final ClassValue<List<Field>> ANNOTATED_FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            return findAnnotatedFields(type);
+        }
+    };
     private Map<Class<?>, Field> comparatorMap = new ConcurrentHashMap<>();
+    private Map<Class<?>, Optional<IdentifierKeyExtractor>> keyExtractors = new ConcurrentHashMap<>();
 
     /**
      * {@inheritDoc}
@@ -55,6 +68,8 @@ public final class IdentifierFieldStorageImpl implements IdentifierFieldStorage
         } else if (field.getDeclaringClass().isAssignableFrom(clazz)) {
             log.debug(() -> String.format("Added identifier field for '%s' class.", clazz.getName()));
             comparatorMap.put(clazz, field);
+            // manually added field may override identifiers of already resolved subclasses
+            keyExtractors.clear();
         } else {
             log.info(() -> String
                     .format("Identifier field wasn't added to storage: Field isn't related to '%s' class.",
@@ -71,6 +86,55 @@ public final class IdentifierFieldStorageImpl implements IdentifierFieldStorage
             log.debug("Received class is 'null'. Returning 'null'.");
             return null;
         }
+        Field registeredField = getRegisteredField(clazz);
+        if (registeredField != null) {
+            return registeredField;
+        }
+        List<Field> annotatedFields = ANNOTATED_FIELDS.get(clazz);
+        return annotatedFields.size() == 1 ? annotatedFields.get(0) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IdentifierKeyExtractor getKeyExtractor(Class<?> clazz) {
+        if (clazz == null) {
+            log.debug("Received class is 'null'. Returning 'null'.");
+            return null;
+        }
+        return keyExtractors.computeIfAbsent(clazz, this::createKeyExtractor).orElse(null);
+    }
+
+    private static List<Field> findAnnotatedFields(Class<?> clazz) {
+        List<Field> annotatedFields = new ArrayList<>();
+        if (ReflectionUtil.hasNonObjectSuperclass(clazz)) {
+            annotatedFields.addAll(ANNOTATED_FIELDS.get(clazz.getSuperclass()));
+        }
+        for (Field field : clazz.getDeclaredFields()) {
+            if (field.isAnnotationPresent(VerificationId.class) && !ReflectionUtil.isStatic(field)) {
+                annotatedFields.add(field);
+            }
+        }
+        return annotatedFields.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(annotatedFields);
+    }
+
+    private Optional<IdentifierKeyExtractor> createKeyExtractor(Class<?> clazz) {
+        Field registeredField = getRegisteredField(clazz);
+        if (registeredField != null) {
+            return Optional.of(IdentifierKeyExtractor.of(Collections.singletonList(registeredField)));
+        }
+        List<Field> annotatedFields = ANNOTATED_FIELDS.get(clazz);
+        if (annotatedFields.isEmpty()) {
+            log.debug(() -> String.format("There are no annotated identifier fields for '%s' class.", clazz.getName()));
+            return Optional.empty();
+        }
+        log.debug(() -> String.format("Found %d annotated identifier field(s) for '%s' class.", annotatedFields.size(),
+                clazz.getName()));
+        return Optional.of(IdentifierKeyExtractor.of(annotatedFields));
+    }
+
+    private Field getRegisteredField(Class<?> clazz) {
         Field exactMatchField = comparatorMap.get(clazz);
         if (exactMatchField != null) {
             log.debug(() -> String.format("Found exact matching field for '%s' class.", clazz.getName()));
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.util;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Contains utility methods for checking if soft assertion may fail before passing it to test framework.
+ */
+public final class AssertionUtil {
+
+    private AssertionUtil() {
+    }
+
+    /**
+     * Checks if assertion of equality of received values may fail.
+     *
+     * @param actual   actual value.
+     * @param expected expected value.
+     * @return <code>true</code> if values aren't equal or are containers, <code>false</code> otherwise.
+     */
+    public static boolean mayDiffer(Object actual, Object expected) {
+        // soft assertions of some frameworks compare containers by their own rules
+        return !Objects.equals(actual, expected) || actual instanceof Iterable || actual instanceof Map || (
+                actual != null && actual.getClass().isArray());
+    }
+
+    /**
+     * Checks if assertion of equality of received iterables sizes may fail.
+     *
+     * @param actual   actual iterable.
+     * @param expected expected iterable.
+     * @return <code>true</code> if sizes of collections differ or any of iterables isn't collection,
+     * <code>false</code> otherwise.
+     */
+    public static boolean mayDifferInSize(Iterable<?> actual, Iterable<?> expected) {
+        // sizes of iterables that aren't collections are left to soft assertion
+        return !(actual instanceof Collection) || !(expected instanceof Collection)
+                || ((Collection<?>) actual).size() != ((Collection<?>) expected).size();
+    }
+}
@@ -23,11 +23,12 @@
  */
 package com.github.vladislavsevruk.assertion.util;
 
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
 import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.storage.IdentifierFieldStorage;
-import lombok.extern.log4j.Log4j2;
 
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Checks if field path matches field path pattern. Field path pattern is full path to field using field names and dot
@@ -46,11 +47,22 @@ import java.util.Collection;
  *     element with custom identifier field value equal to <code>13</code></li>
  *   <li><code>root.array[customIdFieldName=13].field</code> will match <code>field</code> of <code>array</code> element
  *     with custom identifier field value equal to <code>13</code></li>
+ *   <li><code>root.*.field</code> will match <code>field</code> of any field of <code>root</code></li>
+ *   <li><code>root.audit*.field</code> will match <code>field</code> of any field of <code>root</code> which name starts
+ *     with <code>audit</code>, <code>?</code> will match any single symbol of field name</li>
+ *   <li><code>root./audit\d+/.field</code> will match <code>field</code> of any field of <code>root</code> which name
+ *     matches <code>audit\d+</code> regular expression</li>
+ *   <li><code>**.field</code> will match <code>field</code> at any depth, <code>**</code> will match any number of
+ *     path parts including none</li>
  * </ul>
+ * Wildcards and regular expressions are matched against field names without brackets so <code>root.*.field</code>
+ * will match <code>field</code> of every element of any iterable, array or map field of <code>root</code> as well.
+ * Patterns are compiled on every call so <code>CompiledFieldPaths</code> should be used for patterns that are checked
+ * against many field paths.
  *
+ * @see CompiledFieldPaths
  * @see IdentifierFieldStorage
  */
-@Log4j2
 public final class FieldPathMatcher {
 
     private FieldPathMatcher() {
@@ -64,18 +76,7 @@ public final class FieldPathMatcher {
      * @return <code>true</code> if received patterns matches received field path, <code>false</code> otherwise.
      */
     public static boolean isMatch(String pattern, FieldTrace fieldTrace) {
-        String[] patternParts = pattern.split("\\.");
-        String[] traceParts = fieldTrace.getTrace().split("\\.");
-        if (patternParts.length != traceParts.length) {
-            return false;
-        }
-        for (int i = 0; i < patternParts.length; ++i) {
-            if (!isPartMatch(patternParts[i], traceParts[i])) {
-                return false;
-            }
-        }
-        log.debug(() -> String.format("Field path '%s' matches '%s' pattern.", fieldTrace, pattern));
-        return true;
+        return CompiledFieldPaths.compile(Collections.singleton(pattern)).isMatch(fieldTrace);
     }
 
     /**
@@ -86,7 +87,7 @@ public final class FieldPathMatcher {
      * @return <code>true</code> if any of received patterns matches received field path, <code>false</code> otherwise.
      */
     public static boolean isMatchAny(Collection<String> patterns, FieldTrace fieldTrace) {
-        return patterns.stream().anyMatch(pattern -> isMatch(pattern, fieldTrace));
+        return CompiledFieldPaths.compile(patterns).isMatch(fieldTrace);
     }
 
     /**
@@ -97,17 +98,6 @@ public final class FieldPathMatcher {
      * @return <code>true</code> if none of received patterns matches received field path, <code>false</code> otherwise.
      */
     public static boolean isNoneMatch(Collection<String> patterns, FieldTrace fieldTrace) {
-        return patterns.stream().noneMatch(pattern -> isMatch(pattern, fieldTrace));
-    }
-
-    private static boolean isPartMatch(String patternPart, String tracePart) {
-        if (patternPart.equals(tracePart)) {
-            return true;
-        }
-        if (patternPart.contains("[")) {
-            return false;
-        }
-        return tracePart.startsWith(patternPart) && (tracePart.charAt(patternPart.length()) == '[' && tracePart
-                .endsWith("]"));
+        return !isMatchAny(patterns, fieldTrace);
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.util;
+
+/**
+ * Map that uses pairs of non-null objects as keys and compares them by identity. Keys and values are stored at plain
+ * arrays using open addressing with linear probing so no entry objects are created.
+ *
+ * @param <V> type of values.
+ */
+public final class IdentityPairMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private Object[] keys = new Object[INITIAL_CAPACITY * 2];
+    private int size;
+    private Object[] values = new Object[INITIAL_CAPACITY];
+
+    /**
+     * Returns value associated with received pair of objects.
+     *
+     * @param first  first object of pair.
+     * @param second second object of pair.
+     * @return value associated with received pair or <code>null</code> if there is no such pair at map.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object first, Object second) {
+        int slot = findSlot(keys, values.length, first, second);
+        return keys[slot * 2] == null ? null : (V) values[slot];
+    }
+
+    /**
+     * Associates received value with received pair of objects replacing previous value if any.
+     *
+     * @param first  first object of pair.
+     * @param second second object of pair.
+     * @param value  value to associate with pair.
+     */
+    public void put(Object first, Object second, V value) {
+        int slot = findSlot(keys, values.length, first, second);
+        if (keys[slot * 2] == null) {
+            keys[slot * 2] = first;
+            keys[slot * 2 + 1] = second;
+            ++size;
+        }
+        values[slot] = value;
+        if (size * 2 > values.length) {
+            resize();
+        }
+    }
+
+    /**
+     * Returns number of pairs at this map.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static int findSlot(Object[] keys, int capacity, Object first, Object second) {
+        int mask = capacity - 1;
+        int hash = System.identityHashCode(first) * 31 + System.identityHashCode(second);
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot * 2] != null && (keys[slot * 2] != first || keys[slot * 2 + 1] != second)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new Object[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        for (int i = 0; i < oldValues.length; ++i) {
+            if (oldKeys[i * 2] != null) {
+                int slot = findSlot(keys, values.length, oldKeys[i * 2], oldKeys[i * 2 + 1]);
+                keys[slot * 2] = oldKeys[i * 2];
+                keys[slot * 2 + 1] = oldKeys[i * 2 + 1];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
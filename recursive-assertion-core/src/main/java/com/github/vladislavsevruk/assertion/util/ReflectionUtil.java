@@ -23,6 +23,7 @@
  */
 package com.github.vladislavsevruk.assertion.util;
 
+import com.github.vladislavsevruk.assertion.field.FieldAccessor;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.Field;
@@ -37,6 +38,17 @@ import java.util.function.Predicate;
 @Log4j2
 public final class ReflectionUtil {
 
+    private static final ClassValue<Boolean> OVERRIDES_EQUALS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return !Object.class.equals(type.getMethod("equals", Object.class).getDeclaringClass());
+            } catch (NoSuchMethodException nsmEx) {
+                return false;
+            }
+        }
+    };
+
     private ReflectionUtil() {
     }
 
@@ -47,16 +59,7 @@ public final class ReflectionUtil {
      * @param object <code>Object</code> to get field value of.
      */
     public static Object getFieldValue(Field field, Object object) {
-        boolean isAccessible = field.isAccessible();
-        try {
-            field.setAccessible(true);
-            return field.get(object);
-        } catch (IllegalAccessException iaEx) {
-            log.error(() -> "Failed to get access to field " + field.getName(), iaEx);
-            return null;
-        } finally {
-            field.setAccessible(isAccessible);
-        }
+        return FieldAccessor.of(field).get(object);
     }
 
     /**
@@ -113,6 +116,18 @@ public final class ReflectionUtil {
         return Modifier.isStatic(fieldModifiers);
     }
 
+    /**
+     * Checks if received class has own <code>equals</code> method instead of identity check inherited from
+     * <code>Object</code>. Result is cached per class.
+     *
+     * @param clazz <code>Class</code> to check.
+     * @return <code>true</code> if class or one of its superclasses overrides <code>equals</code> method,
+     * <code>false</code> otherwise.
+     */
+    public static boolean overridesEquals(Class<?> clazz) {
+        return OVERRIDES_EQUALS.get(clazz);
+    }
+
     /**
      * Performs received action on received <code>Field</code>.
      *
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.util;
+
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
+import com.github.vladislavsevruk.assertion.field.ClassFieldsPlan;
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
+import com.github.vladislavsevruk.assertion.field.FieldAccessor;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Contains utility methods for computing structural hash of models. Structural hash is computed from values of model
+ * fields according to verification rules: ignored fields and fields that aren't on paths to verify are skipped,
+ * empty containers are hashed as <code>null</code> values and elements of sets and unordered collections don't affect
+ * hash by their order. Models that are verified as equal usually have same structural hash, but equal hashes don't
+ * guarantee equality of models.
+ */
+public final class StructuralHashUtil {
+
+    private static final int MAX_HASH_DEPTH = 16;
+
+    private StructuralHashUtil() {
+    }
+
+    /**
+     * Computes structural hash of received value.
+     *
+     * @param value         value to compute hash of.
+     * @param fieldTrace    <code>FieldTrace</code> of received value.
+     * @param configuration <code>AssertionConfiguration</code> with verification rules.
+     * @return <code>int</code> with structural hash of received value.
+     */
+    public static int hash(Object value, FieldTrace fieldTrace, AssertionConfiguration configuration) {
+        boolean trackPaths = !configuration.compiledFieldPathsToIgnore().isEmpty() || !configuration
+                .compiledFieldPathsToVerify().isEmpty();
+        Set<Object> hashedModels = Collections.newSetFromMap(new IdentityHashMap<>());
+        return hash(value, trackPaths ? fieldTrace : null, fieldTrace.getDepth(), 0, configuration, hashedModels);
+    }
+
+    private static int hash(Object value, FieldTrace fieldTrace, int depth, int hashDepth,
+            AssertionConfiguration configuration, Set<Object> hashedModels) {
+        if (value == null || depth > configuration.maxDepth() || hashDepth > MAX_HASH_DEPTH) {
+            return 0;
+        }
+        Class<?> clazz = value.getClass();
+        if (ReflectionUtil.isSimpleType(clazz)) {
+            return value.hashCode();
+        }
+        if (clazz.isArray()) {
+            return hashArray(value, fieldTrace, depth, hashDepth, configuration, hashedModels);
+        }
+        if (!hashedModels.add(value)) {
+            // cyclic references don't affect hash
+            return 0;
+        }
+        int hash;
+        if (value instanceof Iterable) {
+            hash = hashIterable((Iterable<?>) value, fieldTrace, depth, hashDepth, configuration, hashedModels);
+        } else if (value instanceof Map) {
+            hash = hashMap((Map<?, ?>) value, fieldTrace, depth, hashDepth, configuration, hashedModels);
+        } else {
+            hash = hashFields(value, fieldTrace, depth, hashDepth, configuration, hashedModels);
+        }
+        hashedModels.remove(value);
+        return hash;
+    }
+
+    private static int hashArray(Object array, FieldTrace fieldTrace, int depth, int hashDepth,
+            AssertionConfiguration configuration, Set<Object> hashedModels) {
+        boolean isUnordered = isUnordered(configuration);
+        int hash = 0;
+        int length = Array.getLength(array);
+        for (int i = 0; i < length; ++i) {
+            FieldTrace elementTrace = fieldTrace == null ? null : fieldTrace.index(i);
+            int elementHash = hash(Array.get(array, i), elementTrace, depth + 1, hashDepth + 1, configuration,
+                    hashedModels);
+            hash = isUnordered ? hash + elementHash : 31 * hash + elementHash;
+        }
+        return length == 0 ? 0 : 31 * hash + length;
+    }
+
+    private static int hashFields(Object model, FieldTrace fieldTrace, int depth, int hashDepth,
+            AssertionConfiguration configuration, Set<Object> hashedModels) {
+        CompiledFieldPaths fieldPathsToIgnore = configuration.compiledFieldPathsToIgnore();
+        CompiledFieldPaths fieldPathsToVerify = configuration.compiledFieldPathsToVerify();
+        boolean checkFieldPaths = fieldTrace != null && fieldPathsToIgnore.mayMatchBelow(fieldTrace);
+        boolean checkPathsToVerify = fieldTrace != null && !fieldPathsToVerify.isEmpty() && !fieldPathsToVerify
+                .isWithinMatch(fieldTrace);
+        int hash = 1;
+        for (FieldAccessor fieldAccessor : ClassFieldsPlan.of(model.getClass())
+                .getFields(configuration.fieldsToIgnore())) {
+            FieldTrace innerFieldTrace = fieldTrace == null ? null : fieldTrace.field(fieldAccessor.getField());
+            if (checkFieldPaths && fieldPathsToIgnore.isMatch(innerFieldTrace)
+                    || checkPathsToVerify && !fieldPathsToVerify.isOnMatchPath(innerFieldTrace)) {
+                continue;
+            }
+            hash = 31 * hash + hash(fieldAccessor.get(model), innerFieldTrace, depth + 1, hashDepth + 1,
+                    configuration, hashedModels);
+        }
+        return hash;
+    }
+
+    private static int hashIterable(Iterable<?> iterable, FieldTrace fieldTrace, int depth, int hashDepth,
+            AssertionConfiguration configuration, Set<Object> hashedModels) {
+        boolean isUnordered = iterable instanceof Set || isUnordered(configuration);
+        int hash = 0;
+        int size = 0;
+        for (Object element : iterable) {
+            FieldTrace elementTrace = fieldTrace == null ? null : fieldTrace.index(size);
+            int elementHash = hash(element, elementTrace, depth + 1, hashDepth + 1, configuration, hashedModels);
+            hash = isUnordered ? hash + elementHash : 31 * hash + elementHash;
+            ++size;
+        }
+        return size == 0 ? 0 : 31 * hash + size;
+    }
+
+    private static int hashMap(Map<?, ?> map, FieldTrace fieldTrace, int depth, int hashDepth,
+            AssertionConfiguration configuration, Set<Object> hashedModels) {
+        int hash = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            FieldTrace valueTrace = fieldTrace == null ? null : fieldTrace.key(entry.getKey());
+            hash += hash(entry.getKey(), null, depth + 1, hashDepth + 1, configuration, hashedModels) ^ hash(
+                    entry.getValue(), valueTrace, depth + 1, hashDepth + 1, configuration, hashedModels);
+        }
+        return map.isEmpty() ? 0 : 31 * hash + map.size();
+    }
+
+    private static boolean isUnordered(AssertionConfiguration configuration) {
+        return configuration.sortCollections() || configuration.matchUnorderedElements();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier;
+
+import com.github.vladislavsevruk.assertion.util.AssertionUtil;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Base implementation of <code>CommonSoftAssertion</code> that checks values locally and passes to descendant only
+ * assertions that may fail, so assertion objects of test framework and messages are created only for mismatches.
+ */
+public abstract class AbstractCommonSoftAssertion implements CommonSoftAssertion {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEmpty(Object[] actual, String message) {
+        if (actual.length != 0) {
+            verifyEmpty(actual, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEmpty(Object[] actual, Supplier<String> messageSupplier) {
+        if (actual.length != 0) {
+            verifyEmpty(actual, messageSupplier.get());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEmpty(Iterable<?> actual, String message) {
+        if (actual.iterator().hasNext()) {
+            verifyEmpty(actual, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEmpty(Iterable<?> actual, Supplier<String> messageSupplier) {
+        if (actual.iterator().hasNext()) {
+            verifyEmpty(actual, messageSupplier.get());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEmpty(Map<?, ?> actual, String message) {
+        if (!actual.isEmpty()) {
+            verifyEmpty(actual, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEmpty(Map<?, ?> actual, Supplier<String> messageSupplier) {
+        if (!actual.isEmpty()) {
+            verifyEmpty(actual, messageSupplier.get());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEqualSize(Object[] actual, Object[] expected, String message) {
+        if (actual.length != expected.length) {
+            verifyEqualSize(actual, expected, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEqualSize(Object[] actual, Object[] expected, Supplier<String> messageSupplier) {
+        if (actual.length != expected.length) {
+            verifyEqualSize(actual, expected, messageSupplier.get());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+        if (AssertionUtil.mayDifferInSize(actual, expected)) {
+            verifyEqualSize(actual, expected, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertEqualSize(Iterable<?> actual, Iterable<?> expected, Supplier<String> messageSupplier) {
+        if (AssertionUtil.mayDifferInSize(actual, expected)) {
+            verifyEqualSize(actual, expected, messageSupplier.get());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void assertEquals(T actual, T expected, String message) {
+        if (AssertionUtil.mayDiffer(actual, expected)) {
+            verifyEquals(actual, expected, message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void assertEquals(T actual, T expected, Supplier<String> messageSupplier) {
+        if (AssertionUtil.mayDiffer(actual, expected)) {
+            verifyEquals(actual, expected, messageSupplier.get());
+        }
+    }
+
+    /**
+     * Verifies that received non-empty array is empty.
+     *
+     * @param actual  value to verify.
+     * @param message assertion message.
+     */
+    protected abstract void verifyEmpty(Object[] actual, String message);
+
+    /**
+     * Verifies that received iterable that may have elements is empty.
+     *
+     * @param actual  value to verify.
+     * @param message assertion message.
+     */
+    protected abstract void verifyEmpty(Iterable<?> actual, String message);
+
+    /**
+     * Verifies that received non-empty map is empty.
+     *
+     * @param actual  value to verify.
+     * @param message assertion message.
+     */
+    protected abstract void verifyEmpty(Map<?, ?> actual, String message);
+
+    /**
+     * Verifies that actual array has equal size as expected array of different size.
+     *
+     * @param actual   value to verify.
+     * @param expected expected value.
+     * @param message  assertion message.
+     */
+    protected abstract void verifyEqualSize(Object[] actual, Object[] expected, String message);
+
+    /**
+     * Verifies that actual iterable has equal size as expected iterable when sizes may differ.
+     *
+     * @param actual   value to verify.
+     * @param expected expected value.
+     * @param message  assertion message.
+     */
+    protected abstract void verifyEqualSize(Iterable<?> actual, Iterable<?> expected, String message);
+
+    /**
+     * Verifies that received actual value is equal to received expected value when they may differ.
+     *
+     * @param actual   value to verify.
+     * @param expected expected value.
+     * @param message  assertion message.
+     * @param <T>      type of value to verify.
+     */
+    protected abstract <T> void verifyEquals(T actual, T expected, String message);
+}
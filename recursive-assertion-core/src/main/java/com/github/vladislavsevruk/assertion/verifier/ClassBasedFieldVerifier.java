@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier;
+
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+
+/**
+ * Verifies field value according to rules specified by this verifier. Ability of such verifier to verify field values
+ * depends only on type of expected value so it can be resolved once per class for non-null values.
+ */
+public interface ClassBasedFieldVerifier extends FieldVerifier {
+
+    /**
+     * Checks if current implementation is able to verify non-null values of received type.
+     *
+     * @param clazz <code>Class</code> of expected value.
+     * @return <code>true</code> if this implementation is able to verify values of received <code>Class</code>,
+     * <code>false</code> otherwise.
+     */
+    boolean canVerify(Class<?> clazz);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default <T> boolean canVerify(VerificationField<T> verificationField) {
+        return canVerify(verificationField.expected().getClass());
+    }
+}
@@ -23,10 +23,14 @@
  */
 package com.github.vladislavsevruk.assertion.verifier;
 
+import com.github.vladislavsevruk.assertion.util.AssertionUtil;
+
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
- * Provides common interface with required soft assertion actions for different test frameworks.
+ * Provides common interface with required soft assertion actions for different test frameworks. Assertions with
+ * message supplier build message only if assertion may fail and skip assertions that can't fail.
  */
 public interface CommonSoftAssertion {
 
@@ -43,6 +47,18 @@ public interface CommonSoftAssertion {
      */
     void assertEmpty(Object[] actual, String message);
 
+    /**
+     * Verifies that received array is empty.
+     *
+     * @param actual          value to verify.
+     * @param messageSupplier <code>Supplier</code> of assertion message.
+     */
+    default void assertEmpty(Object[] actual, Supplier<String> messageSupplier) {
+        if (actual.length != 0) {
+            assertEmpty(actual, messageSupplier.get());
+        }
+    }
+
     /**
      * Verifies that received iterable is empty.
      *
@@ -51,6 +67,18 @@ public interface CommonSoftAssertion {
      */
     void assertEmpty(Iterable<?> actual, String message);
 
+    /**
+     * Verifies that received iterable is empty.
+     *
+     * @param actual          value to verify.
+     * @param messageSupplier <code>Supplier</code> of assertion message.
+     */
+    default void assertEmpty(Iterable<?> actual, Supplier<String> messageSupplier) {
+        if (actual.iterator().hasNext()) {
+            assertEmpty(actual, messageSupplier.get());
+        }
+    }
+
     /**
      * Verifies that received map is empty.
      *
@@ -59,6 +87,18 @@ public interface CommonSoftAssertion {
      */
     void assertEmpty(Map<?, ?> actual, String message);
 
+    /**
+     * Verifies that received map is empty.
+     *
+     * @param actual          value to verify.
+     * @param messageSupplier <code>Supplier</code> of assertion message.
+     */
+    default void assertEmpty(Map<?, ?> actual, Supplier<String> messageSupplier) {
+        if (!actual.isEmpty()) {
+            assertEmpty(actual, messageSupplier.get());
+        }
+    }
+
     /**
      * Verifies that actual array has equal size as expected array.
      *
@@ -68,6 +108,19 @@ public interface CommonSoftAssertion {
      */
     void assertEqualSize(Object[] actual, Object[] expected, String message);
 
+    /**
+     * Verifies that actual array has equal size as expected array.
+     *
+     * @param actual          value to verify.
+     * @param expected        expected value.
+     * @param messageSupplier <code>Supplier</code> of assertion message.
+     */
+    default void assertEqualSize(Object[] actual, Object[] expected, Supplier<String> messageSupplier) {
+        if (actual.length != expected.length) {
+            assertEqualSize(actual, expected, messageSupplier.get());
+        }
+    }
+
     /**
      * Verifies that actual iterable has equal size as expected iterable.
      *
@@ -77,6 +130,19 @@ public interface CommonSoftAssertion {
      */
     void assertEqualSize(Iterable<?> actual, Iterable<?> expected, String message);
 
+    /**
+     * Verifies that actual iterable has equal size as expected iterable.
+     *
+     * @param actual          value to verify.
+     * @param expected        expected value.
+     * @param messageSupplier <code>Supplier</code> of assertion message.
+     */
+    default void assertEqualSize(Iterable<?> actual, Iterable<?> expected, Supplier<String> messageSupplier) {
+        if (AssertionUtil.mayDifferInSize(actual, expected)) {
+            assertEqualSize(actual, expected, messageSupplier.get());
+        }
+    }
+
     /**
      * Verifies that received actual value is equal to received expected value.
      *
@@ -87,6 +153,20 @@ public interface CommonSoftAssertion {
      */
     <T> void assertEquals(T actual, T expected, String message);
 
+    /**
+     * Verifies that received actual value is equal to received expected value.
+     *
+     * @param actual          value to verify.
+     * @param expected        expected value.
+     * @param messageSupplier <code>Supplier</code> of assertion message.
+     * @param <T>             type of value to verify.
+     */
+    default <T> void assertEquals(T actual, T expected, Supplier<String> messageSupplier) {
+        if (AssertionUtil.mayDiffer(actual, expected)) {
+            assertEquals(actual, expected, messageSupplier.get());
+        }
+    }
+
     /**
      * Adds failed assertion with received message.
      *
@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of <code>CommonSoftAssertion</code> that may be used by several threads at once, for example to
+ * collect verifications of dataset partitions verified at parallel stream into single report. Assertions that may
+ * fail are collected to lock-free queue and passed to delegate soft assertion at <code>assertAll</code> call.
+ * Assertions of verifications started with {@link #forVerification(String)} are grouped by names of verified objects
+ * and keep order in which they were collected by verification, so report doesn't depend on threads scheduling.
+ * Assertions passed directly to this soft assertion precede them in order of their collection.
+ */
+public final class ConcurrentSoftAssertion extends AbstractCommonSoftAssertion {
+
+    private static final Comparator<Assertion> ASSERTION_COMPARATOR = Comparator
+            .comparing((Assertion assertion) -> assertion.verificationName,
+                    Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingInt(assertion -> assertion.verificationIndex)
+            .thenComparingInt(assertion -> assertion.sequenceNumber);
+    private final Queue<Assertion> assertions = new ConcurrentLinkedQueue<>();
+    private final CommonSoftAssertion delegate;
+    private final AtomicInteger verificationsCount = new AtomicInteger();
+
+    /**
+     * Creates concurrent soft assertion that passes collected assertions to received soft assertion.
+     *
+     * @param delegate <code>CommonSoftAssertion</code> of testing framework to pass collected assertions to.
+     */
+    public ConcurrentSoftAssertion(CommonSoftAssertion delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Passes collected assertions to delegate soft assertion grouped by names of verified objects and verifies all of
+     * them. Should be called after all threads finished their verifications.
+     */
+    @Override
+    public void assertAll() {
+        List<Assertion> collectedAssertions = new ArrayList<>();
+        Assertion assertion;
+        while ((assertion = assertions.poll()) != null) {
+            collectedAssertions.add(assertion);
+        }
+        // sorting is stable so assertions passed directly keep order of their collection
+        collectedAssertions.sort(ASSERTION_COMPARATOR);
+        for (Assertion collectedAssertion : collectedAssertions) {
+            collectedAssertion.assertion.accept(delegate);
+        }
+        delegate.assertAll();
+    }
+
+    /**
+     * Creates soft assertion that collects assertions of single verification to this soft assertion. Assertions of
+     * verification are numbered at collection, so they should be passed to it by one thread at a time.
+     *
+     * @param verificationName <code>String</code> with name of verified object to group assertions by.
+     * @return <code>CommonSoftAssertion</code> for single verification.
+     */
+    public CommonSoftAssertion forVerification(String verificationName) {
+        return new VerificationSoftAssertion(verificationName, verificationsCount.getAndIncrement());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void verifyEmpty(Object[] actual, String message) {
+        collect(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void verifyEmpty(Iterable<?> actual, String message) {
+        collect(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void verifyEmpty(Map<?, ?> actual, String message) {
+        collect(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void verifyEqualSize(Object[] actual, Object[] expected, String message) {
+        collect(commonSoftAssertion -> commonSoftAssertion.assertEqualSize(actual, expected, message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void verifyEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+        collect(commonSoftAssertion -> commonSoftAssertion.assertEqualSize(actual, expected, message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected <T> void verifyEquals(T actual, T expected, String message) {
+        collect(commonSoftAssertion -> commonSoftAssertion.assertEquals(actual, expected, message));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fail(String message) {
+        collect(commonSoftAssertion -> commonSoftAssertion.fail(message));
+    }
+
+    private void collect(Consumer<CommonSoftAssertion> assertion) {
+        assertions.add(new Assertion(null, -1, 0, assertion));
+    }
+
+    /**
+     * Collected assertion that may fail with position in report.
+     */
+    private static final class Assertion {
+
+        private final Consumer<CommonSoftAssertion> assertion;
+        private final int sequenceNumber;
+        private final int verificationIndex;
+        private final String verificationName;
+
+        private Assertion(String verificationName, int verificationIndex, int sequenceNumber,
+                Consumer<CommonSoftAssertion> assertion) {
+            this.verificationName = verificationName;
+            this.verificationIndex = verificationIndex;
+            this.sequenceNumber = sequenceNumber;
+            this.assertion = assertion;
+        }
+    }
+
+    /**
+     * Collects assertions of single verification to enclosing soft assertion numbering them in order of collection.
+     */
+    private final class VerificationSoftAssertion extends AbstractCommonSoftAssertion {
+
+        private int collectedAssertions;
+        private final int verificationIndex;
+        private final String verificationName;
+
+        private VerificationSoftAssertion(String verificationName, int verificationIndex) {
+            this.verificationName = verificationName;
+            this.verificationIndex = verificationIndex;
+        }
+
+        @Override
+        public void assertAll() {
+            ConcurrentSoftAssertion.this.assertAll();
+        }
+
+        @Override
+        public void fail(String message) {
+            collect(commonSoftAssertion -> commonSoftAssertion.fail(message));
+        }
+
+        @Override
+        protected void verifyEmpty(Object[] actual, String message) {
+            collect(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+        }
+
+        @Override
+        protected void verifyEmpty(Iterable<?> actual, String message) {
+            collect(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+        }
+
+        @Override
+        protected void verifyEmpty(Map<?, ?> actual, String message) {
+            collect(commonSoftAssertion -> commonSoftAssertion.assertEmpty(actual, message));
+        }
+
+        @Override
+        protected void verifyEqualSize(Object[] actual, Object[] expected, String message) {
+            collect(commonSoftAssertion -> commonSoftAssertion.assertEqualSize(actual, expected, message));
+        }
+
+        @Override
+        protected void verifyEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+            collect(commonSoftAssertion -> commonSoftAssertion.assertEqualSize(actual, expected, message));
+        }
+
+        @Override
+        protected <T> void verifyEquals(T actual, T expected, String message) {
+            collect(commonSoftAssertion -> commonSoftAssertion.assertEquals(actual, expected, message));
+        }
+
+        private void collect(Consumer<CommonSoftAssertion> assertion) {
+            assertions.add(new Assertion(verificationName, verificationIndex, collectedAssertions++, assertion));
+        }
+    }
+}
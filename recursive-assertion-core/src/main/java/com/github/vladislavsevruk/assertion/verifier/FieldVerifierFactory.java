@@ -0,0 +1,43 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier;
+
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+
+/**
+ * Creates field verifier for assertion context. Implementations listed at
+ * <code>META-INF/services/com.github.vladislavsevruk.assertion.verifier.FieldVerifierFactory</code> are loaded using
+ * <code>ServiceLoader</code> and created verifiers are added to field verifier storage of every new context before
+ * verifier of complex objects.
+ */
+public interface FieldVerifierFactory {
+
+    /**
+     * Creates field verifier for received context.
+     *
+     * @param assertionContext <code>AssertionContext</code> to create verifier for.
+     * @return created <code>FieldVerifier</code>.
+     */
+    FieldVerifier create(AssertionContext assertionContext);
+}
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier.impl;
+
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Base class for verifiers of certain model class that read field values directly without reflection. Descendants are
+ * expected to be generated by annotation processor and pass values of every field to <code>verifyField</code> method
+ * except equal values of primitive and simple types.
+ */
+@Log4j2
+public abstract class AbstractGeneratedObjectVerifier implements ClassBasedFieldVerifier {
+
+    private AssertionContext assertionContext;
+    private final Class<?> modelClass;
+
+    protected AbstractGeneratedObjectVerifier(AssertionContext assertionContext, Class<?> modelClass) {
+        this.assertionContext = assertionContext;
+        this.modelClass = modelClass;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canVerify(Class<?> clazz) {
+        return modelClass == clazz;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void verify(final FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        log.debug(() -> String.format("Verifying '%s' model object using generated verifier.", modelClass.getName()));
+        VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+        verifyFields(fieldVerificationConfiguration, verificationField.actual(), verificationField.expected());
+    }
+
+    /**
+     * Passes values of field with received name to assertion engine if field isn't ignored by name or path and is
+     * placed on paths to verify if there are any.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> of verified model.
+     * @param fieldName                      <code>String</code> with name of field.
+     * @param actualValue                    actual field value.
+     * @param expectedValue                  expected field value.
+     */
+    protected void verifyField(FieldVerificationConfiguration<?> fieldVerificationConfiguration, String fieldName,
+            Object actualValue, Object expectedValue) {
+        if (fieldVerificationConfiguration.getConfiguration().fieldsToIgnore().contains(fieldName)) {
+            log.debug(() -> String.format("Skipping '%s' field by name.", fieldName));
+            return;
+        }
+        FieldTrace fieldTrace = fieldVerificationConfiguration.getVerificationField().trace();
+        CompiledFieldPaths fieldPathsToIgnore = fieldVerificationConfiguration.getConfiguration()
+                .compiledFieldPathsToIgnore();
+        FieldTrace innerFieldTrace = fieldTrace.field(fieldName);
+        if (fieldPathsToIgnore.mayMatchBelow(fieldTrace) && fieldPathsToIgnore.isMatch(innerFieldTrace)) {
+            log.debug(() -> String.format("Skipping '%s' field by trace '%s'.", fieldName, innerFieldTrace));
+            return;
+        }
+        CompiledFieldPaths fieldPathsToVerify = fieldVerificationConfiguration.getConfiguration()
+                .compiledFieldPathsToVerify();
+        if (!fieldPathsToVerify.isEmpty() && !fieldPathsToVerify.isWithinMatch(fieldTrace) && !fieldPathsToVerify
+                .isOnMatchPath(innerFieldTrace)) {
+            log.debug(() -> String.format("Skipping '%s' field as trace '%s' isn't on path to verify.", fieldName,
+                    innerFieldTrace));
+            return;
+        }
+        VerificationField<Object> innerField = new VerificationField<>(actualValue, expectedValue, innerFieldTrace);
+        assertionContext.getAssertionEngine().compareObjects(fieldVerificationConfiguration.forInnerField(innerField));
+    }
+
+    /**
+     * Verifies fields of received actual and expected model objects.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> of verified model.
+     * @param actual                         actual model object.
+     * @param expected                       expected model object.
+     */
+    protected abstract void verifyFields(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Object actual, Object expected);
+}
@@ -23,6 +23,7 @@
  */
 package com.github.vladislavsevruk.assertion.verifier.impl;
 
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
 import com.github.vladislavsevruk.assertion.field.VerificationField;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
@@ -49,15 +50,15 @@ public class ActualNullVerifier extends NullValueVerifier {
     public <T> void verify(final FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
         log.debug(() -> "Verifying when actual value is 'null'.");
         VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
-        String trace = verificationField.trace().getTrace();
+        FieldTrace fieldTrace = verificationField.trace();
         T expected = verificationField.expected();
         CommonSoftAssertion commonSoftAssertion = fieldVerificationConfiguration.getCommonSoftAssertion();
         if (shouldCompareIfEmpty(expected, fieldVerificationConfiguration.getConfiguration())) {
             log.debug(() -> "Verifying that expected value is empty collection or array.");
-            compareIfEmpty(commonSoftAssertion, expected, trace);
+            compareIfEmpty(commonSoftAssertion, expected, fieldTrace);
         } else {
             log.debug(() -> "Verifying that expected value is 'null' as well.");
-            commonSoftAssertion.assertEquals(null, expected, trace);
+            commonSoftAssertion.assertEquals(null, expected, fieldTrace::getTrace);
         }
     }
 }
\ No newline at end of file
@@ -27,20 +27,21 @@ import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration
 import com.github.vladislavsevruk.assertion.context.AssertionContext;
 import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.IdentifierKeyExtractor;
 import com.github.vladislavsevruk.assertion.field.VerificationField;
 import com.github.vladislavsevruk.assertion.util.ClassUtil;
 import com.github.vladislavsevruk.assertion.util.SortUtil;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
-import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
 import lombok.extern.log4j.Log4j2;
 
-import java.lang.reflect.Field;
+import java.util.Arrays;
 
 /**
- * Verifies value of field with array type.
+ * Verifies value of field with array of objects type.
  */
 @Log4j2
-public class ArrayVerifier extends ElementSequenceVerifier implements FieldVerifier {
+public class ArrayVerifier extends ElementSequenceVerifier implements ClassBasedFieldVerifier {
 
     public ArrayVerifier(AssertionContext assertionContext) {
         super(assertionContext);
@@ -50,9 +51,8 @@ public class ArrayVerifier extends ElementSequenceVerifier implements FieldVerif
      * {@inheritDoc}
      */
     @Override
-    public <T> boolean canVerify(VerificationField<T> verificationField) {
-        Class<?> clazz = verificationField.expected().getClass();
-        return clazz.isArray();
+    public boolean canVerify(Class<?> clazz) {
+        return clazz.isArray() && !clazz.getComponentType().isPrimitive();
     }
 
     /**
@@ -71,8 +71,7 @@ public class ArrayVerifier extends ElementSequenceVerifier implements FieldVerif
             log.debug(() -> "Breaking verifications on length inequality.");
             return;
         }
-        verifyArrayElements(commonSoftAssertion, actualValues, expectedValues, assertionConfiguration,
-                verificationField.trace());
+        verifyArrayElements(fieldVerificationConfiguration, actualValues, expectedValues, verificationField.trace());
     }
 
     private boolean shouldBreakOnLengthInequality(AssertionConfiguration assertionConfiguration, Object[] actualValues,
@@ -80,41 +79,36 @@ public class ArrayVerifier extends ElementSequenceVerifier implements FieldVerif
         return assertionConfiguration.breakOnSizeInequality() && actualValues.length != expectedValues.length;
     }
 
-    private void verifyArrayElement(CommonSoftAssertion commonSoftAssertion, Object[] actualValues,
-            Object[] expectedValues, int index, AssertionConfiguration configuration, Field identifierField,
-            FieldTrace fieldTrace) {
-        Object expectedSubObject = expectedValues[index];
-        if (actualValues.length <= index) {
-            commonSoftAssertion.fail(String.format("Missed element at '%s': %s", fieldTrace, expectedSubObject));
-            return;
-        }
-        Object actualSubObject = actualValues[index];
-        verifyElement(commonSoftAssertion, actualSubObject, expectedSubObject, index, configuration, identifierField,
-                fieldTrace);
-    }
-
-    private void verifyArrayElements(CommonSoftAssertion commonSoftAssertion, Object[] actualValues,
-            Object[] expectedValues, AssertionConfiguration assertionConfiguration, FieldTrace fieldTrace) {
+    private void verifyArrayElements(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Object[] actualValues, Object[] expectedValues, FieldTrace fieldTrace) {
         Class<?> commonExpectedType = ClassUtil.getCommonClass(expectedValues);
-        if (assertionConfiguration.sortCollections()) {
+        IdentifierKeyExtractor identifierKeyExtractor = assertionContext.getIdentifierFieldStorage()
+                .getKeyExtractor(commonExpectedType);
+        AssertionConfiguration configuration = fieldVerificationConfiguration.getConfiguration();
+        if (configuration.sortCollections() || configuration.matchUnorderedElements()) {
+            if (identifierKeyExtractor != null) {
+                log.debug("Matching array elements by identifier.");
+                verifyElementsByIdentifier(fieldVerificationConfiguration, Arrays.asList(actualValues),
+                        Arrays.asList(expectedValues), identifierKeyExtractor, fieldTrace);
+                return;
+            }
+            if (configuration.matchUnorderedElements()) {
+                log.debug("Matching array elements by structure.");
+                verifyElementsByStructure(fieldVerificationConfiguration, Arrays.asList(actualValues),
+                        Arrays.asList(expectedValues), fieldTrace);
+                return;
+            }
             log.debug("Sorting arrays.");
             SortUtil.sort(actualValues, assertionContext.getComparatorStorage(), commonExpectedType);
             SortUtil.sort(expectedValues, assertionContext.getComparatorStorage());
         }
-        Field identifierField = assertionContext.getIdentifierFieldStorage().get(commonExpectedType);
-        for (int i = 0; i < expectedValues.length; ++i) {
-            verifyArrayElement(commonSoftAssertion, actualValues, expectedValues, i, assertionConfiguration,
-                    identifierField, fieldTrace);
-        }
-        for (int i = expectedValues.length; i < actualValues.length; ++i) {
-            Object actualSubObject = actualValues[i];
-            commonSoftAssertion.fail(String.format("Unexpected element at '%s': %s", fieldTrace, actualSubObject));
-        }
+        verifyElementsByPosition(fieldVerificationConfiguration, Arrays.asList(actualValues).iterator(),
+                Arrays.asList(expectedValues).iterator(), identifierKeyExtractor, fieldTrace);
     }
 
     private void verifyLength(CommonSoftAssertion commonSoftAssertion, Object[] actualValues, Object[] expectedValues,
             FieldTrace fieldTrace) {
-        String message = String.format("[%s] Length of actual and expected arrays differs", fieldTrace.getTrace());
-        commonSoftAssertion.assertEqualSize(actualValues, expectedValues, message);
+        commonSoftAssertion.assertEqualSize(actualValues, expectedValues,
+                () -> String.format("[%s] Length of actual and expected arrays differs", fieldTrace.getTrace()));
     }
 }
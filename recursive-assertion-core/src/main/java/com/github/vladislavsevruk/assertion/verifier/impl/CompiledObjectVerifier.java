@@ -0,0 +1,359 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier.impl;
+
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.ClassFieldsPlan;
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
+import com.github.vladislavsevruk.assertion.field.FieldAccessor;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Verifies values of registered model classes using field comparators that are compiled once per class. Values of
+ * primitive fields are read by typed <code>MethodHandle</code> getters without boxing and, like values of fields with
+ * final simple types, are compared inline so only mismatched leaf values and nested complex values are passed to
+ * assertion engine. Equal leaf values aren't passed to any verifier. Should be added before
+ * <code>ComplexObjectVerifier</code>. If class can't be compiled its values are verified by
+ * <code>ComplexObjectVerifier</code> logic.
+ */
+@Log4j2
+public class CompiledObjectVerifier implements ClassBasedFieldVerifier {
+
+    private static final Set<Class<?>> FINAL_SIMPLE_TYPES = new HashSet<>(Arrays
+            .asList(String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+                    Float.class, Double.class));
+    private AssertionContext assertionContext;
+    private final Map<Class<?>, List<CompiledField>> compiledClasses;
+    private final ComplexObjectVerifier fallbackVerifier;
+
+    public CompiledObjectVerifier(AssertionContext assertionContext, Class<?>... classes) {
+        this(assertionContext, Arrays.asList(classes));
+    }
+
+    public CompiledObjectVerifier(AssertionContext assertionContext, Collection<Class<?>> classes) {
+        this.assertionContext = assertionContext;
+        this.fallbackVerifier = new ComplexObjectVerifier(assertionContext);
+        Map<Class<?>, List<CompiledField>> compiled = new HashMap<>();
+        for (Class<?> clazz : classes) {
+            compiled.put(clazz, compile(clazz));
+        }
+        this.compiledClasses = Collections.unmodifiableMap(compiled);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canVerify(Class<?> clazz) {
+        return compiledClasses.containsKey(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void verify(final FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+        T expected = verificationField.expected();
+        List<CompiledField> compiledFields = compiledClasses.get(expected.getClass());
+        if (compiledFields == null) {
+            log.debug(() -> "Verifying complex model object using reflective fallback.");
+            fallbackVerifier.verify(fieldVerificationConfiguration);
+            return;
+        }
+        log.debug(() -> "Verifying complex model object using compiled fields.");
+        T actual = verificationField.actual();
+        Set<String> fieldsToIgnore = fieldVerificationConfiguration.getConfiguration().fieldsToIgnore();
+        CompiledFieldPaths fieldPathsToIgnore = fieldVerificationConfiguration.getConfiguration()
+                .compiledFieldPathsToIgnore();
+        boolean checkFieldPaths = fieldPathsToIgnore.mayMatchBelow(verificationField.trace());
+        CompiledFieldPaths fieldPathsToVerify = fieldVerificationConfiguration.getConfiguration()
+                .compiledFieldPathsToVerify();
+        boolean checkPathsToVerify = !fieldPathsToVerify.isEmpty() && !fieldPathsToVerify
+                .isWithinMatch(verificationField.trace());
+        for (CompiledField compiledField : compiledFields) {
+            Field field = compiledField.fieldAccessor.getField();
+            if (fieldsToIgnore.contains(field.getName())) {
+                log.debug(() -> String.format("Skipping '%s' field by name.", field.getName()));
+                continue;
+            }
+            if (isEqual(compiledField, actual, expected)) {
+                continue;
+            }
+            FieldTrace innerFieldTrace = verificationField.trace().field(field);
+            if (checkFieldPaths && fieldPathsToIgnore.isMatch(innerFieldTrace)) {
+                log.debug(() -> String.format("Skipping '%s' field by trace '%s'.", field.getName(), innerFieldTrace));
+                continue;
+            }
+            if (checkPathsToVerify && !fieldPathsToVerify.isOnMatchPath(innerFieldTrace)) {
+                log.debug(() -> String.format("Skipping '%s' field as trace '%s' isn't on path to verify.",
+                        field.getName(), innerFieldTrace));
+                continue;
+            }
+            VerificationField<Object> innerField = new VerificationField<>(compiledField.fieldAccessor.get(actual),
+                    compiledField.fieldAccessor.get(expected), innerFieldTrace);
+            assertionContext.getAssertionEngine()
+                    .compareObjects(fieldVerificationConfiguration.forInnerField(innerField));
+        }
+    }
+
+    private static List<CompiledField> compile(Class<?> clazz) {
+        try {
+            List<CompiledField> compiledFields = new ArrayList<>();
+            for (FieldAccessor fieldAccessor : ClassFieldsPlan.of(clazz).getFields()) {
+                compiledFields.add(compile(fieldAccessor));
+            }
+            log.debug(() -> String.format("Compiled %d field(s) of '%s' class.", compiledFields.size(),
+                    clazz.getName()));
+            return Collections.unmodifiableList(compiledFields);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            log.warn(() -> String.format("Failed to compile '%s' class, reflective verification will be used.",
+                    clazz.getName()), ex);
+            return null;
+        }
+    }
+
+    private static CompiledField compile(FieldAccessor fieldAccessor) throws IllegalAccessException {
+        Field field = fieldAccessor.getField();
+        Class<?> type = field.getType();
+        if (!type.isPrimitive()) {
+            return isFinalSimpleType(type) ? new LeafField(fieldAccessor) : new CompiledField(fieldAccessor);
+        }
+        MethodHandle typedGetter = MethodHandles.lookup().unreflectGetter(field)
+                .asType(MethodType.methodType(type, Object.class));
+        if (boolean.class == type) {
+            return new BooleanField(fieldAccessor, typedGetter);
+        }
+        if (byte.class == type) {
+            return new ByteField(fieldAccessor, typedGetter);
+        }
+        if (char.class == type) {
+            return new CharField(fieldAccessor, typedGetter);
+        }
+        if (double.class == type) {
+            return new DoubleField(fieldAccessor, typedGetter);
+        }
+        if (float.class == type) {
+            return new FloatField(fieldAccessor, typedGetter);
+        }
+        if (int.class == type) {
+            return new IntField(fieldAccessor, typedGetter);
+        }
+        if (long.class == type) {
+            return new LongField(fieldAccessor, typedGetter);
+        }
+        if (short.class == type) {
+            return new ShortField(fieldAccessor, typedGetter);
+        }
+        throw new IllegalStateException("Unexpected primitive type " + type.getName());
+    }
+
+    private static boolean isEqual(CompiledField compiledField, Object actual, Object expected) {
+        try {
+            return compiledField.isEqual(actual, expected);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(
+                    "Failed to compare values of field " + compiledField.fieldAccessor.getField().getName(),
+                    throwable);
+        }
+    }
+
+    private static boolean isFinalSimpleType(Class<?> type) {
+        return FINAL_SIMPLE_TYPES.contains(type) || type.isEnum();
+    }
+
+    /**
+     * Field which values are always passed to assertion engine.
+     */
+    private static class CompiledField {
+
+        final FieldAccessor fieldAccessor;
+
+        private CompiledField(FieldAccessor fieldAccessor) {
+            this.fieldAccessor = fieldAccessor;
+        }
+
+        boolean isEqual(Object actual, Object expected) throws Throwable {
+            return false;
+        }
+    }
+
+    /**
+     * Field of final simple type which values are passed to assertion engine only if they aren't equal.
+     */
+    private static final class LeafField extends CompiledField {
+
+        private LeafField(FieldAccessor fieldAccessor) {
+            super(fieldAccessor);
+        }
+
+        @Override
+        boolean isEqual(Object actual, Object expected) {
+            return Objects.equals(fieldAccessor.get(actual), fieldAccessor.get(expected));
+        }
+    }
+
+    private static final class BooleanField extends CompiledField {
+
+        private final MethodHandle getter;
+
+        private BooleanField(FieldAccessor fieldAccessor, MethodHandle getter) {
+            super(fieldAccessor);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(Object actual, Object expected) throws Throwable {
+            return (boolean) getter.invokeExact(actual) == (boolean) getter.invokeExact(expected);
+        }
+    }
+
+    private static final class ByteField extends CompiledField {
+
+        private final MethodHandle getter;
+
+        private ByteField(FieldAccessor fieldAccessor, MethodHandle getter) {
+            super(fieldAccessor);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(Object actual, Object expected) throws Throwable {
+            return (byte) getter.invokeExact(actual) == (byte) getter.invokeExact(expected);
+        }
+    }
+
+    private static final class CharField extends CompiledField {
+
+        private final MethodHandle getter;
+
+        private CharField(FieldAccessor fieldAccessor, MethodHandle getter) {
+            super(fieldAccessor);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(Object actual, Object expected) throws Throwable {
+            return (char) getter.invokeExact(actual) == (char) getter.invokeExact(expected);
+        }
+    }
+
+    private static final class DoubleField extends CompiledField {
+
+        private final MethodHandle getter;
+
+        private DoubleField(FieldAccessor fieldAccessor, MethodHandle getter) {
+            super(fieldAccessor);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(Object actual, Object expected) throws Throwable {
+            return Double.doubleToLongBits((double) getter.invokeExact(actual)) == Double
+                    .doubleToLongBits((double) getter.invokeExact(expected));
+        }
+    }
+
+    private static final class FloatField extends CompiledField {
+
+        private final MethodHandle getter;
+
+        private FloatField(FieldAccessor fieldAccessor, MethodHandle getter) {
+            super(fieldAccessor);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(Object actual, Object expected) throws Throwable {
+            return Float.floatToIntBits((float) getter.invokeExact(actual)) == Float
+                    .floatToIntBits((float) getter.invokeExact(expected));
+        }
+    }
+
+    private static final class IntField extends CompiledField {
+
+        private final MethodHandle getter;
+
+        private IntField(FieldAccessor fieldAccessor, MethodHandle getter) {
+            super(fieldAccessor);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(Object actual, Object expected) throws Throwable {
+            return (int) getter.invokeExact(actual) == (int) getter.invokeExact(expected);
+        }
+    }
+
+    private static final class LongField extends CompiledField {
+
+        private final MethodHandle getter;
+
+        private LongField(FieldAccessor fieldAccessor, MethodHandle getter) {
+            super(fieldAccessor);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(Object actual, Object expected) throws Throwable {
+            return (long) getter.invokeExact(actual) == (long) getter.invokeExact(expected);
+        }
+    }
+
+    private static final class ShortField extends CompiledField {
+
+        private final MethodHandle getter;
+
+        private ShortField(FieldAccessor fieldAccessor, MethodHandle getter) {
+            super(fieldAccessor);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(Object actual, Object expected) throws Throwable {
+            return (short) getter.invokeExact(actual) == (short) getter.invokeExact(expected);
+        }
+    }
+}
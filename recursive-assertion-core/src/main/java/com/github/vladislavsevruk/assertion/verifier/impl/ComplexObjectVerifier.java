@@ -24,23 +24,23 @@
 package com.github.vladislavsevruk.assertion.verifier.impl;
 
 import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.ClassFieldsPlan;
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
+import com.github.vladislavsevruk.assertion.field.FieldAccessor;
 import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
 import com.github.vladislavsevruk.assertion.field.VerificationField;
-import com.github.vladislavsevruk.assertion.util.FieldPathMatcher;
-import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
-import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.Field;
 import java.util.Set;
-import java.util.function.Predicate;
 
 /**
  * Verifies value of field with complex type.
  */
 @Log4j2
-public class ComplexObjectVerifier implements FieldVerifier {
+public class ComplexObjectVerifier implements ClassBasedFieldVerifier {
 
     private AssertionContext assertionContext;
 
@@ -52,7 +52,7 @@ public class ComplexObjectVerifier implements FieldVerifier {
      * {@inheritDoc}
      */
     @Override
-    public <T> boolean canVerify(VerificationField<T> verificationField) {
+    public boolean canVerify(Class<?> clazz) {
         // last line of defence :)
         return true;
     }
@@ -66,39 +66,35 @@ public class ComplexObjectVerifier implements FieldVerifier {
         VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
         Class<?> clazz = verificationField.expected().getClass();
         Set<String> fieldsToIgnore = fieldVerificationConfiguration.getConfiguration().fieldsToIgnore();
-        Set<String> fieldPathsToIgnore = fieldVerificationConfiguration.getConfiguration().fieldPathsToIgnore();
+        CompiledFieldPaths fieldPathsToIgnore = fieldVerificationConfiguration.getConfiguration()
+                .compiledFieldPathsToIgnore();
         FieldTrace fieldTrace = verificationField.trace();
-        Predicate<Field> fieldPredicate = fieldsFilter(fieldsToIgnore, fieldPathsToIgnore, fieldTrace);
-        ReflectionUtil.performActionOnFields(clazz, fieldPredicate, field -> {
-            Object expectedValue = field.get(verificationField.expected());
-            Object actualValue = field.get(verificationField.actual());
+        boolean checkFieldPaths = fieldPathsToIgnore.mayMatchBelow(fieldTrace);
+        CompiledFieldPaths fieldPathsToVerify = fieldVerificationConfiguration.getConfiguration()
+                .compiledFieldPathsToVerify();
+        boolean checkPathsToVerify = !fieldPathsToVerify.isEmpty() && !fieldPathsToVerify.isWithinMatch(fieldTrace);
+        for (FieldAccessor fieldAccessor : ClassFieldsPlan.of(clazz).getFields(fieldsToIgnore)) {
+            Field field = fieldAccessor.getField();
             FieldTrace innerFieldTrace = fieldTrace.field(field);
-            VerificationField<Object> innerField = new VerificationField<>(actualValue, expectedValue, innerFieldTrace);
-            FieldVerificationConfiguration<Object> innerFieldVerificationConfiguration
-                    = new FieldVerificationConfiguration<>(fieldVerificationConfiguration.getCommonSoftAssertion(),
-                    innerField, fieldVerificationConfiguration.getConfiguration());
-            assertionContext.getAssertionEngine().compareObjects(innerFieldVerificationConfiguration);
-        });
-    }
-
-    private Predicate<Field> fieldsFilter(Set<String> fieldsToIgnore, Set<String> fieldPathsToIgnore,
-            FieldTrace fieldTrace) {
-        return field -> {
-            if (ReflectionUtil.isStatic(field)) {
-                log.debug(() -> String.format("Skipping static field '%s'.", field.getName()));
-                return false;
+            if (checkFieldPaths && fieldPathsToIgnore.isMatch(innerFieldTrace)) {
+                log.debug(() -> String.format("Skipping '%s' field by trace '%s'.", field.getName(), innerFieldTrace));
+                continue;
             }
-            if (fieldsToIgnore.contains(field.getName())) {
-                log.debug(() -> String.format("Skipping '%s' field by name.", field.getName()));
-                return false;
-            }
-            FieldTrace innerFieldTrace = fieldTrace.field(field);
-            if (FieldPathMatcher.isMatchAny(fieldPathsToIgnore, innerFieldTrace)) {
-                log.debug(
-                        () -> String.format("Skipping '%s' field by trace '%s'.", field.getName(), innerFieldTrace));
-                return false;
+            if (checkPathsToVerify && !fieldPathsToVerify.isOnMatchPath(innerFieldTrace)) {
+                log.debug(() -> String.format("Skipping '%s' field as trace '%s' isn't on path to verify.",
+                        field.getName(), innerFieldTrace));
+                continue;
             }
-            return true;
-        };
+            verifyField(fieldVerificationConfiguration, fieldAccessor, innerFieldTrace);
+        }
+    }
+
+    private <T> void verifyField(FieldVerificationConfiguration<T> fieldVerificationConfiguration,
+            FieldAccessor fieldAccessor, FieldTrace innerFieldTrace) {
+        VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+        Object expectedValue = fieldAccessor.get(verificationField.expected());
+        Object actualValue = fieldAccessor.get(verificationField.actual());
+        VerificationField<Object> innerField = new VerificationField<>(actualValue, expectedValue, innerFieldTrace);
+        assertionContext.getAssertionEngine().compareObjects(fieldVerificationConfiguration.forInnerField(innerField));
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier.impl;
+
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.storage.ComparatorStorage;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Verifies non-null values that are placed deeper than maximum depth of verification without recursion according to
+ * configured fallback.
+ */
+@Log4j2
+public class DepthLimitVerifier implements FieldVerifier {
+
+    private AssertionContext assertionContext;
+
+    public DepthLimitVerifier(AssertionContext assertionContext) {
+        this.assertionContext = assertionContext;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> boolean canVerify(VerificationField<T> verificationField) {
+        return verificationField.actual() != null && verificationField.expected() != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void verify(final FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+        FieldTrace fieldTrace = verificationField.trace();
+        switch (fieldVerificationConfiguration.getConfiguration().maxDepthFallback()) {
+            case SKIP:
+                log.debug(() -> String.format("Skipping '%s' as maximum depth is exceeded.", fieldTrace));
+                return;
+            case COMPARATOR:
+                verifyByComparator(fieldVerificationConfiguration.getCommonSoftAssertion(), verificationField);
+                return;
+            default:
+                log.debug(() -> String.format("Verifying '%s' using equals as maximum depth is exceeded.", fieldTrace));
+                verifyByEquals(fieldVerificationConfiguration.getCommonSoftAssertion(), verificationField);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void verifyByComparator(CommonSoftAssertion commonSoftAssertion,
+            VerificationField<T> verificationField) {
+        T actual = verificationField.actual();
+        T expected = verificationField.expected();
+        FieldTrace fieldTrace = verificationField.trace();
+        ComparatorStorage comparatorStorage = assertionContext.getComparatorStorage();
+        if (!comparatorStorage.contains(expected.getClass())) {
+            // storage returns default comparator for classes without registered one so presence is checked first
+            log.debug(() -> String.format("Verifying '%s' using equals as there is no comparator for '%s'.",
+                    fieldTrace, expected.getClass().getName()));
+            verifyByEquals(commonSoftAssertion, verificationField);
+            return;
+        }
+        Comparator<? super T> comparator = comparatorStorage.get((Class<? extends T>) expected.getClass());
+        log.debug(() -> String.format("Verifying '%s' using comparator as maximum depth is exceeded.", fieldTrace));
+        if (comparator.compare(actual, expected) != 0) {
+            commonSoftAssertion.fail(String.format("[%s] Actual value <%s> differs from expected <%s> by comparator",
+                    fieldTrace, actual, expected));
+        }
+    }
+
+    private <T> void verifyByEquals(CommonSoftAssertion commonSoftAssertion, VerificationField<T> verificationField) {
+        // arrays don't override equals so their elements are compared instead of references
+        if (!Objects.deepEquals(verificationField.actual(), verificationField.expected())) {
+            commonSoftAssertion.assertEquals(verificationField.actual(), verificationField.expected(),
+                    verificationField.trace()::getTrace);
+        }
+    }
+}
@@ -25,17 +25,29 @@ package com.github.vladislavsevruk.assertion.verifier.impl;
 
 import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
 import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
 import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.IdentifierKeyExtractor;
 import com.github.vladislavsevruk.assertion.field.VerificationField;
-import com.github.vladislavsevruk.assertion.util.FieldPathMatcher;
-import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
+import com.github.vladislavsevruk.assertion.field.VerificationState;
+import com.github.vladislavsevruk.assertion.util.StructuralHashUtil;
+import com.github.vladislavsevruk.assertion.verifier.AbstractCommonSoftAssertion;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
 import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
 import lombok.extern.log4j.Log4j2;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
 
 @Log4j2
 public abstract class ElementSequenceVerifier implements FieldVerifier {
@@ -46,40 +58,433 @@ public abstract class ElementSequenceVerifier implements FieldVerifier {
         this.assertionContext = assertionContext;
     }
 
-    protected void verifyElement(CommonSoftAssertion commonSoftAssertion, Object actualSubObject,
-            Object expectedSubObject, int index, AssertionConfiguration configuration, Field identifierField,
+    /**
+     * Verifies elements of unordered sequences by pairing them by identifier keys. Actual elements are indexed by
+     * identifier key in single pass and each expected element is verified against actual element with same key.
+     * Expected elements without pair are reported as missed and actual elements without pair are reported as
+     * unexpected. Elements with same identifier key are paired in order of their appearance.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> of verified sequence.
+     * @param actualValues                   <code>Iterable</code> with actual elements.
+     * @param expectedValues                 <code>Iterable</code> with expected elements.
+     * @param identifierKeyExtractor         <code>IdentifierKeyExtractor</code> of elements.
+     * @param fieldTrace                     <code>FieldTrace</code> of verified sequence.
+     */
+    protected void verifyElementsByIdentifier(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Iterable<?> actualValues, Iterable<?> expectedValues, IdentifierKeyExtractor identifierKeyExtractor,
             FieldTrace fieldTrace) {
+        Map<Object, Object> actualElementsById = new LinkedHashMap<>();
+        for (Object actualValue : actualValues) {
+            Object actualId = identifierKeyExtractor.extract(actualValue);
+            if (actualElementsById.containsKey(actualId)) {
+                // several elements with same identifier are kept together in order of their appearance
+                actualElementsById.put(actualId, addDuplicate(actualElementsById.get(actualId), actualValue));
+            } else {
+                actualElementsById.put(actualId, actualValue);
+            }
+        }
+        int index = 0;
+        for (Object expectedValue : expectedValues) {
+            Object expectedId = identifierKeyExtractor.extract(expectedValue);
+            if (!actualElementsById.containsKey(expectedId)) {
+                fieldVerificationConfiguration.getCommonSoftAssertion()
+                        .fail(String.format("Missed element at '%s': %s", fieldTrace, expectedValue));
+            } else {
+                Object actualValue = pollElement(actualElementsById, expectedId);
+                verifyElement(fieldVerificationConfiguration, actualValue, expectedValue, index,
+                        identifierKeyExtractor, fieldTrace);
+            }
+            ++index;
+        }
+        for (Object remainedValue : actualElementsById.values()) {
+            if (remainedValue instanceof DuplicateElements) {
+                DuplicateElements duplicateElements = (DuplicateElements) remainedValue;
+                for (Object duplicateValue : duplicateElements.elements
+                        .subList(duplicateElements.nextElement, duplicateElements.elements.size())) {
+                    fieldVerificationConfiguration.getCommonSoftAssertion()
+                            .fail(String.format("Unexpected element at '%s': %s", fieldTrace, duplicateValue));
+                }
+            } else {
+                fieldVerificationConfiguration.getCommonSoftAssertion()
+                        .fail(String.format("Unexpected element at '%s': %s", fieldTrace, remainedValue));
+            }
+        }
+    }
+
+    /**
+     * Verifies elements of sequences in iteration order. Elements are paired by position and passed to assertion
+     * engine lazily, so only current elements of sequences are kept by engine. Expected elements without pair are
+     * reported as missed and actual elements without pair are reported as unexpected.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> of verified sequence.
+     * @param actualValues                   <code>Iterator</code> over actual elements.
+     * @param expectedValues                 <code>Iterator</code> over expected elements.
+     * @param identifierKeyExtractor         <code>IdentifierKeyExtractor</code> of elements or <code>null</code>.
+     * @param fieldTrace                     <code>FieldTrace</code> of verified sequence.
+     */
+    protected void verifyElementsByPosition(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Iterator<?> actualValues, Iterator<?> expectedValues, IdentifierKeyExtractor identifierKeyExtractor,
+            FieldTrace fieldTrace) {
+        ElementFieldIterator elementFields = new ElementFieldIterator(fieldVerificationConfiguration, actualValues,
+                expectedValues, identifierKeyExtractor, fieldTrace);
+        assertionContext.getAssertionEngine().compareNestedObjects(fieldVerificationConfiguration, elementFields);
+    }
+
+    /**
+     * Verifies elements of unordered sequences by pairing them by structure. Elements are bucketed by structural hash
+     * and each expected element is paired with equal actual element of same bucket first. Remaining elements are
+     * paired greedily by minimal number of differences that doesn't exceed maximum pairing cost, differences are
+     * counted by verification of elements according to configuration. Each remaining expected element is compared
+     * only with limited number of remaining actual elements that are closest to its position, so number of
+     * verifications grows linearly with number of elements instead of their product. Expected elements without pair
+     * are reported as missed and actual elements without pair are reported as unexpected.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> of verified sequence.
+     * @param actualValues                   <code>Iterable</code> with actual elements.
+     * @param expectedValues                 <code>Iterable</code> with expected elements.
+     * @param fieldTrace                     <code>FieldTrace</code> of verified sequence.
+     */
+    protected void verifyElementsByStructure(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Iterable<?> actualValues, Iterable<?> expectedValues, FieldTrace fieldTrace) {
+        List<?> actualElements = toList(actualValues);
+        List<?> expectedElements = toList(expectedValues);
+        AssertionConfiguration configuration = fieldVerificationConfiguration.getConfiguration();
+        Map<Integer, List<Integer>> actualIndexesByHash = new HashMap<>();
+        for (int i = 0; i < actualElements.size(); ++i) {
+            int hash = StructuralHashUtil.hash(actualElements.get(i), fieldTrace.index(i), configuration);
+            actualIndexesByHash.computeIfAbsent(hash, key -> new ArrayList<>()).add(i);
+        }
+        int[] pairedIndexes = new int[expectedElements.size()];
+        Arrays.fill(pairedIndexes, -1);
+        boolean[] pairedActualElements = new boolean[actualElements.size()];
+        VerificationState verificationState = fieldVerificationConfiguration.getVerificationState();
+        for (int i = 0; i < expectedElements.size() && !verificationState.isStopped(); ++i) {
+            FieldTrace itemTrace = fieldTrace.index(i);
+            List<Integer> bucket = actualIndexesByHash
+                    .get(StructuralHashUtil.hash(expectedElements.get(i), itemTrace, configuration));
+            if (bucket != null) {
+                pairedIndexes[i] = pollEqualElement(fieldVerificationConfiguration, bucket, actualElements,
+                        expectedElements.get(i), itemTrace);
+                if (pairedIndexes[i] != -1) {
+                    pairedActualElements[pairedIndexes[i]] = true;
+                }
+            }
+        }
+        pairRemainedElements(fieldVerificationConfiguration, actualElements, expectedElements, pairedIndexes,
+                pairedActualElements, fieldTrace);
+        if (verificationState.isStopped()) {
+            // dry runs were stopped so elements aren't reported as missed or unexpected because of incomplete pairing
+            log.debug(() -> String.format("Skipping elements of '%s' as verification is stopped.", fieldTrace));
+            return;
+        }
+        for (int i = 0; i < expectedElements.size(); ++i) {
+            if (pairedIndexes[i] == -1) {
+                fieldVerificationConfiguration.getCommonSoftAssertion()
+                        .fail(String.format("Missed element at '%s': %s", fieldTrace, expectedElements.get(i)));
+            } else {
+                verifyElement(fieldVerificationConfiguration, actualElements.get(pairedIndexes[i]),
+                        expectedElements.get(i), i, null, fieldTrace);
+            }
+        }
+        for (int i = 0; i < actualElements.size(); ++i) {
+            if (!pairedActualElements[i]) {
+                fieldVerificationConfiguration.getCommonSoftAssertion()
+                        .fail(String.format("Unexpected element at '%s': %s", fieldTrace, actualElements.get(i)));
+            }
+        }
+    }
+
+    protected void verifyElement(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Object actualSubObject, Object expectedSubObject, int index, IdentifierKeyExtractor identifierKeyExtractor,
+            FieldTrace fieldTrace) {
+        VerificationField<Object> field = getElementField(fieldVerificationConfiguration, actualSubObject,
+                expectedSubObject, index, identifierKeyExtractor, fieldTrace);
+        if (field != null) {
+            assertionContext.getAssertionEngine().compareObjects(fieldVerificationConfiguration.forInnerField(field));
+        }
+    }
+
+    private static Object addDuplicate(Object indexedValue, Object duplicateValue) {
+        DuplicateElements duplicateElements;
+        if (indexedValue instanceof DuplicateElements) {
+            duplicateElements = (DuplicateElements) indexedValue;
+        } else {
+            duplicateElements = new DuplicateElements();
+            duplicateElements.elements.add(indexedValue);
+        }
+        duplicateElements.elements.add(duplicateValue);
+        return duplicateElements;
+    }
+
+    private int countDifferences(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Object actualElement, Object expectedElement, FieldTrace itemTrace, int maxDifferences) {
+        // verification is stopped as soon as elements differ more than allowed
+        FailureCountingSoftAssertion failureCountingSoftAssertion = new FailureCountingSoftAssertion();
+        VerificationState verificationState = fieldVerificationConfiguration.getVerificationState()
+                .auxiliary(failureCountingSoftAssertion,
+                        maxDifferences == Integer.MAX_VALUE ? maxDifferences : maxDifferences + 1);
+        VerificationField<Object> field = new VerificationField<>(actualElement, expectedElement, itemTrace);
+        assertionContext.getAssertionEngine().compareObjects(
+                new FieldVerificationConfiguration<>(verificationState.getCommonSoftAssertion(), field,
+                        fieldVerificationConfiguration.getConfiguration(), verificationState));
+        return failureCountingSoftAssertion.failures;
+    }
+
+    private VerificationField<Object> getElementField(
+            FieldVerificationConfiguration<?> fieldVerificationConfiguration, Object actualSubObject,
+            Object expectedSubObject, int index, IdentifierKeyExtractor identifierKeyExtractor, FieldTrace fieldTrace) {
+        AssertionConfiguration configuration = fieldVerificationConfiguration.getConfiguration();
+        CompiledFieldPaths fieldPathsToIgnore = configuration.compiledFieldPathsToIgnore();
+        boolean checkFieldPaths = fieldPathsToIgnore.mayMatchBelow(fieldTrace);
+        CompiledFieldPaths fieldPathsToVerify = configuration.compiledFieldPathsToVerify();
+        boolean checkPathsToVerify = !fieldPathsToVerify.isEmpty() && !fieldPathsToVerify.isWithinMatch(fieldTrace);
         FieldTrace itemIndexTrace = fieldTrace.index(index);
         FieldTrace itemTrace = itemIndexTrace;
-        if (FieldPathMatcher.isMatchAny(configuration.fieldPathsToIgnore(), itemIndexTrace)) {
+        if (checkFieldPaths && fieldPathsToIgnore.isMatch(itemIndexTrace)) {
             log.debug(() -> String.format("Skipping element with '%s' field trace.", itemIndexTrace));
-            return;
+            return null;
         }
-        if (identifierField != null && expectedSubObject != null) {
-            Object expectedId = ReflectionUtil.getFieldValue(identifierField, expectedSubObject);
-            FieldTrace itemCustomIdTrace = fieldTrace.id(identifierField, expectedId);
+        if (identifierKeyExtractor != null && expectedSubObject != null) {
+            Object expectedId = identifierKeyExtractor.extract(expectedSubObject);
+            FieldTrace itemCustomIdTrace = identifierKeyExtractor.elementTrace(fieldTrace, expectedId);
             itemTrace = itemCustomIdTrace;
-            if (FieldPathMatcher.isMatchAny(configuration.fieldPathsToIgnore(), itemCustomIdTrace)) {
+            if (checkFieldPaths && fieldPathsToIgnore.isMatch(itemCustomIdTrace)) {
                 log.debug(() -> String.format("Skipping element with '%s' field trace.", itemCustomIdTrace));
-                return;
+                return null;
+            }
+            if (checkPathsToVerify && !fieldPathsToVerify.isOnMatchPath(itemIndexTrace) && !fieldPathsToVerify
+                    .isOnMatchPath(itemCustomIdTrace)) {
+                log.debug(() -> String.format("Skipping element with '%s' field trace as it isn't on path to verify.",
+                        itemCustomIdTrace));
+                return null;
             }
             if (actualSubObject != null) {
-                Object actualId = ReflectionUtil.getFieldValue(identifierField, actualSubObject);
+                Object actualId = identifierKeyExtractor.extract(actualSubObject);
                 if (shouldBreakOnIdInequality(configuration, actualId, expectedId)) {
                     log.debug("Breaking on id inequality.");
-                    commonSoftAssertion.assertEquals(actualId, expectedId, itemTrace.field(identifierField).getTrace());
-                    return;
+                    fieldVerificationConfiguration.getCommonSoftAssertion()
+                            .assertEquals(actualId, expectedId,
+                                    identifierKeyExtractor.identifierTrace(itemTrace).getTrace());
+                    return null;
+                }
+            }
+        } else if (checkPathsToVerify && !fieldPathsToVerify.isOnMatchPath(itemIndexTrace)) {
+            log.debug(() -> String.format("Skipping element with '%s' field trace as it isn't on path to verify.",
+                    itemIndexTrace));
+            return null;
+        }
+        return new VerificationField<>(actualSubObject, expectedSubObject, itemTrace);
+    }
+
+    private void pairRemainedElements(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            List<?> actualElements, List<?> expectedElements, int[] pairedIndexes, boolean[] pairedActualElements,
+            FieldTrace fieldTrace) {
+        // elements may verify equal while having different hashes (e.g. because of index specific field paths or
+        // comparators) so remained elements are compared across buckets even if only equal elements may be paired
+        AssertionConfiguration configuration = fieldVerificationConfiguration.getConfiguration();
+        int maxPairingCandidates = configuration.maxPairingCandidates();
+        int maxPairingCost = configuration.maxPairingCost();
+        int[] remainedActualIndexes = IntStream.range(0, actualElements.size()).filter(i -> !pairedActualElements[i])
+                .toArray();
+        VerificationState verificationState = fieldVerificationConfiguration.getVerificationState();
+        List<ElementPair> elementPairs = new ArrayList<>();
+        for (int i = 0; i < expectedElements.size() && !verificationState.isStopped(); ++i) {
+            if (pairedIndexes[i] != -1) {
+                continue;
+            }
+            // candidates are taken from both sides of expected element position starting from the closest ones
+            int nextIndex = Arrays.binarySearch(remainedActualIndexes, i);
+            int right = nextIndex < 0 ? -nextIndex - 1 : nextIndex;
+            int left = right - 1;
+            for (int candidates = 0; candidates < maxPairingCandidates && (left >= 0
+                    || right < remainedActualIndexes.length) && !verificationState.isStopped(); ++candidates) {
+                int j = right == remainedActualIndexes.length || left >= 0
+                        && i - remainedActualIndexes[left] < remainedActualIndexes[right] - i
+                        ? remainedActualIndexes[left--] : remainedActualIndexes[right++];
+                int cost = countDifferences(fieldVerificationConfiguration, actualElements.get(j),
+                        expectedElements.get(i), fieldTrace.index(i), maxPairingCost);
+                if (cost <= maxPairingCost) {
+                    elementPairs.add(new ElementPair(i, j, cost));
                 }
             }
         }
-        VerificationField<Object> field = new VerificationField<>(actualSubObject, expectedSubObject, itemTrace);
-        FieldVerificationConfiguration<Object> innerFieldVerificationConfiguration
-                = new FieldVerificationConfiguration<>(commonSoftAssertion, field, configuration);
-        assertionContext.getAssertionEngine().compareObjects(innerFieldVerificationConfiguration);
+        log.debug(() -> String.format("Found %d candidate pair(s) of elements without equal pair.",
+                elementPairs.size()));
+        // stable sort keeps pairs with same cost in order of expected elements and distance to their candidates
+        elementPairs.sort(Comparator.comparingInt(elementPair -> elementPair.cost));
+        for (ElementPair elementPair : elementPairs) {
+            if (pairedIndexes[elementPair.expectedIndex] == -1 && !pairedActualElements[elementPair.actualIndex]) {
+                pairedIndexes[elementPair.expectedIndex] = elementPair.actualIndex;
+                pairedActualElements[elementPair.actualIndex] = true;
+            }
+        }
+    }
+
+    private static Object pollElement(Map<Object, Object> elementsById, Object id) {
+        Object value = elementsById.get(id);
+        if (!(value instanceof DuplicateElements)) {
+            elementsById.remove(id);
+            return value;
+        }
+        DuplicateElements duplicateElements = (DuplicateElements) value;
+        Object element = duplicateElements.elements.get(duplicateElements.nextElement++);
+        if (duplicateElements.nextElement == duplicateElements.elements.size()) {
+            elementsById.remove(id);
+        }
+        return element;
+    }
+
+    private int pollEqualElement(FieldVerificationConfiguration<?> fieldVerificationConfiguration, List<Integer> bucket,
+            List<?> actualElements, Object expectedElement, FieldTrace itemTrace) {
+        Iterator<Integer> bucketIterator = bucket.iterator();
+        VerificationState verificationState = fieldVerificationConfiguration.getVerificationState();
+        while (bucketIterator.hasNext() && !verificationState.isStopped()) {
+            int actualIndex = bucketIterator.next();
+            if (countDifferences(fieldVerificationConfiguration, actualElements.get(actualIndex), expectedElement,
+                    itemTrace, 0) == 0) {
+                bucketIterator.remove();
+                return actualIndex;
+            }
+        }
+        return -1;
     }
 
     private boolean shouldBreakOnIdInequality(AssertionConfiguration configuration, Object actualId,
             Object expectedId) {
         return configuration.breakOnIdInequality() && !Objects.equals(expectedId, actualId);
     }
+
+    private static List<?> toList(Iterable<?> values) {
+        if (values instanceof List && values instanceof RandomAccess) {
+            return (List<?>) values;
+        }
+        List<Object> elements = new ArrayList<>();
+        values.forEach(elements::add);
+        return elements;
+    }
+
+    /**
+     * Actual elements with same identifier.
+     */
+    private static final class DuplicateElements {
+
+        private final List<Object> elements = new ArrayList<>();
+        private int nextElement;
+    }
+
+    /**
+     * Pairs elements of sequences by position. Elements without pair are reported on advance and <code>null</code> is
+     * returned instead of their field.
+     */
+    private final class ElementFieldIterator implements Iterator<VerificationField<?>> {
+
+        private final Iterator<?> actualValues;
+        private final Iterator<?> expectedValues;
+        private final FieldTrace fieldTrace;
+        private final FieldVerificationConfiguration<?> fieldVerificationConfiguration;
+        private final IdentifierKeyExtractor identifierKeyExtractor;
+        private int index;
+
+        private ElementFieldIterator(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+                Iterator<?> actualValues, Iterator<?> expectedValues, IdentifierKeyExtractor identifierKeyExtractor,
+                FieldTrace fieldTrace) {
+            this.fieldVerificationConfiguration = fieldVerificationConfiguration;
+            this.actualValues = actualValues;
+            this.expectedValues = expectedValues;
+            this.identifierKeyExtractor = identifierKeyExtractor;
+            this.fieldTrace = fieldTrace;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return expectedValues.hasNext() || actualValues.hasNext();
+        }
+
+        @Override
+        public VerificationField<?> next() {
+            CommonSoftAssertion commonSoftAssertion = fieldVerificationConfiguration.getCommonSoftAssertion();
+            if (!expectedValues.hasNext()) {
+                // throws NoSuchElementException when both sequences are exhausted
+                Object actualSubObject = actualValues.next();
+                commonSoftAssertion.fail(String.format("Unexpected element at '%s': %s", fieldTrace, actualSubObject));
+                return null;
+            }
+            Object expectedSubObject = expectedValues.next();
+            int elementIndex = index++;
+            if (!actualValues.hasNext()) {
+                commonSoftAssertion.fail(String.format("Missed element at '%s': %s", fieldTrace, expectedSubObject));
+                return null;
+            }
+            return getElementField(fieldVerificationConfiguration, actualValues.next(), expectedSubObject,
+                    elementIndex, identifierKeyExtractor, fieldTrace);
+        }
+    }
+
+    /**
+     * Pair of expected and actual elements with number of differences between them.
+     */
+    private static final class ElementPair {
+
+        private final int actualIndex;
+        private final int cost;
+        private final int expectedIndex;
+
+        private ElementPair(int expectedIndex, int actualIndex, int cost) {
+            this.expectedIndex = expectedIndex;
+            this.actualIndex = actualIndex;
+            this.cost = cost;
+        }
+    }
+
+    /**
+     * Counts failed assertions without reporting them.
+     */
+    private static final class FailureCountingSoftAssertion extends AbstractCommonSoftAssertion {
+
+        private int failures;
+
+        @Override
+        public void assertAll() {
+            // failures are only counted
+        }
+
+        @Override
+        public void fail(String message) {
+            ++failures;
+        }
+
+        @Override
+        protected void verifyEmpty(Object[] actual, String message) {
+            ++failures;
+        }
+
+        @Override
+        protected void verifyEmpty(Iterable<?> actual, String message) {
+            ++failures;
+        }
+
+        @Override
+        protected void verifyEmpty(Map<?, ?> actual, String message) {
+            ++failures;
+        }
+
+        @Override
+        protected void verifyEqualSize(Object[] actual, Object[] expected, String message) {
+            ++failures;
+        }
+
+        @Override
+        protected void verifyEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+            if (toList(actual).size() != toList(expected).size()) {
+                ++failures;
+            }
+        }
+
+        @Override
+        protected <T> void verifyEquals(T actual, T expected, String message) {
+            if (!Objects.deepEquals(actual, expected)) {
+                ++failures;
+            }
+        }
+    }
 }
@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.assertion.verifier.impl;
 
 import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
 import com.github.vladislavsevruk.assertion.field.VerificationField;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
@@ -51,7 +52,7 @@ public class ExpectedNullVerifier extends NullValueVerifier {
         log.debug(() -> "Verifying when expected value is 'null'.");
         VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
         T actual = verificationField.actual();
-        String trace = verificationField.trace().getTrace();
+        FieldTrace fieldTrace = verificationField.trace();
         CommonSoftAssertion commonSoftAssertion = fieldVerificationConfiguration.getCommonSoftAssertion();
         AssertionConfiguration configuration = fieldVerificationConfiguration.getConfiguration();
         if (configuration.ignoreNullFields()) {
@@ -60,10 +61,10 @@ public class ExpectedNullVerifier extends NullValueVerifier {
         }
         if (shouldCompareIfEmpty(actual, configuration)) {
             log.debug(() -> "Verifying that actual value is empty collection or array.");
-            compareIfEmpty(commonSoftAssertion, actual, trace);
+            compareIfEmpty(commonSoftAssertion, actual, fieldTrace);
         } else {
             log.debug(() -> "Verifying that actual value is 'null' as well.");
-            commonSoftAssertion.assertEquals(verificationField.actual(), null, trace);
+            commonSoftAssertion.assertEquals(verificationField.actual(), null, fieldTrace::getTrace);
         }
     }
 }
@@ -27,23 +27,22 @@ import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration
 import com.github.vladislavsevruk.assertion.context.AssertionContext;
 import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.IdentifierKeyExtractor;
 import com.github.vladislavsevruk.assertion.field.VerificationField;
 import com.github.vladislavsevruk.assertion.util.ClassUtil;
 import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
 import com.github.vladislavsevruk.assertion.util.SortUtil;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
-import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
 import lombok.extern.log4j.Log4j2;
 
-import java.lang.reflect.Field;
-import java.util.Iterator;
 import java.util.stream.StreamSupport;
 
 /**
  * Verifies value of iterable type.
  */
 @Log4j2
-public class IterableVerifier extends ElementSequenceVerifier implements FieldVerifier {
+public class IterableVerifier extends ElementSequenceVerifier implements ClassBasedFieldVerifier {
 
     public IterableVerifier(AssertionContext assertionContext) {
         super(assertionContext);
@@ -53,8 +52,7 @@ public class IterableVerifier extends ElementSequenceVerifier implements FieldVe
      * {@inheritDoc}
      */
     @Override
-    public <T> boolean canVerify(VerificationField<T> verificationField) {
-        Class<?> clazz = verificationField.expected().getClass();
+    public boolean canVerify(Class<?> clazz) {
         return ReflectionUtil.isIterable(clazz);
     }
 
@@ -74,58 +72,64 @@ public class IterableVerifier extends ElementSequenceVerifier implements FieldVe
             log.debug(() -> "Breaking verifications on size inequality.");
             return;
         }
-        verifyIterableElements(commonSoftAssertion, actualValues, expectedValues, assertionConfiguration,
-                verificationField.trace());
+        verifyIterableElements(fieldVerificationConfiguration, actualValues, expectedValues, verificationField.trace());
     }
 
-    private long getSize(Iterable<?> iterable) {
-        return StreamSupport.stream(iterable.spliterator(), false).count();
-    }
-
-    private boolean shouldBreakOnSizeInequality(AssertionConfiguration configuration, Iterable<?> actualValues,
-            Iterable<?> expectedValues) {
-        return configuration.breakOnSizeInequality() && getSize(actualValues) != getSize(expectedValues);
-    }
-
-    private void verifyIterableElement(CommonSoftAssertion commonSoftAssertion, Iterator<?> actualValuesIterator,
-            Iterator<?> expectedValuesIterator, int index, AssertionConfiguration configuration, Field identifierField,
-            FieldTrace fieldTrace) {
-        Object expectedSubObject = expectedValuesIterator.next();
-        if (!actualValuesIterator.hasNext()) {
-            commonSoftAssertion.fail(String.format("Missed element at '%s': %s", fieldTrace, expectedSubObject));
-            return;
-        }
-        Object actualSubObject = actualValuesIterator.next();
-        verifyElement(commonSoftAssertion, actualSubObject, expectedSubObject, index, configuration, identifierField,
-                fieldTrace);
-    }
-
-    private void verifyIterableElements(CommonSoftAssertion commonSoftAssertion, Iterable<?> actualValues,
-            Iterable<?> expectedValues, AssertionConfiguration assertionConfiguration, FieldTrace fieldTrace) {
+    /**
+     * Verifies elements of iterables in iteration order, by identifier, by structure or after sorting depending on
+     * configuration.
+     *
+     * @param fieldVerificationConfiguration <code>FieldVerificationConfiguration</code> of verified iterable.
+     * @param actualValues                   <code>Iterable</code> with actual elements.
+     * @param expectedValues                 <code>Iterable</code> with expected elements.
+     * @param fieldTrace                     <code>FieldTrace</code> of verified iterable.
+     */
+    protected void verifyIterableElements(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Iterable<?> actualValues, Iterable<?> expectedValues, FieldTrace fieldTrace) {
         Class<?> commonExpectedType = ClassUtil.getCommonClass(expectedValues);
-        if (assertionConfiguration.sortCollections()) {
+        IdentifierKeyExtractor identifierKeyExtractor = assertionContext.getIdentifierFieldStorage()
+                .getKeyExtractor(commonExpectedType);
+        AssertionConfiguration configuration = fieldVerificationConfiguration.getConfiguration();
+        if (configuration.sortCollections() || configuration.matchUnorderedElements()) {
+            if (identifierKeyExtractor != null) {
+                log.debug("Matching iterable elements by identifier.");
+                verifyElementsByIdentifier(fieldVerificationConfiguration, actualValues, expectedValues,
+                        identifierKeyExtractor, fieldTrace);
+                return;
+            }
+            if (configuration.matchUnorderedElements()) {
+                log.debug("Matching iterable elements by structure.");
+                verifyElementsByStructure(fieldVerificationConfiguration, actualValues, expectedValues, fieldTrace);
+                return;
+            }
             log.debug("Sorting iterables.");
             actualValues = SortUtil.sort(actualValues, assertionContext.getComparatorStorage());
             expectedValues = SortUtil.sort(expectedValues, assertionContext.getComparatorStorage(), commonExpectedType);
         }
-        Field identifierField = assertionContext.getIdentifierFieldStorage().get(commonExpectedType);
-        Iterator<?> expectedValuesIterator = expectedValues.iterator();
-        Iterator<?> actualValuesIterator = actualValues.iterator();
-        int index = 0;
-        while (expectedValuesIterator.hasNext()) {
-            verifyIterableElement(commonSoftAssertion, actualValuesIterator, expectedValuesIterator, index,
-                    assertionConfiguration, identifierField, fieldTrace);
-            ++index;
-        }
-        if (actualValuesIterator.hasNext()) {
-            actualValuesIterator.forEachRemaining(remainedObject -> commonSoftAssertion
-                    .fail(String.format("Unexpected element at '%s': %s", fieldTrace, remainedObject)));
-        }
+        verifyElementsByPosition(fieldVerificationConfiguration, actualValues.iterator(), expectedValues.iterator(),
+                identifierKeyExtractor, fieldTrace);
     }
 
-    private void verifySize(CommonSoftAssertion commonSoftAssertion, Iterable<?> actualValues,
+    /**
+     * Verifies that actual and expected iterables have same size.
+     *
+     * @param commonSoftAssertion <code>CommonSoftAssertion</code> to register failure at.
+     * @param actualValues        <code>Iterable</code> with actual elements.
+     * @param expectedValues      <code>Iterable</code> with expected elements.
+     * @param fieldTrace          <code>FieldTrace</code> of verified iterable.
+     */
+    protected void verifySize(CommonSoftAssertion commonSoftAssertion, Iterable<?> actualValues,
             Iterable<?> expectedValues, FieldTrace fieldTrace) {
-        String message = String.format("[%s] Size of actual and expected iterables differs", fieldTrace.getTrace());
-        commonSoftAssertion.assertEqualSize(actualValues, expectedValues, message);
+        commonSoftAssertion.assertEqualSize(actualValues, expectedValues,
+                () -> String.format("[%s] Size of actual and expected iterables differs", fieldTrace.getTrace()));
+    }
+
+    private long getSize(Iterable<?> iterable) {
+        return StreamSupport.stream(iterable.spliterator(), false).count();
+    }
+
+    private boolean shouldBreakOnSizeInequality(AssertionConfiguration configuration, Iterable<?> actualValues,
+            Iterable<?> expectedValues) {
+        return configuration.breakOnSizeInequality() && getSize(actualValues) != getSize(expectedValues);
     }
 }
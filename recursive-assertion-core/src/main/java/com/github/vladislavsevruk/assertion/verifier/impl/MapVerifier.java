@@ -25,24 +25,23 @@ package com.github.vladislavsevruk.assertion.verifier.impl;
 
 import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
 import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
 import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
 import com.github.vladislavsevruk.assertion.field.VerificationField;
-import com.github.vladislavsevruk.assertion.util.FieldPathMatcher;
 import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
-import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 
 /**
  * Verifies value of map type.
  */
 @Log4j2
-public class MapVerifier implements FieldVerifier {
+public class MapVerifier implements ClassBasedFieldVerifier {
 
     private AssertionContext assertionContext;
 
@@ -54,8 +53,7 @@ public class MapVerifier implements FieldVerifier {
      * {@inheritDoc}
      */
     @Override
-    public <T> boolean canVerify(VerificationField<T> verificationField) {
-        Class<?> clazz = verificationField.expected().getClass();
+    public boolean canVerify(Class<?> clazz) {
         return ReflectionUtil.isMap(clazz);
     }
 
@@ -70,47 +68,61 @@ public class MapVerifier implements FieldVerifier {
         Map<?, ?> actualMap = (Map<?, ?>) verificationField.actual();
         CommonSoftAssertion commonSoftAssertion = fieldVerificationConfiguration.getCommonSoftAssertion();
         AssertionConfiguration assertionConfiguration = fieldVerificationConfiguration.getConfiguration();
-        compareExpectedKeys(commonSoftAssertion, actualMap, expectedMap, verificationField.trace(),
-                assertionConfiguration);
+        compareExpectedKeys(fieldVerificationConfiguration, actualMap, expectedMap, verificationField.trace());
         compareActualKeys(commonSoftAssertion, actualMap, expectedMap, verificationField.trace(),
                 assertionConfiguration);
     }
 
     private void compareActualKeys(CommonSoftAssertion commonSoftAssertion, Map<?, ?> actual, Map<?, ?> expected,
             FieldTrace fieldTrace, AssertionConfiguration assertionConfiguration) {
-        Set<String> fieldPathsToIgnore = assertionConfiguration.fieldPathsToIgnore();
+        CompiledFieldPaths fieldPathsToIgnore = assertionConfiguration.compiledFieldPathsToIgnore();
+        boolean checkFieldPaths = fieldPathsToIgnore.mayMatchBelow(fieldTrace);
+        CompiledFieldPaths fieldPathsToVerify = assertionConfiguration.compiledFieldPathsToVerify();
+        boolean checkPathsToVerify = !fieldPathsToVerify.isEmpty() && !fieldPathsToVerify.isWithinMatch(fieldTrace);
         for (Object actualKey : actual.keySet()) {
             if (!expected.containsKey(actualKey)) {
                 FieldTrace itemTrace = fieldTrace.key(actualKey);
-                if (FieldPathMatcher.isMatchAny(fieldPathsToIgnore, itemTrace)) {
+                if (checkFieldPaths && fieldPathsToIgnore.isMatch(itemTrace)) {
                     log.debug(() -> String.format("Skipping element with '%s' field trace.", itemTrace));
                     continue;
                 }
+                if (checkPathsToVerify && !fieldPathsToVerify.isOnMatchPath(itemTrace)) {
+                    log.debug(() -> String.format("Skipping element with '%s' field trace as it isn't on path to "
+                            + "verify.", itemTrace));
+                    continue;
+                }
                 String failMessage = String.format("[%s] unexpected object with key <%s>", fieldTrace, actualKey);
                 commonSoftAssertion.fail(failMessage);
             }
         }
     }
 
-    private void compareExpectedKeys(CommonSoftAssertion commonSoftAssertion, Map<?, ?> actual, Map<?, ?> expected,
-            FieldTrace fieldTrace, AssertionConfiguration assertionConfiguration) {
-        Set<String> fieldPathsToIgnore = assertionConfiguration.fieldPathsToIgnore();
+    private void compareExpectedKeys(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Map<?, ?> actual, Map<?, ?> expected, FieldTrace fieldTrace) {
+        AssertionConfiguration assertionConfiguration = fieldVerificationConfiguration.getConfiguration();
+        CompiledFieldPaths fieldPathsToIgnore = assertionConfiguration.compiledFieldPathsToIgnore();
+        boolean checkFieldPaths = fieldPathsToIgnore.mayMatchBelow(fieldTrace);
+        CompiledFieldPaths fieldPathsToVerify = assertionConfiguration.compiledFieldPathsToVerify();
+        boolean checkPathsToVerify = !fieldPathsToVerify.isEmpty() && !fieldPathsToVerify.isWithinMatch(fieldTrace);
         for (Entry<?, ?> entry : expected.entrySet()) {
             FieldTrace itemTrace = fieldTrace.key(entry.getKey());
-            if (FieldPathMatcher.isMatchAny(fieldPathsToIgnore, itemTrace)) {
+            if (checkFieldPaths && fieldPathsToIgnore.isMatch(itemTrace)) {
                 log.debug(() -> String.format("Skipping element with '%s' field trace.", itemTrace));
                 continue;
             }
+            if (checkPathsToVerify && !fieldPathsToVerify.isOnMatchPath(itemTrace)) {
+                log.debug(() -> String.format("Skipping element with '%s' field trace as it isn't on path to verify.",
+                        itemTrace));
+                continue;
+            }
             if (!actual.containsKey(entry.getKey())) {
                 String failMessage = String.format("[%s] object with key <%s> is missed", fieldTrace, entry.getKey());
-                commonSoftAssertion.fail(failMessage);
+                fieldVerificationConfiguration.getCommonSoftAssertion().fail(failMessage);
             } else {
                 VerificationField<Object> verificationField = new VerificationField<>(actual.get(entry.getKey()),
                         entry.getValue(), itemTrace);
-                FieldVerificationConfiguration<Object> fieldVerificationConfiguration
-                        = new FieldVerificationConfiguration<>(commonSoftAssertion, verificationField,
-                        assertionConfiguration);
-                assertionContext.getAssertionEngine().compareObjects(fieldVerificationConfiguration);
+                assertionContext.getAssertionEngine()
+                        .compareObjects(fieldVerificationConfiguration.forInnerField(verificationField));
             }
         }
     }
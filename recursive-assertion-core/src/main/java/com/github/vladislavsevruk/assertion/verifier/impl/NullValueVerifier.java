@@ -24,25 +24,30 @@
 package com.github.vladislavsevruk.assertion.verifier.impl;
 
 import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
 import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
 
+import java.lang.reflect.Array;
 import java.util.Map;
 
 /**
- * Abstract verifier for cases with 'null' value.
+ * Abstract verifier for cases with 'null' value. Descendants are expected to verify only cases when at least one of
+ * actual and expected values is 'null' so they are skipped for non-null values without <code>canVerify</code> call.
  */
 public abstract class NullValueVerifier implements FieldVerifier {
 
-    protected <T> void compareIfEmpty(CommonSoftAssertion commonSoftAssertion, T value, String trace) {
+    protected <T> void compareIfEmpty(CommonSoftAssertion commonSoftAssertion, T value, FieldTrace fieldTrace) {
         Class<?> clazz = value.getClass();
-        if (clazz.isArray()) {
-            commonSoftAssertion.assertEmpty((Object[]) value, trace);
+        if (clazz.isArray() && clazz.getComponentType().isPrimitive()) {
+            commonSoftAssertion.assertEquals(Array.getLength(value), 0, fieldTrace::getTrace);
+        } else if (clazz.isArray()) {
+            commonSoftAssertion.assertEmpty((Object[]) value, fieldTrace::getTrace);
         } else if (ReflectionUtil.isIterable(clazz)) {
-            commonSoftAssertion.assertEmpty((Iterable<?>) value, trace);
+            commonSoftAssertion.assertEmpty((Iterable<?>) value, fieldTrace::getTrace);
         } else {
-            commonSoftAssertion.assertEmpty((Map<?, ?>) value, trace);
+            commonSoftAssertion.assertEmpty((Map<?, ?>) value, fieldTrace::getTrace);
         }
     }
 
@@ -0,0 +1,248 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier.impl;
+
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
+import com.github.vladislavsevruk.assertion.field.CompiledFieldPaths;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * Verifies value of field with array of primitives type. Arrays are compared as whole first and elements are checked
+ * one by one only if arrays differ. Only first differing elements are reported and just their values are boxed.
+ */
+@Log4j2
+public class PrimitiveArrayVerifier implements ClassBasedFieldVerifier {
+
+    private static final int MAX_REPORTED_ELEMENTS = 10;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canVerify(Class<?> clazz) {
+        return clazz.isArray() && clazz.getComponentType().isPrimitive();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void verify(final FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        log.debug(() -> "Verifying primitive array.");
+        VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+        Object actualValues = verificationField.actual();
+        Object expectedValues = verificationField.expected();
+        CommonSoftAssertion commonSoftAssertion = fieldVerificationConfiguration.getCommonSoftAssertion();
+        FieldTrace fieldTrace = verificationField.trace();
+        if (actualValues.getClass() != expectedValues.getClass()) {
+            commonSoftAssertion.fail(String.format("[%s] Type of actual array <%s> differs from expected <%s>",
+                    fieldTrace, actualValues.getClass().getSimpleName(), expectedValues.getClass().getSimpleName()));
+            return;
+        }
+        if (isEqual(actualValues, expectedValues)) {
+            log.debug(() -> "Arrays are equal.");
+            return;
+        }
+        int actualLength = Array.getLength(actualValues);
+        int expectedLength = Array.getLength(expectedValues);
+        commonSoftAssertion.assertEquals(actualLength, expectedLength,
+                () -> String.format("[%s] Length of actual and expected arrays differs", fieldTrace.getTrace()));
+        AssertionConfiguration assertionConfiguration = fieldVerificationConfiguration.getConfiguration();
+        if (assertionConfiguration.breakOnSizeInequality() && actualLength != expectedLength) {
+            log.debug(() -> "Breaking verifications on length inequality.");
+            return;
+        }
+        if (assertionConfiguration.sortCollections()) {
+            log.debug("Sorting arrays.");
+            actualValues = sortedCopy(actualValues);
+            expectedValues = sortedCopy(expectedValues);
+        }
+        verifyArrayElements(fieldVerificationConfiguration, actualValues, expectedValues);
+    }
+
+    private static boolean isEqual(Object actual, Object expected) {
+        Class<?> componentType = expected.getClass().getComponentType();
+        if (int.class == componentType) {
+            return Arrays.equals((int[]) actual, (int[]) expected);
+        }
+        if (long.class == componentType) {
+            return Arrays.equals((long[]) actual, (long[]) expected);
+        }
+        if (double.class == componentType) {
+            return Arrays.equals((double[]) actual, (double[]) expected);
+        }
+        if (byte.class == componentType) {
+            return Arrays.equals((byte[]) actual, (byte[]) expected);
+        }
+        if (float.class == componentType) {
+            return Arrays.equals((float[]) actual, (float[]) expected);
+        }
+        if (short.class == componentType) {
+            return Arrays.equals((short[]) actual, (short[]) expected);
+        }
+        if (char.class == componentType) {
+            return Arrays.equals((char[]) actual, (char[]) expected);
+        }
+        return Arrays.equals((boolean[]) actual, (boolean[]) expected);
+    }
+
+    private static boolean isMismatch(Class<?> componentType, Object actual, Object expected, int index) {
+        if (int.class == componentType) {
+            return ((int[]) actual)[index] != ((int[]) expected)[index];
+        }
+        if (long.class == componentType) {
+            return ((long[]) actual)[index] != ((long[]) expected)[index];
+        }
+        if (double.class == componentType) {
+            return Double.doubleToLongBits(((double[]) actual)[index]) != Double
+                    .doubleToLongBits(((double[]) expected)[index]);
+        }
+        if (byte.class == componentType) {
+            return ((byte[]) actual)[index] != ((byte[]) expected)[index];
+        }
+        if (float.class == componentType) {
+            return Float.floatToIntBits(((float[]) actual)[index]) != Float
+                    .floatToIntBits(((float[]) expected)[index]);
+        }
+        if (short.class == componentType) {
+            return ((short[]) actual)[index] != ((short[]) expected)[index];
+        }
+        if (char.class == componentType) {
+            return ((char[]) actual)[index] != ((char[]) expected)[index];
+        }
+        return ((boolean[]) actual)[index] != ((boolean[]) expected)[index];
+    }
+
+    private static int nextMismatch(Object actual, Object expected, int fromIndex, int toIndex) {
+        // elements are compared same way as by Arrays.equals
+        Class<?> componentType = expected.getClass().getComponentType();
+        for (int i = fromIndex; i < toIndex; ++i) {
+            if (isMismatch(componentType, actual, expected, i)) {
+                return i;
+            }
+        }
+        return toIndex;
+    }
+
+    private static Object sortedCopy(Object values) {
+        Class<?> componentType = values.getClass().getComponentType();
+        if (boolean.class == componentType) {
+            log.debug("Array of booleans can't be sorted.");
+            return values;
+        }
+        int length = Array.getLength(values);
+        Object copy = Array.newInstance(componentType, length);
+        System.arraycopy(values, 0, copy, 0, length);
+        if (int.class == componentType) {
+            Arrays.sort((int[]) copy);
+        } else if (long.class == componentType) {
+            Arrays.sort((long[]) copy);
+        } else if (double.class == componentType) {
+            Arrays.sort((double[]) copy);
+        } else if (byte.class == componentType) {
+            Arrays.sort((byte[]) copy);
+        } else if (float.class == componentType) {
+            Arrays.sort((float[]) copy);
+        } else if (short.class == componentType) {
+            Arrays.sort((short[]) copy);
+        } else {
+            Arrays.sort((char[]) copy);
+        }
+        return copy;
+    }
+
+    private boolean shouldVerifyElement(AssertionConfiguration assertionConfiguration, FieldTrace fieldTrace,
+            FieldTrace itemTrace) {
+        CompiledFieldPaths fieldPathsToIgnore = assertionConfiguration.compiledFieldPathsToIgnore();
+        if (fieldPathsToIgnore.mayMatchBelow(fieldTrace) && fieldPathsToIgnore.isMatch(itemTrace)) {
+            log.debug(() -> String.format("Skipping element with '%s' field trace.", itemTrace));
+            return false;
+        }
+        CompiledFieldPaths fieldPathsToVerify = assertionConfiguration.compiledFieldPathsToVerify();
+        if (!fieldPathsToVerify.isEmpty() && !fieldPathsToVerify.isWithinMatch(fieldTrace) && !fieldPathsToVerify
+                .isOnMatchPath(itemTrace)) {
+            log.debug(() -> String.format("Skipping element with '%s' field trace as it isn't on path to verify.",
+                    itemTrace));
+            return false;
+        }
+        return true;
+    }
+
+    private void verifyArrayElements(FieldVerificationConfiguration<?> fieldVerificationConfiguration,
+            Object actualValues, Object expectedValues) {
+        CommonSoftAssertion commonSoftAssertion = fieldVerificationConfiguration.getCommonSoftAssertion();
+        AssertionConfiguration assertionConfiguration = fieldVerificationConfiguration.getConfiguration();
+        FieldTrace fieldTrace = fieldVerificationConfiguration.getVerificationField().trace();
+        int actualLength = Array.getLength(actualValues);
+        int expectedLength = Array.getLength(expectedValues);
+        int commonLength = Math.min(actualLength, expectedLength);
+        int reportedElements = 0;
+        int notReportedElements = 0;
+        int index = nextMismatch(actualValues, expectedValues, 0, commonLength);
+        while (index < commonLength) {
+            FieldTrace itemTrace = fieldTrace.index(index);
+            if (shouldVerifyElement(assertionConfiguration, fieldTrace, itemTrace)) {
+                if (reportedElements == MAX_REPORTED_ELEMENTS) {
+                    ++notReportedElements;
+                } else {
+                    // only values of reported elements are boxed
+                    commonSoftAssertion.assertEquals(Array.get(actualValues, index), Array.get(expectedValues, index),
+                            itemTrace::getTrace);
+                    ++reportedElements;
+                }
+            }
+            index = nextMismatch(actualValues, expectedValues, index + 1, commonLength);
+        }
+        for (int i = commonLength; i < expectedLength; ++i) {
+            if (reportedElements == MAX_REPORTED_ELEMENTS) {
+                notReportedElements += expectedLength - i;
+                break;
+            }
+            commonSoftAssertion
+                    .fail(String.format("Missed element at '%s': %s", fieldTrace, Array.get(expectedValues, i)));
+            ++reportedElements;
+        }
+        for (int i = commonLength; i < actualLength; ++i) {
+            if (reportedElements == MAX_REPORTED_ELEMENTS) {
+                notReportedElements += actualLength - i;
+                break;
+            }
+            commonSoftAssertion
+                    .fail(String.format("Unexpected element at '%s': %s", fieldTrace, Array.get(actualValues, i)));
+            ++reportedElements;
+        }
+        if (notReportedElements != 0) {
+            commonSoftAssertion.fail(String.format("[%s] %d more differing element(s) weren't reported", fieldTrace,
+                    notReportedElements));
+        }
+    }
+}
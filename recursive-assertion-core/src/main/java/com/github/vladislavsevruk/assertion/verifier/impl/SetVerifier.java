@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier.impl;
+
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.IdentifierKeyExtractor;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.util.ClassUtil;
+import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Verifies value of set type. Elements that have own <code>equals</code> method are paired with equal elements of
+ * opposite set using hash lookup so sets with different iteration order are verified correctly. Paired elements that
+ * aren't of simple type are still verified recursively as <code>equals</code> may compare only part of their fields
+ * (e.g. identifier), remaining elements are verified in the same way as elements of iterables.
+ */
+@Log4j2
+public class SetVerifier extends IterableVerifier {
+
+    public SetVerifier(AssertionContext assertionContext) {
+        super(assertionContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canVerify(Class<?> clazz) {
+        return Set.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void verify(final FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+        VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+        if (!(verificationField.actual() instanceof Set)) {
+            log.debug(() -> "Actual value isn't a set, verifying it as iterable.");
+            super.verify(fieldVerificationConfiguration);
+            return;
+        }
+        log.debug(() -> "Verifying set.");
+        Set<?> actualValues = (Set<?>) verificationField.actual();
+        Set<?> expectedValues = (Set<?>) verificationField.expected();
+        FieldTrace fieldTrace = verificationField.trace();
+        verifySize(fieldVerificationConfiguration.getCommonSoftAssertion(), actualValues, expectedValues, fieldTrace);
+        if (fieldVerificationConfiguration.getConfiguration().breakOnSizeInequality()
+                && actualValues.size() != expectedValues.size()) {
+            log.debug(() -> "Breaking verifications on size inequality.");
+            return;
+        }
+        Map<Object, Object> actualElementsByValue = indexElementsByValue(actualValues);
+        IdentifierKeyExtractor identifierKeyExtractor = assertionContext.getIdentifierFieldStorage()
+                .getKeyExtractor(ClassUtil.getCommonClass(expectedValues));
+        List<Object> unmatchedExpectedValues = new ArrayList<>();
+        int index = 0;
+        for (Object expectedValue : expectedValues) {
+            Object actualValue = isMatchedByEquals(expectedValue) ? actualElementsByValue.remove(expectedValue) : null;
+            if (actualValue == null) {
+                unmatchedExpectedValues.add(expectedValue);
+            } else if (!ReflectionUtil.isSimpleType(expectedValue.getClass())) {
+                // equals may compare only part of fields so paired elements are verified recursively as well
+                verifyElement(fieldVerificationConfiguration, actualValue, expectedValue, index,
+                        identifierKeyExtractor, fieldTrace);
+            }
+            ++index;
+        }
+        List<Object> unmatchedActualValues = getUnmatchedElements(actualValues, actualElementsByValue);
+        if (unmatchedExpectedValues.isEmpty() && unmatchedActualValues.isEmpty()) {
+            log.debug(() -> "All set elements have equal pair.");
+            return;
+        }
+        log.debug(() -> String.format("Verifying %d expected and %d actual set element(s) without equal pair.",
+                unmatchedExpectedValues.size(), unmatchedActualValues.size()));
+        verifyIterableElements(fieldVerificationConfiguration, unmatchedActualValues, unmatchedExpectedValues,
+                fieldTrace);
+    }
+
+    private static List<Object> getUnmatchedElements(Set<?> values, Map<Object, Object> unmatchedElementsByValue) {
+        List<Object> unmatchedValues = new ArrayList<>();
+        for (Object value : values) {
+            if (!isMatchedByEquals(value) || unmatchedElementsByValue.get(value) == value) {
+                unmatchedValues.add(value);
+            }
+        }
+        return unmatchedValues;
+    }
+
+    private static Map<Object, Object> indexElementsByValue(Set<?> values) {
+        Map<Object, Object> elementsByValue = new HashMap<>();
+        for (Object value : values) {
+            if (isMatchedByEquals(value)) {
+                elementsByValue.putIfAbsent(value, value);
+            }
+        }
+        return elementsByValue;
+    }
+
+    private static boolean isMatchedByEquals(Object value) {
+        return value != null && ReflectionUtil.overridesEquals(value.getClass());
+    }
+}
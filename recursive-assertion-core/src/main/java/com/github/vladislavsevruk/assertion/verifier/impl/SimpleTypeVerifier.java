@@ -23,25 +23,25 @@
  */
 package com.github.vladislavsevruk.assertion.verifier.impl;
 
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
 import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
 import com.github.vladislavsevruk.assertion.field.VerificationField;
 import com.github.vladislavsevruk.assertion.util.ReflectionUtil;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
-import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Verifies value of simple type.
  */
 @Log4j2
-public class SimpleTypeVerifier implements FieldVerifier {
+public class SimpleTypeVerifier implements ClassBasedFieldVerifier {
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public <T> boolean canVerify(VerificationField<T> verificationField) {
-        Class<?> clazz = verificationField.expected().getClass();
+    public boolean canVerify(Class<?> clazz) {
         return ReflectionUtil.isSimpleType(clazz);
     }
 
@@ -53,7 +53,8 @@ public class SimpleTypeVerifier implements FieldVerifier {
         log.debug(() -> "Verifying simple type value.");
         CommonSoftAssertion commonSoftAssertion = fieldVerificationConfiguration.getCommonSoftAssertion();
         VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
-        commonSoftAssertion.assertEquals(verificationField.actual(), verificationField.expected(),
-                verificationField.trace().getTrace());
+        FieldTrace fieldTrace = verificationField.trace();
+        commonSoftAssertion
+                .assertEquals(verificationField.actual(), verificationField.expected(), fieldTrace::getTrace);
     }
 }
@@ -0,0 +1,351 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.engine;
+
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfigurationBuilder;
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.context.AssertionModuleFactoryMethod;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.storage.ComparatorStorage;
+import com.github.vladislavsevruk.assertion.storage.ComparatorStorageImpl;
+import com.github.vladislavsevruk.assertion.storage.FieldVerifierStorage;
+import com.github.vladislavsevruk.assertion.storage.FieldVerifierStorageImpl;
+import com.github.vladislavsevruk.assertion.storage.IdentifierFieldStorage;
+import com.github.vladislavsevruk.assertion.storage.IdentifierFieldStorageImpl;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.impl.ComplexObjectVerifier;
+import lombok.Getter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+class ForkJoinAssertionEngineTest {
+
+    private static final ForkJoinPool FORK_JOIN_POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutdownPool() {
+        FORK_JOIN_POOL.shutdown();
+    }
+
+    @Test
+    void cyclicModelTest() {
+        Item actual = new Item("a", 1, null);
+        actual.items.add(new Item("b", 2, actual));
+        Item expected = new Item("a", 1, null);
+        expected.items.add(new Item("b", 3, expected));
+        assertSameAsRecursiveEngine(actual, expected);
+    }
+
+    @Test
+    void failuresOrderIsSameAsForRecursiveEngineTest() {
+        Item actual = createTree("actual", 3, 6);
+        Item expected = createTree("expected", 3, 7);
+        assertSameAsRecursiveEngine(actual, expected);
+    }
+
+    @Test
+    void invalidThresholdTest() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ForkJoinAssertionEngine(new TestContext(AssertionEngineImpl::new), FORK_JOIN_POOL, 1));
+    }
+
+    @Test
+    void largeMapTest() {
+        Map<String, Item> actual = new HashMap<>();
+        Map<String, Item> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 200; ++i) {
+            actual.put("key" + i, new Item("item" + i, i, null));
+            expected.put("key" + i, new Item("item" + i, i % 7 == 0 ? -i : i, null));
+        }
+        expected.put("missed", new Item("missed", 0, null));
+        assertSameAsRecursiveEngine(actual, expected);
+    }
+
+    @Test
+    void maxFailuresTest() {
+        Item actual = createTree("actual", 3, 6);
+        Item expected = createTree("expected", 3, 7);
+        for (int maxFailures : new int[]{ 1, 5, 50 }) {
+            AssertionConfigurationBuilder configurationBuilder = new AssertionConfigurationBuilder()
+                    .breakOnSizeInequality(false).maxFailures(maxFailures);
+            List<String> recursiveAssertions = verify(AssertionEngineImpl::new, actual, expected,
+                    configurationBuilder);
+            Assertions.assertEquals(maxFailures + 1, recursiveAssertions.size());
+            Assertions.assertEquals("fail|Verification was stopped after " + maxFailures
+                    + " failure(s), remaining values weren't verified.", recursiveAssertions.get(maxFailures));
+            // failures that fit the limit depend on order of verification only, not on threads scheduling
+            for (int i = 0; i < 10; ++i) {
+                Assertions.assertEquals(recursiveAssertions,
+                        verify(assertionContext -> new ForkJoinAssertionEngine(assertionContext, FORK_JOIN_POOL, 4),
+                                actual, expected, configurationBuilder));
+            }
+        }
+    }
+
+    @Test
+    void maxFailuresWithPassedSubtreesTest() {
+        Item actual = createTree("same", 3, 6);
+        Item expected = createTree("same", 3, 6);
+        expected.items.get(1).items.get(2).count = -1;
+        expected.items.get(4).count = -1;
+        expected.items.get(5).items.get(0).items.get(3).count = -1;
+        for (int maxFailures : new int[]{ 1, 2, 3 }) {
+            AssertionConfigurationBuilder configurationBuilder = new AssertionConfigurationBuilder()
+                    .breakOnSizeInequality(false).maxFailures(maxFailures);
+            List<String> recursiveAssertions = verify(AssertionEngineImpl::new, actual, expected,
+                    configurationBuilder);
+            Assertions.assertEquals(maxFailures + 1, recursiveAssertions.size());
+            Assertions.assertEquals(recursiveAssertions,
+                    verify(assertionContext -> new ForkJoinAssertionEngine(assertionContext, FORK_JOIN_POOL, 4),
+                            actual, expected, configurationBuilder));
+        }
+    }
+
+    @Test
+    void narrowDeepTreeIsVerifiedInParallelTest() {
+        Branch actual = createBranch(6, 1);
+        Branch expected = createBranch(6, 2);
+        ThreadRecordingLeafVerifier leafVerifier = new ThreadRecordingLeafVerifier();
+        TestContext context = new TestContext(
+                assertionContext -> new ForkJoinAssertionEngine(assertionContext, FORK_JOIN_POOL, 8));
+        context.getFieldVerifierStorage().addBefore(leafVerifier, ComplexObjectVerifier.class);
+        RecordingAssertion recordingAssertion = new RecordingAssertion();
+        VerificationField<Branch> verificationField = new VerificationField<>(actual, expected,
+                new FieldTrace(expected));
+        context.getAssertionEngine().compareObjects(FieldVerificationConfiguration.forRootField(recordingAssertion,
+                verificationField, new AssertionConfigurationBuilder().build()));
+        Assertions.assertTrue(leafVerifier.threadNames.size() > 1);
+        Assertions.assertEquals(64, recordingAssertion.assertions.size());
+        Assertions.assertEquals("assertEquals|Branch.branches[0].branches[0].branches[0].branches[0].branches[0]"
+                + ".branches[0].leaf|1|2", recordingAssertion.assertions.get(0));
+    }
+
+    @Test
+    void repeatedPairTest() {
+        Item actualShared = createTree("shared", 2, 3);
+        Item expectedShared = createTree("other", 2, 3);
+        Item[] actual = new Item[20];
+        Item[] expected = new Item[20];
+        Arrays.fill(actual, actualShared);
+        Arrays.fill(expected, expectedShared);
+        assertSameAsRecursiveEngine(actual, expected);
+    }
+
+    private <T> void assertSameAsRecursiveEngine(T actual, T expected) {
+        List<String> recursiveAssertions = verify(AssertionEngineImpl::new, actual, expected);
+        List<String> forkJoinAssertions = verify(
+                assertionContext -> new ForkJoinAssertionEngine(assertionContext, FORK_JOIN_POOL, 4), actual,
+                expected);
+        Assertions.assertFalse(recursiveAssertions.isEmpty());
+        Assertions.assertEquals(recursiveAssertions, forkJoinAssertions);
+    }
+
+    private Branch createBranch(int depth, int leafValue) {
+        Branch branch = new Branch();
+        if (depth == 0) {
+            branch.leaf = new Leaf(leafValue);
+        } else {
+            branch.branches.add(createBranch(depth - 1, leafValue));
+            branch.branches.add(createBranch(depth - 1, leafValue));
+        }
+        return branch;
+    }
+
+    private Item createTree(String prefix, int depth, int width) {
+        Item item = new Item(prefix + depth, depth, null);
+        if (depth > 0) {
+            for (int i = 0; i < width; ++i) {
+                item.items.add(createTree(prefix + i, depth - 1, width));
+            }
+        }
+        return item;
+    }
+
+    private <T> List<String> verify(AssertionModuleFactoryMethod<AssertionEngine> engineFactoryMethod, T actual,
+            T expected) {
+        return verify(engineFactoryMethod, actual, expected,
+                new AssertionConfigurationBuilder().breakOnSizeInequality(false));
+    }
+
+    private <T> List<String> verify(AssertionModuleFactoryMethod<AssertionEngine> engineFactoryMethod, T actual,
+            T expected, AssertionConfigurationBuilder configurationBuilder) {
+        TestContext context = new TestContext(engineFactoryMethod);
+        RecordingAssertion recordingAssertion = new RecordingAssertion();
+        VerificationField<T> verificationField = new VerificationField<>(actual, expected, new FieldTrace(expected));
+        context.getAssertionEngine().compareObjects(FieldVerificationConfiguration.forRootField(recordingAssertion,
+                verificationField, configurationBuilder.build()));
+        return recordingAssertion.assertions;
+    }
+
+    private static class Branch {
+
+        private List<Branch> branches = new ArrayList<>();
+        private Leaf leaf;
+    }
+
+    private static class Item {
+
+        private int count;
+        private String id;
+        private List<Item> items = new ArrayList<>();
+        private Item parent;
+
+        private Item(String id, int count, Item parent) {
+            this.id = id;
+            this.count = count;
+            this.parent = parent;
+        }
+
+        @Override
+        public String toString() {
+            return id;
+        }
+    }
+
+    private static class Leaf {
+
+        private int value;
+
+        private Leaf(int value) {
+            this.value = value;
+        }
+    }
+
+    private static class RecordingAssertion implements CommonSoftAssertion {
+
+        private final List<String> assertions = new ArrayList<>();
+
+        @Override
+        public void assertAll() {
+            assertions.add("assertAll");
+        }
+
+        @Override
+        public void assertEmpty(Object[] actual, String message) {
+            if (actual.length != 0) {
+                assertions.add("assertEmpty|" + message + "|" + Arrays.toString(actual));
+            }
+        }
+
+        @Override
+        public void assertEmpty(Iterable<?> actual, String message) {
+            if (actual.iterator().hasNext()) {
+                assertions.add("assertEmpty|" + message + "|" + actual);
+            }
+        }
+
+        @Override
+        public void assertEmpty(Map<?, ?> actual, String message) {
+            if (!actual.isEmpty()) {
+                assertions.add("assertEmpty|" + message + "|" + actual);
+            }
+        }
+
+        @Override
+        public void assertEqualSize(Object[] actual, Object[] expected, String message) {
+            if (actual.length != expected.length) {
+                assertions.add("assertEqualSize|" + message + "|" + actual.length + "|" + expected.length);
+            }
+        }
+
+        @Override
+        public void assertEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+            if (((Collection<?>) actual).size() != ((Collection<?>) expected).size()) {
+                assertions.add("assertEqualSize|" + message + "|" + actual + "|" + expected);
+            }
+        }
+
+        @Override
+        public <T> void assertEquals(T actual, T expected, String message) {
+            if (!Objects.equals(actual, expected)) {
+                assertions.add("assertEquals|" + message + "|" + actual + "|" + expected);
+            }
+        }
+
+        @Override
+        public void fail(String message) {
+            assertions.add("fail|" + message);
+        }
+    }
+
+    @Getter
+    private static class TestContext implements AssertionContext {
+
+        private final AssertionEngine assertionEngine;
+        private final ComparatorStorage comparatorStorage = new ComparatorStorageImpl();
+        private final FieldVerifierStorage fieldVerifierStorage;
+        private final IdentifierFieldStorage identifierFieldStorage = new IdentifierFieldStorageImpl();
+
+        private TestContext(AssertionModuleFactoryMethod<AssertionEngine> engineFactoryMethod) {
+            this.assertionEngine = engineFactoryMethod.get(this);
+            this.fieldVerifierStorage = new FieldVerifierStorageImpl(this);
+        }
+    }
+
+    private static class ThreadRecordingLeafVerifier implements ClassBasedFieldVerifier {
+
+        private final CountDownLatch latch = new CountDownLatch(2);
+        private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean canVerify(Class<?> clazz) {
+            return Leaf.class.equals(clazz);
+        }
+
+        @Override
+        public <T> void verify(FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+            if (threadNames.add(Thread.currentThread().getName())) {
+                latch.countDown();
+            }
+            try {
+                // leaves are verified by single thread until other thread verifies leaf of forked task
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+            fieldVerificationConfiguration.getCommonSoftAssertion()
+                    .assertEquals(((Leaf) verificationField.actual()).value,
+                            ((Leaf) verificationField.expected()).value, verificationField.trace()::getTrace);
+        }
+    }
+}
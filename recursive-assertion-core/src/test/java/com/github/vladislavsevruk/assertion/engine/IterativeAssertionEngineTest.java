@@ -0,0 +1,482 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.engine;
+
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfigurationBuilder;
+import com.github.vladislavsevruk.assertion.configuration.DepthLimitFallback;
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.context.AssertionModuleFactoryMethod;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.storage.ComparatorStorage;
+import com.github.vladislavsevruk.assertion.storage.ComparatorStorageImpl;
+import com.github.vladislavsevruk.assertion.storage.FieldVerifierStorage;
+import com.github.vladislavsevruk.assertion.storage.FieldVerifierStorageImpl;
+import com.github.vladislavsevruk.assertion.storage.IdentifierFieldStorage;
+import com.github.vladislavsevruk.assertion.storage.IdentifierFieldStorageImpl;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.impl.ComplexObjectVerifier;
+import lombok.Getter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+class IterativeAssertionEngineTest {
+
+    @Test
+    void cyclicModelTest() {
+        Node actual = new Node(1, null);
+        actual.next = new Node(2, actual);
+        Node expected = new Node(1, null);
+        expected.next = new Node(3, expected);
+        List<String> recursiveAssertions = verify(AssertionEngineImpl::new, actual, expected);
+        List<String> iterativeAssertions = verify(IterativeAssertionEngine::new, actual, expected);
+        Assertions.assertEquals(1, recursiveAssertions.size());
+        Assertions.assertTrue(recursiveAssertions.get(0).endsWith("|2|3"));
+        Assertions.assertEquals(recursiveAssertions, iterativeAssertions);
+    }
+
+    @Test
+    void deepModelTest() throws InterruptedException {
+        Node actual = createChain(2000, -1);
+        Node expected = createChain(2000, 0);
+        List<String> assertions = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread thread = new Thread(null, () -> {
+            try {
+                assertions.addAll(verify(IterativeAssertionEngine::new, actual, expected));
+            } catch (Throwable throwable) {
+                error.set(throwable);
+            }
+        }, "small-stack", 128 * 1024);
+        thread.start();
+        thread.join();
+        Assertions.assertNull(error.get());
+        Assertions.assertEquals(1, assertions.size());
+        Assertions.assertTrue(assertions.get(0).endsWith("|-1|0"));
+    }
+
+    @Test
+    void failuresOrderIsSameAsForRecursiveEngineTest() {
+        ComplexModel actual = new ComplexModel("actual", Arrays.asList(new Item("a", 1), new Item("b", 2)),
+                Collections.singletonMap("key", 1), new Item[]{ new Item("c", 3) }, createChain(3, 1));
+        Map<String, Integer> expectedMap = new LinkedHashMap<>();
+        expectedMap.put("key", 2);
+        expectedMap.put("missed", 3);
+        ComplexModel expected = new ComplexModel("expected",
+                Arrays.asList(new Item("a", 2), new Item("b", 2), new Item("d", 4)), expectedMap,
+                new Item[]{ new Item("c", 4), new Item("e", 5) }, createChain(2, 2));
+        List<String> recursiveAssertions = verify(AssertionEngineImpl::new, actual, expected);
+        List<String> iterativeAssertions = verify(IterativeAssertionEngine::new, actual, expected);
+        Assertions.assertEquals(recursiveAssertions, iterativeAssertions);
+    }
+
+    @Test
+    void foreignSoftAssertionIsVerifiedImmediatelyTest() {
+        TestContext context = new TestContext(IterativeAssertionEngine::new);
+        RecordingAssertion recordingAssertion = new RecordingAssertion();
+        VerificationField<Item> verificationField = new VerificationField<>(new Item("a", 1), new Item("a", 2),
+                new FieldTrace("Item"));
+        context.getAssertionEngine().compareObjects(FieldVerificationConfiguration.forRootField(recordingAssertion,
+                verificationField, new AssertionConfigurationBuilder().build()));
+        Assertions.assertEquals(Collections.singletonList("assertEquals|Item.count|1|2"),
+                recordingAssertion.assertions);
+    }
+
+    @Test
+    void longSequencesFailuresOrderIsSameAsForRecursiveEngineTest() {
+        List<Item> actualItems = new ArrayList<>();
+        List<Item> expectedItems = new ArrayList<>();
+        for (int i = 0; i < 30; ++i) {
+            actualItems.add(new Item("item" + i, i % 7 == 0 ? -i : i));
+        }
+        for (int i = 0; i < 40; ++i) {
+            expectedItems.add(new Item("item" + i, i));
+        }
+        Item[] actualArray = new Item[50];
+        Item[] expectedArray = new Item[35];
+        for (int i = 0; i < actualArray.length; ++i) {
+            actualArray[i] = new Item("element" + i, i % 5 == 0 ? -i : i);
+        }
+        for (int i = 0; i < expectedArray.length; ++i) {
+            expectedArray[i] = new Item("element" + i, i);
+        }
+        ComplexModel actual = new ComplexModel("model", actualItems, Collections.emptyMap(), actualArray,
+                createChain(3, 1));
+        ComplexModel expected = new ComplexModel("model", expectedItems, Collections.emptyMap(), expectedArray,
+                createChain(3, 1));
+        List<String> recursiveAssertions = verify(AssertionEngineImpl::new, actual, expected);
+        List<String> iterativeAssertions = verify(IterativeAssertionEngine::new, actual, expected);
+        Assertions.assertEquals(recursiveAssertions, iterativeAssertions);
+        Assertions.assertTrue(iterativeAssertions.contains("fail|Missed element at 'ComplexModel.items': item39"));
+        Assertions.assertTrue(
+                iterativeAssertions.contains("fail|Unexpected element at 'ComplexModel.array': element49"));
+    }
+
+    @Test
+    void repeatedPairAboveMaxDepthIsVerifiedAgainTest() {
+        Item actualItem = new Item("a", 1);
+        Item expectedItem = new Item("a", 2);
+        DeepFirstHolder actual = new DeepFirstHolder(new Wrapper(actualItem), actualItem);
+        DeepFirstHolder expected = new DeepFirstHolder(new Wrapper(expectedItem), expectedItem);
+        AssertionConfigurationBuilder configurationBuilder = new AssertionConfigurationBuilder()
+                .maxDepth(2, DepthLimitFallback.SKIP);
+        List<String> recursiveAssertions = verify(AssertionEngineImpl::new, actual, expected, configurationBuilder);
+        List<String> iterativeAssertions = verify(IterativeAssertionEngine::new, actual, expected,
+                configurationBuilder);
+        Assertions.assertEquals(Collections.singletonList("assertEquals|DeepFirstHolder.item.count|1|2"),
+                recursiveAssertions);
+        Assertions.assertEquals(recursiveAssertions, iterativeAssertions);
+    }
+
+    @Test
+    void repeatedPairBelowMaxDepthIsNotReplayedTest() {
+        Item actualItem = new Item("a", 1);
+        Item expectedItem = new Item("a", 2);
+        ShallowFirstHolder actual = new ShallowFirstHolder(actualItem, new Wrapper(actualItem));
+        ShallowFirstHolder expected = new ShallowFirstHolder(expectedItem, new Wrapper(expectedItem));
+        AssertionConfigurationBuilder configurationBuilder = new AssertionConfigurationBuilder()
+                .maxDepth(2, DepthLimitFallback.SKIP);
+        List<String> recursiveAssertions = verify(AssertionEngineImpl::new, actual, expected, configurationBuilder);
+        List<String> iterativeAssertions = verify(IterativeAssertionEngine::new, actual, expected,
+                configurationBuilder);
+        Assertions.assertEquals(Collections.singletonList("assertEquals|ShallowFirstHolder.item.count|1|2"),
+                recursiveAssertions);
+        Assertions.assertEquals(recursiveAssertions, iterativeAssertions);
+    }
+
+    @Test
+    void repeatedPairFailuresAreReplayedTest() {
+        Item actualItem = new Item("a", 1);
+        Item expectedItem = new Item("a", 2);
+        Item[] actual = new Item[]{ actualItem, actualItem };
+        Item[] expected = new Item[]{ expectedItem, expectedItem };
+        List<String> recursiveAssertions = verify(AssertionEngineImpl::new, actual, expected);
+        List<String> iterativeAssertions = verify(IterativeAssertionEngine::new, actual, expected);
+        Assertions.assertEquals(Arrays.asList("assertEquals|Item[0].count|1|2", "assertEquals|Item[1].count|1|2"),
+                recursiveAssertions.stream().filter(assertion -> assertion.endsWith("|1|2"))
+                        .collect(Collectors.toList()));
+        Assertions.assertEquals(recursiveAssertions, iterativeAssertions);
+    }
+
+    @Test
+    void repeatedPairFailuresWithTraceInValueAreReplayedTest() {
+        Label actualLabel = new Label("Holder.first");
+        Label expectedLabel = new Label("expected");
+        Holder actual = new Holder(actualLabel, actualLabel);
+        Holder expected = new Holder(expectedLabel, expectedLabel);
+        List<String> recursiveAssertions = verifyWithLabelVerifier(AssertionEngineImpl::new, actual, expected);
+        List<String> iterativeAssertions = verifyWithLabelVerifier(IterativeAssertionEngine::new, actual, expected);
+        Assertions.assertEquals(Arrays.asList("fail|Text <Holder.first> differs at [Holder.first]",
+                "fail|Text <Holder.first> differs at [Holder.second]"), recursiveAssertions);
+        Assertions.assertEquals(recursiveAssertions, iterativeAssertions);
+    }
+
+    @Test
+    void sameObjectIsSkippedTest() {
+        Node node = createChain(3, 1);
+        Assertions.assertTrue(verify(AssertionEngineImpl::new, node, node).isEmpty());
+        Assertions.assertTrue(verify(IterativeAssertionEngine::new, node, node).isEmpty());
+    }
+
+    @Test
+    void sequenceElementsAreTakenLazilyTest() {
+        CountingIterable actual = new CountingIterable(Arrays.asList(new Label("a"), new Label("b"), new Label("c")));
+        CountingIterable expected = new CountingIterable(
+                Arrays.asList(new Label("a"), new Label("b"), new Label("d")));
+        TestContext context = new TestContext(IterativeAssertionEngine::new);
+        TakenElementsRecordingVerifier verifier = new TakenElementsRecordingVerifier(actual);
+        context.getFieldVerifierStorage().addBefore(verifier, ComplexObjectVerifier.class);
+        RecordingAssertion recordingAssertion = new RecordingAssertion();
+        VerificationField<CountingIterable> verificationField = new VerificationField<>(actual, expected,
+                new FieldTrace("Labels"));
+        context.getAssertionEngine().compareObjects(FieldVerificationConfiguration.forRootField(recordingAssertion,
+                verificationField, new AssertionConfigurationBuilder().build()));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), verifier.takenElements);
+        Assertions.assertEquals("fail|Text <c> differs at [Labels[2]]",
+                recordingAssertion.assertions.get(recordingAssertion.assertions.size() - 1));
+    }
+
+    private Node createChain(int length, int lastValue) {
+        Node node = new Node(lastValue, null);
+        for (int i = 1; i < length; ++i) {
+            node = new Node(0, node);
+        }
+        return node;
+    }
+
+    private <T> List<String> verify(AssertionModuleFactoryMethod<AssertionEngine> engineFactoryMethod, T actual,
+            T expected) {
+        return verify(engineFactoryMethod, actual, expected,
+                new AssertionConfigurationBuilder().breakOnSizeInequality(false));
+    }
+
+    private <T> List<String> verify(AssertionModuleFactoryMethod<AssertionEngine> engineFactoryMethod, T actual,
+            T expected, AssertionConfigurationBuilder configurationBuilder) {
+        TestContext context = new TestContext(engineFactoryMethod);
+        RecordingAssertion recordingAssertion = new RecordingAssertion();
+        VerificationField<T> verificationField = new VerificationField<>(actual, expected, new FieldTrace(expected));
+        context.getAssertionEngine().compareObjects(FieldVerificationConfiguration.forRootField(recordingAssertion,
+                verificationField, configurationBuilder.build()));
+        return recordingAssertion.assertions;
+    }
+
+    private <T> List<String> verifyWithLabelVerifier(AssertionModuleFactoryMethod<AssertionEngine> engineFactoryMethod,
+            T actual, T expected) {
+        TestContext context = new TestContext(engineFactoryMethod);
+        context.getFieldVerifierStorage().addBefore(new LabelVerifier(), ComplexObjectVerifier.class);
+        RecordingAssertion recordingAssertion = new RecordingAssertion();
+        VerificationField<T> verificationField = new VerificationField<>(actual, expected, new FieldTrace(expected));
+        context.getAssertionEngine().compareObjects(FieldVerificationConfiguration.forRootField(recordingAssertion,
+                verificationField, new AssertionConfigurationBuilder().build()));
+        return recordingAssertion.assertions;
+    }
+
+    private static class ComplexModel {
+
+        private Item[] array;
+        private List<Item> items;
+        private Map<String, Integer> map;
+        private String name;
+        private Node node;
+
+        private ComplexModel(String name, List<Item> items, Map<String, Integer> map, Item[] array, Node node) {
+            this.name = name;
+            this.items = items;
+            this.map = map;
+            this.array = array;
+            this.node = node;
+        }
+    }
+
+    private static class CountingIterable implements Iterable<Label> {
+
+        private final List<Label> labels;
+        private int taken;
+
+        private CountingIterable(List<Label> labels) {
+            this.labels = labels;
+        }
+
+        @Override
+        public Iterator<Label> iterator() {
+            taken = 0;
+            Iterator<Label> iterator = labels.iterator();
+            return new Iterator<Label>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Label next() {
+                    ++taken;
+                    return iterator.next();
+                }
+            };
+        }
+    }
+
+    private static class DeepFirstHolder {
+
+        private Wrapper first;
+        private Item item;
+
+        private DeepFirstHolder(Wrapper first, Item item) {
+            this.first = first;
+            this.item = item;
+        }
+    }
+
+    private static class Holder {
+
+        private Label first;
+        private Label second;
+
+        private Holder(Label first, Label second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    private static class Item {
+
+        private String id;
+        private int count;
+
+        private Item(String id, int count) {
+            this.id = id;
+            this.count = count;
+        }
+
+        @Override
+        public String toString() {
+            return id;
+        }
+    }
+
+    private static class Label {
+
+        private String text;
+
+        private Label(String text) {
+            this.text = text;
+        }
+    }
+
+    private static class LabelVerifier implements ClassBasedFieldVerifier {
+
+        @Override
+        public boolean canVerify(Class<?> clazz) {
+            return Label.class.equals(clazz);
+        }
+
+        @Override
+        public <T> void verify(FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+            VerificationField<T> verificationField = fieldVerificationConfiguration.getVerificationField();
+            String actualText = ((Label) verificationField.actual()).text;
+            if (!actualText.equals(((Label) verificationField.expected()).text)) {
+                fieldVerificationConfiguration.getCommonSoftAssertion()
+                        .fail(String.format("Text <%s> differs at [%s]", actualText, verificationField.trace()));
+            }
+        }
+    }
+
+    private static class Node {
+
+        private Node next;
+        private int value;
+
+        private Node(int value, Node next) {
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private static class RecordingAssertion implements CommonSoftAssertion {
+
+        private final List<String> assertions = new ArrayList<>();
+
+        @Override
+        public void assertAll() {
+            assertions.add("assertAll");
+        }
+
+        @Override
+        public void assertEmpty(Object[] actual, String message) {
+            assertions.add("assertEmpty|" + message + "|" + Arrays.toString(actual));
+        }
+
+        @Override
+        public void assertEmpty(Iterable<?> actual, String message) {
+            assertions.add("assertEmpty|" + message + "|" + actual);
+        }
+
+        @Override
+        public void assertEmpty(Map<?, ?> actual, String message) {
+            assertions.add("assertEmpty|" + message + "|" + actual);
+        }
+
+        @Override
+        public void assertEqualSize(Object[] actual, Object[] expected, String message) {
+            assertions.add("assertEqualSize|" + message + "|" + actual.length + "|" + expected.length);
+        }
+
+        @Override
+        public void assertEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+            assertions.add("assertEqualSize|" + message + "|" + actual + "|" + expected);
+        }
+
+        @Override
+        public <T> void assertEquals(T actual, T expected, String message) {
+            assertions.add("assertEquals|" + message + "|" + actual + "|" + expected);
+        }
+
+        @Override
+        public void fail(String message) {
+            assertions.add("fail|" + message);
+        }
+    }
+
+    private static class ShallowFirstHolder {
+
+        private Item item;
+        private Wrapper second;
+
+        private ShallowFirstHolder(Item item, Wrapper second) {
+            this.item = item;
+            this.second = second;
+        }
+    }
+
+    private static class TakenElementsRecordingVerifier extends LabelVerifier {
+
+        private final CountingIterable actualLabels;
+        private final List<Integer> takenElements = new ArrayList<>();
+
+        private TakenElementsRecordingVerifier(CountingIterable actualLabels) {
+            this.actualLabels = actualLabels;
+        }
+
+        @Override
+        public <T> void verify(FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+            takenElements.add(actualLabels.taken);
+            super.verify(fieldVerificationConfiguration);
+        }
+    }
+
+    @Getter
+    private static class TestContext implements AssertionContext {
+
+        private final AssertionEngine assertionEngine;
+        private final ComparatorStorage comparatorStorage = new ComparatorStorageImpl();
+        private final FieldVerifierStorage fieldVerifierStorage;
+        private final IdentifierFieldStorage identifierFieldStorage = new IdentifierFieldStorageImpl();
+
+        private TestContext(AssertionModuleFactoryMethod<AssertionEngine> engineFactoryMethod) {
+            this.assertionEngine = engineFactoryMethod.get(this);
+            this.fieldVerifierStorage = new FieldVerifierStorageImpl(this);
+        }
+    }
+
+    private static class Wrapper {
+
+        private Item item;
+
+        private Wrapper(Item item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class ClassFieldsPlanTest {
+
+    @Test
+    void fieldValuesTest() {
+        Child child = new Child();
+        child.childValue = 5;
+        child.childText = "text";
+        ((Parent) child).parentValue = 7L;
+        List<Object> values = ClassFieldsPlan.of(Child.class).getFields().stream()
+                .map(fieldAccessor -> fieldAccessor.get(child)).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(5, "text", 7L), values);
+    }
+
+    @Test
+    void fieldsOrderTest() {
+        List<String> fieldNames = fieldNames(ClassFieldsPlan.of(Child.class).getFields());
+        Assertions.assertEquals(Arrays.asList("childValue", "childText", "parentValue"), fieldNames);
+    }
+
+    @Test
+    void filteredFieldsAreCachedTest() {
+        ClassFieldsPlan plan = ClassFieldsPlan.of(Child.class);
+        List<FieldAccessor> fields = plan.getFields(Collections.singleton("childText"));
+        Assertions.assertSame(fields, plan.getFields(new HashSet<>(Collections.singleton("childText"))));
+    }
+
+    @Test
+    void filteredFieldsKeyIsNotAffectedBySourceSetModificationTest() {
+        ClassFieldsPlan plan = ClassFieldsPlan.of(Child.class);
+        Set<String> fieldsToIgnore = new HashSet<>(Collections.singleton("parentValue"));
+        plan.getFields(Collections.unmodifiableSet(fieldsToIgnore));
+        fieldsToIgnore.add("childValue");
+        List<String> fieldNames = fieldNames(plan.getFields(Collections.singleton("parentValue")));
+        Assertions.assertEquals(Arrays.asList("childValue", "childText"), fieldNames);
+    }
+
+    @Test
+    void getFieldsIgnoringNamesTest() {
+        Set<String> fieldsToIgnore = new HashSet<>(Arrays.asList("childText", "parentValue", "unknown"));
+        List<String> fieldNames = fieldNames(ClassFieldsPlan.of(Child.class).getFields(fieldsToIgnore));
+        Assertions.assertEquals(Collections.singletonList("childValue"), fieldNames);
+    }
+
+    @Test
+    void getFieldsWithEmptyIgnoreSetTest() {
+        ClassFieldsPlan plan = ClassFieldsPlan.of(Child.class);
+        Assertions.assertSame(plan.getFields(), plan.getFields(Collections.emptySet()));
+    }
+
+    @Test
+    void planIsCachedTest() {
+        Assertions.assertSame(ClassFieldsPlan.of(Child.class), ClassFieldsPlan.of(Child.class));
+    }
+
+    @Test
+    void staticFieldsAreSkippedTest() {
+        List<String> fieldNames = fieldNames(ClassFieldsPlan.of(Parent.class).getFields());
+        Assertions.assertEquals(Collections.singletonList("parentValue"), fieldNames);
+    }
+
+    private List<String> fieldNames(List<FieldAccessor> fields) {
+        return fields.stream().map(fieldAccessor -> fieldAccessor.getField().getName()).collect(Collectors.toList());
+    }
+
+    private static class Child extends Parent {
+
+        private static final String CHILD_CONSTANT = "constant";
+        private int childValue;
+        private String childText;
+    }
+
+    private static class Parent {
+
+        private static int parentCounter;
+        private long parentValue;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+class CompiledFieldPathsTest {
+
+    @Test
+    void emptyPatternsTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths.compile(Collections.emptySet());
+        FieldTrace fieldTrace = new FieldTrace("Object").field("value");
+        Assertions.assertTrue(compiledFieldPaths.isEmpty());
+        Assertions.assertFalse(compiledFieldPaths.isMatch(fieldTrace));
+        Assertions.assertFalse(compiledFieldPaths.mayMatchBelow(fieldTrace));
+        Assertions.assertFalse(compiledFieldPaths.isOnMatchPath(fieldTrace));
+        Assertions.assertFalse(compiledFieldPaths.isWithinMatch(fieldTrace));
+    }
+
+    @Test
+    void isMatchAnyDepthTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths.compile(Collections.singleton("**.audit"));
+        FieldTrace rootTrace = new FieldTrace("Order");
+        Assertions.assertTrue(compiledFieldPaths.isMatch(rootTrace.field("audit")));
+        Assertions.assertTrue(compiledFieldPaths.isMatch(rootTrace.field("items").index(2).field("audit")));
+        Assertions.assertTrue(compiledFieldPaths.isMatch(rootTrace.field("payments").key("card").field("audit")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(rootTrace.field("items").field("auditor")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(rootTrace.field("audit").field("createdAt")));
+        Assertions.assertTrue(compiledFieldPaths.mayMatchBelow(rootTrace.field("items").index(2)));
+    }
+
+    @Test
+    void isMatchAnyDepthInsidePatternTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths
+                .compile(Collections.singleton("Order.**.audit.createdAt"));
+        FieldTrace rootTrace = new FieldTrace("Order");
+        Assertions.assertTrue(compiledFieldPaths.isMatch(rootTrace.field("audit").field("createdAt")));
+        Assertions.assertTrue(compiledFieldPaths
+                .isMatch(rootTrace.field("items").index(0).field("audit").field("createdAt")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(new FieldTrace("User").field("audit").field("createdAt")));
+        Assertions.assertFalse(compiledFieldPaths.mayMatchBelow(new FieldTrace("User")));
+    }
+
+    @Test
+    void isMatchArrayRootTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths.compile(Arrays.asList("Item[1].value", "Item"));
+        FieldTrace rootTrace = new FieldTrace("Item[]");
+        Assertions.assertTrue(compiledFieldPaths.isMatch(rootTrace));
+        Assertions.assertTrue(compiledFieldPaths.isMatch(rootTrace.index(1).field("value")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(rootTrace.index(2).field("value")));
+    }
+
+    @Test
+    void isMatchNestedIndexesTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths
+                .compile(Collections.singleton("Object.matrix[0][1].value"));
+        FieldTrace matrixTrace = new FieldTrace("Object").field("matrix");
+        Assertions.assertTrue(compiledFieldPaths.isMatch(matrixTrace.index(0).index(1).field("value")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(matrixTrace.index(1).index(0).field("value")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(matrixTrace.index(0).field("value")));
+    }
+
+    @Test
+    void isMatchGlobPartTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths.compile(Collections.singleton("Order.pay?ents.*At"));
+        FieldTrace paymentsTrace = new FieldTrace("Order").field("payments");
+        Assertions.assertTrue(compiledFieldPaths.isMatch(paymentsTrace.field("createdAt")));
+        Assertions.assertTrue(compiledFieldPaths.isMatch(paymentsTrace.index(1).field("updatedAt")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(paymentsTrace.field("amount")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(paymentsTrace.field("amount").field("createdAt")));
+    }
+
+    @Test
+    void isMatchRegexPartTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths
+                .compile(Collections.singleton("Order./items|payments/./.+\\.[a-z]+/"));
+        FieldTrace rootTrace = new FieldTrace("Order");
+        Assertions.assertTrue(compiledFieldPaths.isMatch(rootTrace.field("items").index(0).field("a.b")));
+        Assertions.assertTrue(compiledFieldPaths.isMatch(rootTrace.field("payments").field("x.yz")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(rootTrace.field("items").field("ab")));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(rootTrace.field("audit").field("a.b")));
+    }
+
+    @Test
+    void isMatchRootWithSeveralPartsTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths
+                .compile(Collections.singleton("Object.values[key].value"));
+        FieldTrace fieldTrace = new FieldTrace("Object.values").key("key").field("value");
+        Assertions.assertTrue(compiledFieldPaths.isMatch(fieldTrace));
+    }
+
+    @Test
+    void isMatchSameTraceSeveralCompiledPatternsTest() {
+        CompiledFieldPaths valuePaths = CompiledFieldPaths.compile(Collections.singleton("Object.values.value"));
+        CompiledFieldPaths idPaths = CompiledFieldPaths.compile(Collections.singleton("Object.values.id"));
+        FieldTrace valuesTrace = new FieldTrace("Object").field("values").index(1);
+        for (int i = 0; i < 10; ++i) {
+            Assertions.assertTrue(valuePaths.isMatch(valuesTrace.field("value")));
+            Assertions.assertFalse(idPaths.isMatch(valuesTrace.field("value")));
+            Assertions.assertTrue(CompiledFieldPaths.compile(Collections.singleton("Object.values.id"))
+                    .isMatch(valuesTrace.field("id")));
+        }
+    }
+
+    @Test
+    void isOnMatchPathTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths.compile(Collections.singleton("Order.items.price"));
+        FieldTrace itemsTrace = new FieldTrace("Order").field("items");
+        Assertions.assertTrue(compiledFieldPaths.isOnMatchPath(itemsTrace));
+        Assertions.assertTrue(compiledFieldPaths.isOnMatchPath(itemsTrace.index(1)));
+        Assertions.assertTrue(compiledFieldPaths.isOnMatchPath(itemsTrace.index(1).field("price")));
+        Assertions.assertTrue(compiledFieldPaths.isOnMatchPath(itemsTrace.index(1).field("price").field("currency")));
+        Assertions.assertFalse(compiledFieldPaths.isOnMatchPath(itemsTrace.index(1).field("name")));
+        Assertions.assertFalse(compiledFieldPaths.isOnMatchPath(new FieldTrace("Order").field("customer")));
+    }
+
+    @Test
+    void isWithinMatchTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths.compile(Collections.singleton("Order.items"));
+        FieldTrace itemsTrace = new FieldTrace("Order").field("items");
+        Assertions.assertFalse(compiledFieldPaths.isWithinMatch(new FieldTrace("Order")));
+        Assertions.assertTrue(compiledFieldPaths.isWithinMatch(itemsTrace));
+        Assertions.assertTrue(compiledFieldPaths.isWithinMatch(itemsTrace.index(1).field("name")));
+        Assertions.assertTrue(compiledFieldPaths.isWithinMatch(new FieldTrace("Order.items[1]").field("name")));
+        Assertions.assertFalse(compiledFieldPaths.isWithinMatch(new FieldTrace("Order").field("customer")));
+    }
+
+    @Test
+    void mayMatchBelowBracketPatternTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths
+                .compile(Collections.singleton("Object.values[id=13]"));
+        FieldTrace valuesTrace = new FieldTrace("Object").field("values");
+        Assertions.assertTrue(compiledFieldPaths.mayMatchBelow(valuesTrace));
+        Assertions.assertFalse(compiledFieldPaths.isMatch(valuesTrace));
+        Assertions.assertFalse(compiledFieldPaths.mayMatchBelow(valuesTrace.field("value")));
+    }
+
+    @Test
+    void mayMatchBelowMatchedLeafTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths.compile(Collections.singleton("Object.values"));
+        FieldTrace valuesTrace = new FieldTrace("Object").field("values");
+        Assertions.assertTrue(compiledFieldPaths.isMatch(valuesTrace));
+        Assertions.assertFalse(compiledFieldPaths.mayMatchBelow(valuesTrace));
+    }
+
+    @Test
+    void mayMatchBelowPrefixTest() {
+        CompiledFieldPaths compiledFieldPaths = CompiledFieldPaths
+                .compile(Arrays.asList("Object.values.value", "Object.other.value"));
+        FieldTrace rootTrace = new FieldTrace("Object");
+        Assertions.assertTrue(compiledFieldPaths.mayMatchBelow(rootTrace));
+        Assertions.assertTrue(compiledFieldPaths.mayMatchBelow(rootTrace.field("values").index(3)));
+        Assertions.assertFalse(compiledFieldPaths.mayMatchBelow(rootTrace.field("unknown")));
+        Assertions.assertFalse(compiledFieldPaths.mayMatchBelow(rootTrace.field("unknown").field("values")));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+class FieldAccessorTest {
+
+    @Test
+    void accessorIsCachedTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("text");
+        Assertions.assertSame(FieldAccessor.of(field), FieldAccessor.of(TestModel.class.getDeclaredField("text")));
+    }
+
+    @Test
+    void getObjectFieldValueTest() throws NoSuchFieldException {
+        TestModel testModel = new TestModel();
+        testModel.text = "value";
+        Object value = FieldAccessor.of(TestModel.class.getDeclaredField("text")).get(testModel);
+        Assertions.assertEquals("value", value);
+    }
+
+    @Test
+    void getPrimitiveFieldValueTest() throws NoSuchFieldException {
+        TestModel testModel = new TestModel();
+        testModel.number = 42;
+        Object value = FieldAccessor.of(TestModel.class.getDeclaredField("number")).get(testModel);
+        Assertions.assertEquals(42, value);
+    }
+
+    @Test
+    void getStaticFieldValueTest() throws NoSuchFieldException {
+        Object value = FieldAccessor.of(TestModel.class.getDeclaredField("CONSTANT")).get(new TestModel());
+        Assertions.assertEquals("constant", value);
+    }
+
+    @Test
+    void receivedFieldIsNotModifiedTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("number");
+        FieldAccessor.of(field).get(new TestModel());
+        Assertions.assertFalse(field.isAccessible());
+    }
+
+    private static class TestModel {
+
+        private static final String CONSTANT = "constant";
+        private int number;
+        private String text;
+    }
+}
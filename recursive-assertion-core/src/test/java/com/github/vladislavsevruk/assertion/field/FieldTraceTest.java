@@ -34,6 +34,40 @@ class FieldTraceTest {
         Assertions.assertEquals("Long.value", fieldTrace.getTrace());
     }
 
+    @Test
+    void fieldTraceDepthTest() {
+        FieldTrace fieldTrace = new FieldTrace("Model").field("items").index(2).key("key");
+        Assertions.assertEquals(0, new FieldTrace("Model").getDepth());
+        Assertions.assertEquals(3, fieldTrace.getDepth());
+    }
+
+    @Test
+    void fieldTraceIdTest() throws NoSuchFieldException {
+        FieldTrace fieldTrace = new FieldTrace("Model").field("items").id(Item.class.getDeclaredField("id"), 13)
+                .field("value");
+        Assertions.assertEquals("Model.items[id=13].value", fieldTrace.getTrace());
+    }
+
+    @Test
+    void fieldTraceIndexOfArrayRootTest() {
+        FieldTrace fieldTrace = new FieldTrace(new Long[0]).index(1);
+        Assertions.assertEquals("Long[1]", fieldTrace.getTrace());
+    }
+
+    @Test
+    void fieldTraceKeyTest() {
+        FieldTrace fieldTrace = new FieldTrace("Model").field("map").key("key").field("value");
+        Assertions.assertEquals("Model.map[key].value", fieldTrace.getTrace());
+    }
+
+    @Test
+    void fieldTraceParentIsRenderedOnceTest() {
+        FieldTrace parent = new FieldTrace("Model").field("items").index(0);
+        Assertions.assertEquals("Model.items[0]", parent.getTrace());
+        Assertions.assertSame(parent.getTrace(), parent.getTrace());
+        Assertions.assertEquals("Model.items[0].value", parent.field("value").getTrace());
+    }
+
     @Test
     void newFieldTraceNullObjectTest() {
         FieldTrace fieldTrace = new FieldTrace((Object) null);
@@ -45,4 +79,9 @@ class FieldTraceTest {
         FieldTrace fieldTrace = new FieldTrace(1L);
         Assertions.assertEquals("Long", fieldTrace.getTrace());
     }
+
+    private static class Item {
+
+        private int id;
+    }
 }
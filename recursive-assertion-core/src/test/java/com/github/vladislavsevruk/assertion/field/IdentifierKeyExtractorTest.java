@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.field;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+
+class IdentifierKeyExtractorTest {
+
+    @Test
+    void compositeIdentifierToStringTest() throws NoSuchFieldException {
+        Object key = compositeKeyExtractor().extract(new TestModel("EU", 2, 0.5D, true));
+        Assertions.assertEquals("region=EU,number=2,ratio=0.5,active=true", key.toString());
+    }
+
+    @Test
+    void compositeIdentifierTraceTest() throws NoSuchFieldException {
+        IdentifierKeyExtractor keyExtractor = compositeKeyExtractor();
+        Object key = keyExtractor.extract(new TestModel("EU", 2, 0.5D, true));
+        FieldTrace elementTrace = keyExtractor.elementTrace(new FieldTrace("ArrayList"), key);
+        Assertions.assertEquals("ArrayList[region=EU,number=2,ratio=0.5,active=true]", elementTrace.getTrace());
+        Assertions.assertSame(elementTrace, keyExtractor.identifierTrace(elementTrace));
+    }
+
+    @Test
+    void differentCompositeIdentifiersTest() throws NoSuchFieldException {
+        IdentifierKeyExtractor keyExtractor = compositeKeyExtractor();
+        Object key1 = keyExtractor.extract(new TestModel("EU", 2, 0.5D, true));
+        Object key2 = keyExtractor.extract(new TestModel("EU", 2, 0.5D, false));
+        Object key3 = keyExtractor.extract(new TestModel("US", 2, 0.5D, true));
+        Assertions.assertNotEquals(key1, key2);
+        Assertions.assertNotEquals(key1, key3);
+    }
+
+    @Test
+    void equalCompositeIdentifiersTest() throws NoSuchFieldException {
+        IdentifierKeyExtractor keyExtractor = compositeKeyExtractor();
+        Object key1 = keyExtractor.extract(new TestModel("EU", 2, Double.NaN, true));
+        Object key2 = keyExtractor.extract(new TestModel("EU", 2, Double.NaN, true));
+        Assertions.assertEquals(key1, key2);
+        Assertions.assertEquals(key1.hashCode(), key2.hashCode());
+    }
+
+    @Test
+    void extractFromNullModelTest() throws NoSuchFieldException {
+        Assertions.assertNull(compositeKeyExtractor().extract(null));
+    }
+
+    @Test
+    void extractFromUnrelatedModelTest() throws NoSuchFieldException {
+        Assertions.assertNull(compositeKeyExtractor().extract("value"));
+    }
+
+    @Test
+    void singleIdentifierTest() throws NoSuchFieldException {
+        Field numberField = TestModel.class.getDeclaredField("number");
+        IdentifierKeyExtractor keyExtractor = IdentifierKeyExtractor.of(Collections.singletonList(numberField));
+        Object key = keyExtractor.extract(new TestModel("EU", 2, 0.5D, true));
+        Assertions.assertEquals(2, key);
+        FieldTrace elementTrace = keyExtractor.elementTrace(new FieldTrace("ArrayList"), key);
+        Assertions.assertEquals("ArrayList[number=2]", elementTrace.getTrace());
+        Assertions.assertEquals("ArrayList[number=2].number", keyExtractor.identifierTrace(elementTrace).getTrace());
+    }
+
+    private IdentifierKeyExtractor compositeKeyExtractor() throws NoSuchFieldException {
+        return IdentifierKeyExtractor.of(Arrays.asList(TestModel.class.getDeclaredField("region"),
+                TestModel.class.getDeclaredField("number"), TestModel.class.getDeclaredField("ratio"),
+                TestModel.class.getDeclaredField("active")));
+    }
+
+    private static class TestModel {
+
+        private boolean active;
+        private int number;
+        private double ratio;
+        private String region;
+
+        private TestModel(String region, int number, double ratio, boolean active) {
+            this.region = region;
+            this.number = number;
+            this.ratio = ratio;
+            this.active = active;
+        }
+    }
+}
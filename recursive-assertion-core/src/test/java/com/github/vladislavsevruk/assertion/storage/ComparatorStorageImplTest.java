@@ -80,4 +80,30 @@ class ComparatorStorageImplTest {
         Assertions.assertNotSame(comparator, actual);
         Assertions.assertNotNull(actual);
     }
+
+    @Test
+    void containsComparatorForClassTest() {
+        ComparatorStorage comparatorStorage = new ComparatorStorageImpl();
+        comparatorStorage.add(Integer.class, Comparator.comparing(Integer::intValue));
+        Assertions.assertTrue(comparatorStorage.contains(Integer.class));
+    }
+
+    @Test
+    void containsComparatorForNullClassTest() {
+        Assertions.assertFalse(new ComparatorStorageImpl().contains(null));
+    }
+
+    @Test
+    void containsComparatorForSuperclassTest() {
+        ComparatorStorage comparatorStorage = new ComparatorStorageImpl();
+        comparatorStorage.add(Number.class, Comparator.comparing(Number::intValue));
+        Assertions.assertTrue(comparatorStorage.contains(Integer.class));
+    }
+
+    @Test
+    void containsNoComparatorTest() {
+        ComparatorStorage comparatorStorage = new ComparatorStorageImpl();
+        comparatorStorage.add(Integer.class, Comparator.comparing(Integer::intValue));
+        Assertions.assertFalse(comparatorStorage.contains(Long.class));
+    }
 }
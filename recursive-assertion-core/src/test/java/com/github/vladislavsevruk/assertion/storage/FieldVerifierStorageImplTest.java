@@ -23,14 +23,25 @@
  */
 package com.github.vladislavsevruk.assertion.storage;
 
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfigurationBuilder;
 import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.verifier.ClassBasedFieldVerifier;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
 import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
 import com.github.vladislavsevruk.assertion.verifier.impl.ActualNullVerifier;
+import com.github.vladislavsevruk.assertion.verifier.impl.ComplexObjectVerifier;
+import com.github.vladislavsevruk.assertion.verifier.impl.DepthLimitVerifier;
 import com.github.vladislavsevruk.assertion.verifier.impl.ExpectedNullVerifier;
+import com.github.vladislavsevruk.assertion.verifier.impl.SimpleTypeVerifier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -41,6 +52,8 @@ class FieldVerifierStorageImplTest {
     @Mock
     private AssertionContext assertionContext;
     @Mock
+    private CommonSoftAssertion commonSoftAssertion;
+    @Mock
     private FieldVerifier fieldVerifier;
     @Mock
     private FieldVerifier nonPresentFieldVerifier;
@@ -249,4 +262,108 @@ class FieldVerifierStorageImplTest {
         int sizeAfterAdd = fieldVerifierStorage.getAll().size();
         Assertions.assertEquals(sizeBeforeAdd, sizeAfterAdd);
     }
+
+    @Test
+    void getActualNullTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        VerificationField<String> verificationField = new VerificationField<>(null, "value", new FieldTrace("String"));
+        Assertions.assertTrue(fieldVerifierStorage.get(verificationField) instanceof ActualNullVerifier);
+    }
+
+    @Test
+    void getAfterAddingClassBasedVerifierBeforeResolvedOneTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        VerificationField<String> verificationField = new VerificationField<>("value1", "value2",
+                new FieldTrace("String"));
+        Assertions.assertTrue(fieldVerifierStorage.get(verificationField) instanceof SimpleTypeVerifier);
+        FieldVerifier stringVerifier = new StringVerifier();
+        fieldVerifierStorage.addBefore(stringVerifier, SimpleTypeVerifier.class);
+        Assertions.assertSame(stringVerifier, fieldVerifierStorage.get(verificationField));
+    }
+
+    @Test
+    void getBeyondMaxDepthNullTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        VerificationField<Object> verificationField = new VerificationField<>(null, new Object(),
+                new FieldTrace("Object").field("inner").field("value"));
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder().maxDepth(1).build();
+        Assertions.assertTrue(fieldVerifierStorage.get(FieldVerificationConfiguration.forRootField(commonSoftAssertion,
+                verificationField, configuration)) instanceof ActualNullVerifier);
+    }
+
+    @Test
+    void getBeyondMaxDepthTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        VerificationField<Object> verificationField = new VerificationField<>(new Object(), new Object(),
+                new FieldTrace("Object").field("inner").field("value"));
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder().maxDepth(1).build();
+        Assertions.assertTrue(fieldVerifierStorage.get(FieldVerificationConfiguration.forRootField(commonSoftAssertion,
+                verificationField, configuration)) instanceof DepthLimitVerifier);
+    }
+
+    @Test
+    void getClassBasedVerifierForNonMatchingTypeTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        fieldVerifierStorage.addBefore(new StringVerifier(), SimpleTypeVerifier.class);
+        VerificationField<Long> verificationField = new VerificationField<>(1L, 2L, new FieldTrace("Long"));
+        Assertions.assertTrue(fieldVerifierStorage.get(verificationField) instanceof SimpleTypeVerifier);
+    }
+
+    @Test
+    void getComplexObjectTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        VerificationField<Object> verificationField = new VerificationField<>(new Object(), new Object(),
+                new FieldTrace("Object"));
+        Assertions.assertTrue(fieldVerifierStorage.get(verificationField) instanceof ComplexObjectVerifier);
+    }
+
+    @Test
+    void getExpectedNullTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        VerificationField<String> verificationField = new VerificationField<>("value", null, new FieldTrace("String"));
+        Assertions.assertTrue(fieldVerifierStorage.get(verificationField) instanceof ExpectedNullVerifier);
+    }
+
+    @Test
+    void getNonMatchingValueBasedVerifierTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        fieldVerifierStorage.addBefore(fieldVerifier, SimpleTypeVerifier.class);
+        VerificationField<String> verificationField = new VerificationField<>("value1", "value2",
+                new FieldTrace("String"));
+        Mockito.when(fieldVerifier.canVerify(verificationField)).thenReturn(false);
+        Assertions.assertTrue(fieldVerifierStorage.get(verificationField) instanceof SimpleTypeVerifier);
+    }
+
+    @Test
+    void getValueBasedVerifierTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        fieldVerifierStorage.addBefore(fieldVerifier, SimpleTypeVerifier.class);
+        VerificationField<String> verificationField = new VerificationField<>("value1", "value2",
+                new FieldTrace("String"));
+        Mockito.when(fieldVerifier.canVerify(verificationField)).thenReturn(true);
+        Assertions.assertSame(fieldVerifier, fieldVerifierStorage.get(verificationField));
+    }
+
+    @Test
+    void getWithinMaxDepthTest() {
+        FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+        VerificationField<Object> verificationField = new VerificationField<>(new Object(), new Object(),
+                new FieldTrace("Object").field("inner"));
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder().maxDepth(1).build();
+        Assertions.assertTrue(fieldVerifierStorage.get(FieldVerificationConfiguration.forRootField(commonSoftAssertion,
+                verificationField, configuration)) instanceof ComplexObjectVerifier);
+    }
+
+    private static class StringVerifier implements ClassBasedFieldVerifier {
+
+        @Override
+        public boolean canVerify(Class<?> clazz) {
+            return String.class.equals(clazz);
+        }
+
+        @Override
+        public <T> void verify(FieldVerificationConfiguration<T> fieldVerificationConfiguration) {
+            // not used in tests
+        }
+    }
 }
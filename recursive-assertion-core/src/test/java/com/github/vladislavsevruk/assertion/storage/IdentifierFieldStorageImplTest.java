@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.assertion.storage;
 
+import com.github.vladislavsevruk.assertion.annotation.VerificationId;
+import com.github.vladislavsevruk.assertion.field.IdentifierKeyExtractor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -87,6 +89,39 @@ class IdentifierFieldStorageImplTest {
         Assertions.assertNull(identifierFieldStorage.get(clazz));
     }
 
+    @Test
+    void annotatedCompositeIdentifierTest() {
+        IdentifierFieldStorage identifierFieldStorage = new IdentifierFieldStorageImpl();
+        Assertions.assertNull(identifierFieldStorage.get(CompositeIdModel.class));
+        IdentifierKeyExtractor keyExtractor = identifierFieldStorage.getKeyExtractor(CompositeIdModel.class);
+        Assertions.assertEquals("code=A,number=1", keyExtractor.extract(new CompositeIdModel("A", 1, "B")).toString());
+        Assertions.assertSame(keyExtractor, identifierFieldStorage.getKeyExtractor(CompositeIdModel.class));
+    }
+
+    @Test
+    void annotatedIdentifierFieldTest() throws NoSuchFieldException {
+        IdentifierFieldStorage identifierFieldStorage = new IdentifierFieldStorageImpl();
+        Assertions.assertEquals(SingleIdModel.class.getDeclaredField("code"),
+                identifierFieldStorage.get(SingleIdModel.class));
+    }
+
+    @Test
+    void annotatedSuperclassIdentifierFieldTest() throws NoSuchFieldException {
+        IdentifierFieldStorage identifierFieldStorage = new IdentifierFieldStorageImpl();
+        Assertions.assertEquals(SingleIdModel.class.getDeclaredField("code"),
+                identifierFieldStorage.get(InheritedSingleIdModel.class));
+    }
+
+    @Test
+    void getKeyExtractorForNullClassTest() {
+        Assertions.assertNull(new IdentifierFieldStorageImpl().getKeyExtractor(null));
+    }
+
+    @Test
+    void getKeyExtractorWithoutIdentifierTest() {
+        Assertions.assertNull(new IdentifierFieldStorageImpl().getKeyExtractor(TestClass1.class));
+    }
+
     @Test
     void pickBestMatchingIdentifierFieldTest() throws NoSuchFieldException {
         IdentifierFieldStorage identifierFieldStorage = new IdentifierFieldStorageImpl();
@@ -97,6 +132,17 @@ class IdentifierFieldStorageImplTest {
         Assertions.assertSame(expectedField, identifierFieldStorage.get(TestClass4.class));
     }
 
+    @Test
+    void registeredFieldOverridesAnnotationsTest() throws NoSuchFieldException {
+        IdentifierFieldStorage identifierFieldStorage = new IdentifierFieldStorageImpl();
+        identifierFieldStorage.getKeyExtractor(CompositeIdModel.class);
+        Field expectedField = CompositeIdModel.class.getDeclaredField("value");
+        identifierFieldStorage.add(CompositeIdModel.class, expectedField);
+        Assertions.assertSame(expectedField, identifierFieldStorage.get(CompositeIdModel.class));
+        Assertions.assertEquals("B", identifierFieldStorage.getKeyExtractor(CompositeIdModel.class)
+                .extract(new CompositeIdModel("A", 1, "B")));
+    }
+
     // simple hierarchy
     private static class TestClass1 {
 
@@ -114,4 +160,28 @@ class IdentifierFieldStorageImplTest {
     }
 
     private static class TestClass4 extends TestClass3 {}
+
+    // annotated models
+    private static class CompositeIdModel {
+
+        @VerificationId
+        private String code;
+        @VerificationId
+        private int number;
+        private String value;
+
+        private CompositeIdModel(String code, int number, String value) {
+            this.code = code;
+            this.number = number;
+            this.value = value;
+        }
+    }
+
+    private static class InheritedSingleIdModel extends SingleIdModel {}
+
+    private static class SingleIdModel {
+
+        @VerificationId
+        private String code;
+    }
 }
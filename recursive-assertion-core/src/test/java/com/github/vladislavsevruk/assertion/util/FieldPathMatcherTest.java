@@ -73,6 +73,22 @@ class FieldPathMatcherTest {
         Assertions.assertFalse(result);
     }
 
+    @Test
+    void isMatchAnyDepthPatternTrace() {
+        FieldTrace fieldTrace = new FieldTrace("Object").field("values").index(1).field("value");
+        String pattern = "**.value";
+        boolean result = FieldPathMatcher.isMatch(pattern, fieldTrace);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    void isMatchGlobPatternTrace() {
+        FieldTrace fieldTrace = new FieldTrace("Object").field("values").index(1).field("value");
+        String pattern = "Object.*.val*";
+        boolean result = FieldPathMatcher.isMatch(pattern, fieldTrace);
+        Assertions.assertTrue(result);
+    }
+
     @Test
     void isMatchPatternWithoutIndexTrace() {
         FieldTrace fieldTrace = new FieldTrace("Object").field("values").index(1).field("value");
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IdentityPairMapTest {
+
+    @Test
+    void equalButNotSameKeysAreDifferentTest() {
+        IdentityPairMap<String> map = new IdentityPairMap<>();
+        String first = new String("key");
+        String second = new String("key");
+        map.put(first, second, "value");
+        Assertions.assertEquals("value", map.get(first, second));
+        Assertions.assertNull(map.get(second, first));
+        Assertions.assertNull(map.get(first, new String("key")));
+    }
+
+    @Test
+    void getMissedPairTest() {
+        Assertions.assertNull(new IdentityPairMap<String>().get(new Object(), new Object()));
+    }
+
+    @Test
+    void putManyPairsTest() {
+        IdentityPairMap<Integer> map = new IdentityPairMap<>();
+        Object[] objects = new Object[1000];
+        for (int i = 0; i < objects.length; ++i) {
+            objects[i] = new Object();
+            map.put(objects[i], objects[i], i);
+        }
+        Assertions.assertEquals(1000, map.size());
+        for (int i = 0; i < objects.length; ++i) {
+            Assertions.assertEquals(i, map.get(objects[i], objects[i]));
+        }
+    }
+
+    @Test
+    void replaceValueTest() {
+        IdentityPairMap<String> map = new IdentityPairMap<>();
+        Object first = new Object();
+        Object second = new Object();
+        map.put(first, second, "oldValue");
+        map.put(first, second, "newValue");
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertEquals("newValue", map.get(first, second));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.util;
+
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfigurationBuilder;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+class StructuralHashUtilTest {
+
+    @Test
+    void cyclicModelTest() {
+        TestModel model = new TestModel("value", 1);
+        model.next = model;
+        Assertions.assertDoesNotThrow(() -> StructuralHashUtil
+                .hash(model, new FieldTrace(model), new AssertionConfigurationBuilder().build()));
+    }
+
+    @Test
+    void differentModelsTest() {
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder().build();
+        Assertions.assertNotEquals(hash(new TestModel("value1", 1), configuration),
+                hash(new TestModel("value2", 1), configuration));
+    }
+
+    @Test
+    void emptyCollectionAndNullTest() {
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder().build();
+        TestModel model1 = new TestModel("value", 1);
+        model1.values = new ArrayList<>();
+        TestModel model2 = new TestModel("value", 1);
+        model2.values = null;
+        Assertions.assertEquals(hash(model1, configuration), hash(model2, configuration));
+    }
+
+    @Test
+    void equalModelsTest() {
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder().build();
+        Assertions.assertEquals(hash(new TestModel("value", 1), configuration),
+                hash(new TestModel("value", 1), configuration));
+    }
+
+    @Test
+    void ignoredFieldByNameTest() {
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder().ignoreFieldsByName("text").build();
+        Assertions.assertEquals(hash(new TestModel("value1", 1), configuration),
+                hash(new TestModel("value2", 1), configuration));
+    }
+
+    @Test
+    void ignoredFieldByPathTest() {
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder()
+                .ignoreFieldsByPath("TestModel.number").build();
+        Assertions.assertEquals(hash(new TestModel("value", 1), configuration),
+                hash(new TestModel("value", 2), configuration));
+    }
+
+    @Test
+    void orderedCollectionTest() {
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder().build();
+        TestModel model1 = new TestModel("value", 1);
+        model1.values = Arrays.asList("value1", "value2");
+        TestModel model2 = new TestModel("value", 1);
+        model2.values = Arrays.asList("value2", "value1");
+        Assertions.assertNotEquals(hash(model1, configuration), hash(model2, configuration));
+    }
+
+    @Test
+    void unorderedCollectionTest() {
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder().matchUnorderedElements(true)
+                .build();
+        TestModel model1 = new TestModel("value", 1);
+        model1.values = Arrays.asList("value1", "value2");
+        TestModel model2 = new TestModel("value", 1);
+        model2.values = Arrays.asList("value2", "value1");
+        Assertions.assertEquals(hash(model1, configuration), hash(model2, configuration));
+    }
+
+    @Test
+    void verifyOnlyFieldByPathTest() {
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder()
+                .onlyFieldsByPath("TestModel.number").build();
+        Assertions.assertEquals(hash(new TestModel("value1", 1), configuration),
+                hash(new TestModel("value2", 1), configuration));
+        Assertions.assertNotEquals(hash(new TestModel("value", 1), configuration),
+                hash(new TestModel("value", 2), configuration));
+    }
+
+    private int hash(TestModel model, AssertionConfiguration configuration) {
+        return StructuralHashUtil.hash(model, new FieldTrace(model), configuration);
+    }
+
+    private static class TestModel {
+
+        private TestModel next;
+        private int number;
+        private String text;
+        private Iterable<String> values = Collections.emptyList();
+
+        private TestModel(String text, int number) {
+            this.text = text;
+            this.number = number;
+        }
+    }
+}
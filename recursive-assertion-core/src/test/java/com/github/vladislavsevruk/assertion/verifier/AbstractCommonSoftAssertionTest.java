@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+class AbstractCommonSoftAssertionTest {
+
+    private AbstractCommonSoftAssertion commonSoftAssertion;
+
+    @BeforeEach
+    void setUp() {
+        commonSoftAssertion = Mockito.mock(AbstractCommonSoftAssertion.class, Mockito.CALLS_REAL_METHODS);
+    }
+
+    @Test
+    void assertionsThatMayFailArePassedToDescendantTest() {
+        Object[] array = new Object[]{ "a" };
+        Object[] longerArray = new Object[2];
+        List<String> list = Collections.singletonList("b");
+        List<String> longerList = Arrays.asList("a", "b");
+        commonSoftAssertion.assertEquals(1, 2, "a");
+        commonSoftAssertion.assertEquals(list, list, "b");
+        commonSoftAssertion.assertEmpty(array, "c");
+        commonSoftAssertion.assertEmpty(list, () -> "d");
+        commonSoftAssertion.assertEmpty(Collections.singletonMap("k", "v"), "e");
+        commonSoftAssertion.assertEqualSize(array, longerArray, () -> "f");
+        commonSoftAssertion.assertEqualSize(list, longerList, "g");
+        Mockito.verify(commonSoftAssertion).verifyEquals(1, 2, "a");
+        Mockito.verify(commonSoftAssertion).verifyEquals(list, list, "b");
+        Mockito.verify(commonSoftAssertion).verifyEmpty(array, "c");
+        Mockito.verify(commonSoftAssertion).verifyEmpty(list, "d");
+        Mockito.verify(commonSoftAssertion).verifyEmpty(Collections.singletonMap("k", "v"), "e");
+        Mockito.verify(commonSoftAssertion).verifyEqualSize(array, longerArray, "f");
+        Mockito.verify(commonSoftAssertion).verifyEqualSize(list, longerList, "g");
+    }
+
+    @Test
+    void passedAssertionsAreNotPassedToDescendantTest() {
+        commonSoftAssertion.assertEquals("a", "a", "message");
+        commonSoftAssertion.assertEquals(null, null, () -> "message");
+        commonSoftAssertion.assertEmpty(new Object[0], "message");
+        commonSoftAssertion.assertEmpty(Collections.emptyList(), () -> "message");
+        commonSoftAssertion.assertEmpty(Collections.emptyMap(), "message");
+        commonSoftAssertion.assertEqualSize(new Object[1], new Object[1], () -> "message");
+        commonSoftAssertion.assertEqualSize(Collections.singletonList(1), Collections.singletonList(2), "message");
+        Mockito.verify(commonSoftAssertion, Mockito.never()).verifyEquals(Mockito.any(), Mockito.any(),
+                Mockito.anyString());
+        Mockito.verify(commonSoftAssertion, Mockito.never()).verifyEmpty(Mockito.any(Object[].class),
+                Mockito.anyString());
+        Mockito.verify(commonSoftAssertion, Mockito.never()).verifyEmpty(Mockito.any(Iterable.class),
+                Mockito.anyString());
+        Mockito.verify(commonSoftAssertion, Mockito.never()).verifyEmpty(Mockito.any(Map.class), Mockito.anyString());
+        Mockito.verify(commonSoftAssertion, Mockito.never()).verifyEqualSize(Mockito.any(Object[].class),
+                Mockito.any(Object[].class), Mockito.anyString());
+        Mockito.verify(commonSoftAssertion, Mockito.never()).verifyEqualSize(Mockito.any(Iterable.class),
+                Mockito.any(Iterable.class), Mockito.anyString());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+class CommonSoftAssertionTest {
+
+    private CommonSoftAssertion commonSoftAssertion;
+
+    @BeforeEach
+    void setUp() {
+        commonSoftAssertion = Mockito.mock(CommonSoftAssertion.class, Mockito.CALLS_REAL_METHODS);
+    }
+
+    @Test
+    void messageIsSuppliedForAssertionsThatMayFailTest() {
+        Object[] array = new Object[]{ "a" };
+        List<String> list = Collections.singletonList("b");
+        List<Integer> containerValue = Collections.singletonList(1);
+        commonSoftAssertion.assertEquals(1, 2, () -> "a");
+        commonSoftAssertion.assertEquals(containerValue, containerValue, () -> "b");
+        commonSoftAssertion.assertEmpty(array, () -> "c");
+        commonSoftAssertion.assertEmpty(list, () -> "d");
+        commonSoftAssertion.assertEmpty(Collections.singletonMap("k", "v"), () -> "e");
+        commonSoftAssertion.assertEqualSize(array, new Object[2], () -> "f");
+        commonSoftAssertion.assertEqualSize(list, Arrays.asList("a", "b"), () -> "g");
+        Mockito.verify(commonSoftAssertion).assertEquals(1, 2, "a");
+        Mockito.verify(commonSoftAssertion).assertEquals(containerValue, containerValue, "b");
+        Mockito.verify(commonSoftAssertion).assertEmpty(array, "c");
+        Mockito.verify(commonSoftAssertion).assertEmpty(list, "d");
+        Mockito.verify(commonSoftAssertion).assertEmpty(Collections.singletonMap("k", "v"), "e");
+        Mockito.verify(commonSoftAssertion).assertEqualSize(Mockito.eq(array), Mockito.any(Object[].class),
+                Mockito.eq("f"));
+        Mockito.verify(commonSoftAssertion).assertEqualSize(list, Arrays.asList("a", "b"), "g");
+    }
+
+    @Test
+    void messageIsNotSuppliedForPassedAssertionsTest() {
+        Supplier<String> messageSupplier = () -> Assertions.fail("Message shouldn't be built.");
+        commonSoftAssertion.assertEquals("a", "a", messageSupplier);
+        commonSoftAssertion.assertEmpty(new Object[0], messageSupplier);
+        commonSoftAssertion.assertEmpty(Collections.emptyList(), messageSupplier);
+        commonSoftAssertion.assertEmpty(Collections.emptyMap(), messageSupplier);
+        commonSoftAssertion.assertEqualSize(new Object[1], new Object[1], messageSupplier);
+        commonSoftAssertion.assertEqualSize(Collections.singletonList(1), Collections.singletonList(2), messageSupplier);
+        Mockito.verify(commonSoftAssertion, Mockito.never()).assertEquals(Mockito.any(), Mockito.any(),
+                Mockito.anyString());
+    }
+}
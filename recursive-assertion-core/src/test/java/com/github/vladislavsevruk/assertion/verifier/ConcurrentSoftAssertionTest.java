@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrentSoftAssertionTest {
+
+    @Mock
+    private CommonSoftAssertion delegate;
+
+    @Test
+    void failuresFromSeveralThreadsAreGroupedByVerificationNameTest() throws InterruptedException {
+        ConcurrentSoftAssertion concurrentSoftAssertion = new ConcurrentSoftAssertion(delegate);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 7; i >= 0; --i) {
+            CommonSoftAssertion verificationSoftAssertion = concurrentSoftAssertion
+                    .forVerification(String.format("Model%d", i));
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 100; ++j) {
+                    verificationSoftAssertion.assertEquals(j, -1, String.format("Model[%d]", j));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        concurrentSoftAssertion.assertAll();
+        InOrder inOrder = Mockito.inOrder(delegate);
+        for (int i = 0; i < 8; ++i) {
+            for (int j = 0; j < 100; ++j) {
+                inOrder.verify(delegate).assertEquals(j, -1, String.format("Model[%d]", j));
+            }
+        }
+        inOrder.verify(delegate).assertAll();
+        Mockito.verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void failuresArePassedToDelegateTest() {
+        ConcurrentSoftAssertion concurrentSoftAssertion = new ConcurrentSoftAssertion(delegate);
+        Object[] array = new Object[]{ "a" };
+        List<String> list = Collections.singletonList("b");
+        concurrentSoftAssertion.fail("e");
+        concurrentSoftAssertion.assertEmpty(array, "d");
+        concurrentSoftAssertion.assertEmpty(list, "c");
+        concurrentSoftAssertion.assertEmpty(Collections.singletonMap("k", "v"), "b");
+        concurrentSoftAssertion.assertEqualSize(list, Arrays.asList("a", "b"), "a");
+        concurrentSoftAssertion.assertAll();
+        InOrder inOrder = Mockito.inOrder(delegate);
+        inOrder.verify(delegate).fail("e");
+        inOrder.verify(delegate).assertEmpty(array, "d");
+        inOrder.verify(delegate).assertEmpty(list, "c");
+        inOrder.verify(delegate).assertEmpty(Collections.singletonMap("k", "v"), "b");
+        inOrder.verify(delegate).assertEqualSize(list, Arrays.asList("a", "b"), "a");
+        inOrder.verify(delegate).assertAll();
+    }
+
+    @Test
+    void failuresOfVerificationKeepCollectionOrderTest() {
+        ConcurrentSoftAssertion concurrentSoftAssertion = new ConcurrentSoftAssertion(delegate);
+        CommonSoftAssertion secondVerification = concurrentSoftAssertion.forVerification("Model");
+        CommonSoftAssertion firstVerification = concurrentSoftAssertion.forVerification("List");
+        secondVerification.assertEquals(1, 2, "Model[2]");
+        firstVerification.fail("Missed element at 'List': b");
+        secondVerification.assertEquals(1, 2, "Model[10]");
+        firstVerification.assertEquals(1, 2, "List[0]");
+        secondVerification.fail("Missed element at 'Model': a");
+        concurrentSoftAssertion.fail("Unexpected element at 'Direct': c");
+        concurrentSoftAssertion.assertAll();
+        InOrder inOrder = Mockito.inOrder(delegate);
+        inOrder.verify(delegate).fail("Unexpected element at 'Direct': c");
+        inOrder.verify(delegate).fail("Missed element at 'List': b");
+        inOrder.verify(delegate).assertEquals(1, 2, "List[0]");
+        inOrder.verify(delegate).assertEquals(1, 2, "Model[2]");
+        inOrder.verify(delegate).assertEquals(1, 2, "Model[10]");
+        inOrder.verify(delegate).fail("Missed element at 'Model': a");
+        inOrder.verify(delegate).assertAll();
+        Mockito.verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void passedAssertionsAreNotPassedToDelegateTest() {
+        ConcurrentSoftAssertion concurrentSoftAssertion = new ConcurrentSoftAssertion(delegate);
+        concurrentSoftAssertion.assertEquals("a", "a", "message");
+        concurrentSoftAssertion.assertEmpty(new Object[0], "message");
+        concurrentSoftAssertion.assertEmpty(Collections.emptyList(), "message");
+        concurrentSoftAssertion.assertEmpty(Collections.emptyMap(), "message");
+        concurrentSoftAssertion.assertEqualSize(new Object[1], new Object[1], "message");
+        concurrentSoftAssertion.assertEqualSize(Collections.singletonList(1), Collections.singletonList(2), "message");
+        concurrentSoftAssertion.assertAll();
+        Mockito.verify(delegate).assertAll();
+        Mockito.verifyNoMoreInteractions(delegate);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier.impl;
+
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfiguration;
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfigurationBuilder;
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.engine.AssertionEngine;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ExtendWith(MockitoExtension.class)
+class CompiledObjectVerifierTest {
+
+    @Mock
+    private AssertionContext assertionContext;
+    @Mock
+    private AssertionEngine assertionEngine;
+    @Mock
+    private CommonSoftAssertion commonSoftAssertion;
+
+    @Test
+    void canVerifyNonRegisteredClassTest() {
+        CompiledObjectVerifier verifier = new CompiledObjectVerifier(assertionContext, TestModel.class);
+        Assertions.assertFalse(verifier.canVerify(NestedModel.class));
+    }
+
+    @Test
+    void canVerifyRegisteredClassTest() {
+        CompiledObjectVerifier verifier = new CompiledObjectVerifier(assertionContext, TestModel.class);
+        Assertions.assertTrue(verifier.canVerify(TestModel.class));
+    }
+
+    @Test
+    void equalLeafFieldsAreNotPassedToEngineTest() {
+        TestModel actual = new TestModel(Double.NaN, 1, null, "text");
+        TestModel expected = new TestModel(Double.NaN, 1, null, "text");
+        List<String> traces = verify(actual, expected, new AssertionConfigurationBuilder().build());
+        Assertions.assertEquals(1, traces.size());
+        Assertions.assertEquals("TestModel.nested", traces.get(0));
+    }
+
+    @Test
+    void fieldsIgnoredByNameAreNotPassedToEngineTest() {
+        TestModel actual = new TestModel(1.5, 1, null, "text1");
+        TestModel expected = new TestModel(2.5, 2, null, "text2");
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder()
+                .ignoreFieldsByName("decimal", "nested", "text").build();
+        List<String> traces = verify(actual, expected, configuration);
+        Assertions.assertEquals(1, traces.size());
+        Assertions.assertEquals("TestModel.number", traces.get(0));
+    }
+
+    @Test
+    void fieldsIgnoredByPathAreNotPassedToEngineTest() {
+        TestModel actual = new TestModel(1.5, 1, null, "text1");
+        TestModel expected = new TestModel(2.5, 2, null, "text2");
+        AssertionConfiguration configuration = new AssertionConfigurationBuilder()
+                .ignoreFieldsByPath("TestModel.decimal", "TestModel.nested", "TestModel.number").build();
+        List<String> traces = verify(actual, expected, configuration);
+        Assertions.assertEquals(1, traces.size());
+        Assertions.assertEquals("TestModel.text", traces.get(0));
+    }
+
+    @Test
+    void mismatchedLeafFieldsArePassedToEngineTest() {
+        NestedModel nested = new NestedModel();
+        TestModel actual = new TestModel(1.5, 1, nested, "text1");
+        TestModel expected = new TestModel(2.5, 2, nested, "text2");
+        ArgumentCaptor<FieldVerificationConfiguration<Object>> captor = captureConfigurations(actual, expected,
+                new AssertionConfigurationBuilder().build());
+        List<FieldVerificationConfiguration<Object>> configurations = captor.getAllValues();
+        Assertions.assertEquals(4, configurations.size());
+        VerificationField<Object> numberField = configurations.get(2).getVerificationField();
+        Assertions.assertEquals("TestModel.number", numberField.trace().getTrace());
+        Assertions.assertEquals(1, numberField.actual());
+        Assertions.assertEquals(2, numberField.expected());
+        Assertions.assertSame(configurations.get(0).getCommonSoftAssertion(),
+                configurations.get(2).getCommonSoftAssertion());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<FieldVerificationConfiguration<Object>> captureConfigurations(TestModel actual,
+            TestModel expected, AssertionConfiguration configuration) {
+        Mockito.when(assertionContext.getAssertionEngine()).thenReturn(assertionEngine);
+        CompiledObjectVerifier verifier = new CompiledObjectVerifier(assertionContext, TestModel.class);
+        VerificationField<TestModel> verificationField = new VerificationField<>(actual, expected,
+                new FieldTrace("TestModel"));
+        verifier.verify(
+                FieldVerificationConfiguration.forRootField(commonSoftAssertion, verificationField, configuration));
+        ArgumentCaptor<FieldVerificationConfiguration<Object>> captor = ArgumentCaptor
+                .forClass(FieldVerificationConfiguration.class);
+        Mockito.verify(assertionEngine, Mockito.atLeastOnce()).compareObjects(captor.capture());
+        return captor;
+    }
+
+    private List<String> verify(TestModel actual, TestModel expected, AssertionConfiguration configuration) {
+        return captureConfigurations(actual, expected, configuration).getAllValues().stream()
+                .map(fieldVerificationConfiguration -> fieldVerificationConfiguration.getVerificationField().trace()
+                        .getTrace()).collect(Collectors.toList());
+    }
+
+    private static class NestedModel {
+
+        private String value;
+    }
+
+    private static class TestModel {
+
+        private double decimal;
+        private NestedModel nested;
+        private int number;
+        private String text;
+
+        private TestModel(double decimal, int number, NestedModel nested, String text) {
+            this.decimal = decimal;
+            this.number = number;
+            this.nested = nested;
+            this.text = text;
+        }
+    }
+}
@@ -25,6 +25,7 @@ package com.github.vladislavsevruk.assertion.junit;
 
 import com.github.vladislavsevruk.assertion.AbstractRecursiveAssertion;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.ConcurrentSoftAssertion;
 import com.github.vladislavsevruk.assertion.verifier.Junit5SoftAssertionAdapter;
 
 /**
@@ -50,6 +51,17 @@ public final class RecursiveAssertion<T> extends AbstractRecursiveAssertion<T, R
         return new RecursiveAssertion<>(actual);
     }
 
+    /**
+     * Creates new concurrent soft assertion that may collect verifications of several assertions performed at
+     * different threads and passes them to JUnit soft assertion at <code>ConcurrentSoftAssertion.assertAll()</code>
+     * call.
+     *
+     * @return new <code>ConcurrentSoftAssertion</code> instance.
+     */
+    public static ConcurrentSoftAssertion newConcurrentSoftAssertion() {
+        return new ConcurrentSoftAssertion(new Junit5SoftAssertionAdapter());
+    }
+
     @Override
     protected CommonSoftAssertion newCommonAssertion() {
         return new Junit5SoftAssertionAdapter();
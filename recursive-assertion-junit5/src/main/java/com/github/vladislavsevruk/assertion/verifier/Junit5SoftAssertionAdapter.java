@@ -26,31 +26,34 @@ package com.github.vladislavsevruk.assertion.verifier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.function.Executable;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.StreamSupport;
 
 /**
- * Adapts JUnit SoftAssert functionality to common interface with required soft assertion actions.
+ * Adapts JUnit SoftAssert functionality to common interface with required soft assertion actions. Assertions are
+ * evaluated at once and only their failures are kept until <code>assertAll</code> call, so verified values aren't
+ * kept reachable by adapter.
  */
-public class Junit5SoftAssertionAdapter implements CommonSoftAssertion {
+public class Junit5SoftAssertionAdapter extends AbstractCommonSoftAssertion {
 
-    private List<Executable> assertions = new LinkedList<>();
+    private List<Throwable> failures = new ArrayList<>();
 
     /**
      * {@inheritDoc}
      */
     @Override
     public void assertAll() {
-        Assertions.assertAll(assertions.stream());
+        // failures are thrown again by JUnit executables so they are reported same way as evaluated assertions
+        Assertions.assertAll(failures.stream().map(this::toExecutable));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void assertEmpty(Object[] actual, String message) {
+    protected void verifyEmpty(Object[] actual, String message) {
         addVerification(() -> Assertions.assertEquals(0, actual.length, wrapMessage(message)));
     }
 
@@ -58,7 +61,7 @@ public class Junit5SoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEmpty(Iterable<?> actual, String message) {
+    protected void verifyEmpty(Iterable<?> actual, String message) {
         addVerification(() -> Assertions.assertEquals(0, getIterableSize(actual), wrapMessage(message)));
     }
 
@@ -66,7 +69,7 @@ public class Junit5SoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEmpty(Map<?, ?> actual, String message) {
+    protected void verifyEmpty(Map<?, ?> actual, String message) {
         addVerification(() -> Assertions.assertTrue(actual.isEmpty(), wrapMessage(message)));
     }
 
@@ -74,7 +77,7 @@ public class Junit5SoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEqualSize(Object[] actual, Object[] expected, String message) {
+    protected void verifyEqualSize(Object[] actual, Object[] expected, String message) {
         addVerification(() -> Assertions.assertEquals(expected.length, actual.length, wrapMessage(message)));
     }
 
@@ -82,7 +85,7 @@ public class Junit5SoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+    protected void verifyEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
         addVerification(() -> Assertions
                 .assertEquals(getIterableSize(expected), getIterableSize(actual), wrapMessage(message)));
     }
@@ -91,7 +94,7 @@ public class Junit5SoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public <T> void assertEquals(T actual, T expected, String message) {
+    protected <T> void verifyEquals(T actual, T expected, String message) {
         addVerification(() -> Assertions.assertEquals(actual, expected, wrapMessage(message)));
     }
 
@@ -104,13 +107,25 @@ public class Junit5SoftAssertionAdapter implements CommonSoftAssertion {
     }
 
     private void addVerification(Executable verification) {
-        assertions.add(verification);
+        try {
+            verification.execute();
+        } catch (OutOfMemoryError error) {
+            throw error;
+        } catch (Throwable failure) {
+            failures.add(failure);
+        }
     }
 
     private long getIterableSize(Iterable<?> iterable) {
         return StreamSupport.stream(iterable.spliterator(), false).count();
     }
 
+    private Executable toExecutable(Throwable failure) {
+        return () -> {
+            throw failure;
+        };
+    }
+
     private String wrapMessage(String message) {
         return String.format("[%s]", message);
     }
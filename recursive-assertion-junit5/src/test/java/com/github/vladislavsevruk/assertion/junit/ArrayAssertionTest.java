@@ -350,6 +350,34 @@ class ArrayAssertionTest {
         Assertions.assertThrows(MultipleFailuresError.class, () -> recursiveAssertion2.isEqualTo(expected));
     }
 
+    @Test
+    void arrayMatchUnorderedElementsTest() {
+        ComplexObjectWithoutComparator actual1 = new ComplexObjectWithoutComparator();
+        actual1.setId(1L);
+        actual1.setSimpleTypeField("value1");
+        ComplexObjectWithoutComparator actual2 = new ComplexObjectWithoutComparator();
+        actual2.setId(2L);
+        actual2.setSimpleTypeField("value2");
+        ComplexObjectWithoutComparator expected1 = new ComplexObjectWithoutComparator();
+        expected1.setId(2L);
+        expected1.setSimpleTypeField("value2");
+        ComplexObjectWithoutComparator expected2 = new ComplexObjectWithoutComparator();
+        expected2.setId(3L);
+        expected2.setSimpleTypeField("value1");
+        ComplexObjectWithoutComparator[] actual = new ComplexObjectWithoutComparator[]{ actual1, actual2 };
+        ComplexObjectWithoutComparator[] expected = new ComplexObjectWithoutComparator[]{ expected1, expected2 };
+        RecursiveAssertion<ComplexObjectWithoutComparator[]> recursiveAssertion = RecursiveAssertion
+                .assertThat(actual).matchUnorderedElements(true);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("[ComplexObjectWithoutComparator[1].id] ==> expected: <1> but was: <3>",
+                    mfEr.getFailures().get(0).getMessage());
+        }
+    }
+
     @Test
     void arrayNotBreakOnIdInequalityTest() {
         ComplexObjectWithComparator actualElement = new ComplexObjectWithComparator();
@@ -497,4 +525,48 @@ class ArrayAssertionTest {
         Double[] expected = null;
         RecursiveAssertion.assertThat(actual).ignoreNullFields(true).isEqualTo(expected);
     }
+
+    @Test
+    void primitiveArrayEmptyCollectionEqualNullTest() {
+        int[] actual = new int[0];
+        int[] expected = null;
+        RecursiveAssertion.assertThat(actual).emptyCollectionEqualNull(true).isEqualTo(expected);
+    }
+
+    @Test
+    void primitiveArrayEqualsTest() {
+        long[] actual = new long[]{ 1L, 2L, 3L };
+        long[] expected = new long[]{ 1L, 2L, 3L };
+        RecursiveAssertion.assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void primitiveArrayNotEqualsTest() {
+        int[] actual = new int[]{ 1, 2, 3 };
+        int[] expected = new int[]{ 1, 5, 3 };
+        try {
+            RecursiveAssertion.assertThat(actual).isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(mfEr.getFailures().get(0).getMessage().startsWith("[int[1]] ==> expected: "));
+        }
+    }
+
+    @Test
+    void primitiveArrayReportedElementsLimitTest() {
+        double[] actual = new double[20];
+        double[] expected = new double[20];
+        for (int i = 0; i < expected.length; ++i) {
+            expected[i] = i + 1;
+        }
+        try {
+            RecursiveAssertion.assertThat(actual).isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(11, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("[double[]] 10 more differing element(s) weren't reported",
+                    mfEr.getFailures().get(10).getMessage());
+        }
+    }
 }
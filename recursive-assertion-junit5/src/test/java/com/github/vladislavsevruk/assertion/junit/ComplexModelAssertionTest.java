@@ -23,6 +23,7 @@
  */
 package com.github.vladislavsevruk.assertion.junit;
 
+import com.github.vladislavsevruk.assertion.configuration.DepthLimitFallback;
 import com.github.vladislavsevruk.assertion.junit.data.ComplexObjectWithoutComparator;
 import com.github.vladislavsevruk.assertion.junit.data.NestedComplexObject;
 import com.github.vladislavsevruk.assertion.junit.extension.ComparatorExtension;
@@ -394,6 +395,26 @@ class ComplexModelAssertionTest {
         RecursiveAssertion.assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void complexObjectFailFastTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 2, 2 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .failFast();
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(2, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(mfEr.getFailures().get(0).getMessage().startsWith(
+                    "[[ComplexObjectWithoutComparator.nestedSimpleTypeArray] Length of actual and expected arrays differs]"));
+            Assertions.assertEquals("Verification was stopped after 1 failure(s), remaining values weren't verified.",
+                    mfEr.getFailures().get(1).getMessage());
+        }
+    }
+
     @Test
     void complexObjectIgnoreFieldByNameTest() {
         ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
@@ -470,6 +491,113 @@ class ComplexModelAssertionTest {
         Assertions.assertThrows(MultipleFailuresError.class, () -> recursiveAssertion.isEqualTo(expected));
     }
 
+    @Test
+    void complexObjectMaxDepthComparatorEqualArraysTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        RecursiveAssertion.assertThat(actual).maxDepth(0, DepthLimitFallback.COMPARATOR).isEqualTo(expected);
+    }
+
+    @Test
+    void complexObjectMaxDepthEqualArraysTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        RecursiveAssertion.assertThat(actual).maxDepth(0).isEqualTo(expected);
+    }
+
+    @Test
+    void complexObjectMaxDepthEqualsTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        NestedComplexObject actualNestedObject = new NestedComplexObject();
+        actualNestedObject.setId(1L);
+        actual.setNestedComplexObject(actualNestedObject);
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        NestedComplexObject expectedNestedObject = new NestedComplexObject();
+        expectedNestedObject.setId(2L);
+        expected.setNestedComplexObject(expectedNestedObject);
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .maxDepth(0);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(mfEr.getFailures().get(0).getMessage()
+                    .startsWith("[ComplexObjectWithoutComparator.nestedComplexObject] ==> expected: "));
+        }
+    }
+
+    @Test
+    void complexObjectMaxDepthNotEqualArraysTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 4 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .maxDepth(0);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(mfEr.getFailures().get(0).getMessage()
+                    .startsWith("[ComplexObjectWithoutComparator.nestedSimpleTypeArray] ==> "));
+        }
+    }
+
+    @Test
+    void complexObjectMaxDepthSkipTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        NestedComplexObject actualNestedObject = new NestedComplexObject();
+        actualNestedObject.setId(1L);
+        actual.setNestedComplexObject(actualNestedObject);
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        NestedComplexObject expectedNestedObject = new NestedComplexObject();
+        expectedNestedObject.setId(2L);
+        expected.setNestedComplexObject(expectedNestedObject);
+        RecursiveAssertion.assertThat(actual).maxDepth(0, DepthLimitFallback.SKIP).isEqualTo(expected);
+    }
+
+    @Test
+    void complexObjectMaxFailuresTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 2, 2 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .breakOnSizeInequality(false).maxFailures(2);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(3, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("Verification was stopped after 2 failure(s), remaining values weren't verified.",
+                    mfEr.getFailures().get(2).getMessage());
+        }
+    }
+
+    @Test
+    void complexObjectMaxFailuresNotReachedTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 2, 2 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .breakOnSizeInequality(false).maxFailures(4);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(3, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(mfEr.getFailures().get(2).getMessage()
+                    .startsWith("Unexpected element at 'ComplexObjectWithoutComparator.nestedSimpleTypeArray': "));
+        }
+    }
+
     @Test
     void complexObjectNotBreakOnIdInequalityArrayTest() {
         ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
@@ -602,6 +730,38 @@ class ComplexModelAssertionTest {
         }
     }
 
+    @Test
+    void complexObjectOnlyFieldsByPathTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setId(1L);
+        actual.setSimpleTypeField("simpleTestValue1");
+        NestedComplexObject actualNestedObject = new NestedComplexObject();
+        actualNestedObject.setId(1L);
+        actualNestedObject.setSimpleTypeField("simpleTestValue1");
+        actual.setNestedComplexObject(actualNestedObject);
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setId(2L);
+        expected.setSimpleTypeField("simpleTestValue2");
+        NestedComplexObject expectedNestedObject = new NestedComplexObject();
+        expectedNestedObject.setId(1L);
+        expectedNestedObject.setSimpleTypeField("simpleTestValue2");
+        expected.setNestedComplexObject(expectedNestedObject);
+        RecursiveAssertion.assertThat(actual).onlyFieldsByPath("ComplexObjectWithoutComparator.nestedComplexObject.id")
+                .isEqualTo(expected);
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .onlyFieldsByPath("ComplexObjectWithoutComparator.id", "ComplexObjectWithoutComparator.nestedComplexObject");
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(2, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(mfEr.getFailures().get(0).getMessage()
+                    .startsWith("[ComplexObjectWithoutComparator.id] ==> expected: "));
+            Assertions.assertTrue(mfEr.getFailures().get(1).getMessage()
+                    .startsWith("[ComplexObjectWithoutComparator.nestedComplexObject.simpleTypeField] ==> expected: "));
+        }
+    }
+
     @Test
     void complexObjectSortInnerSimpleTypeArrayTest() {
         ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
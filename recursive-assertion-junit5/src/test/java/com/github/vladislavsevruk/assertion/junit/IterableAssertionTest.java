@@ -23,17 +23,25 @@
  */
 package com.github.vladislavsevruk.assertion.junit;
 
+import com.github.vladislavsevruk.assertion.junit.data.ChildObject;
 import com.github.vladislavsevruk.assertion.junit.data.ComplexObjectWithComparator;
 import com.github.vladislavsevruk.assertion.junit.data.ComplexObjectWithoutComparator;
+import com.github.vladislavsevruk.assertion.junit.data.CompositeIdObject;
+import com.github.vladislavsevruk.assertion.junit.data.EntityObject;
 import com.github.vladislavsevruk.assertion.junit.data.InheritedComplexObject;
+import com.github.vladislavsevruk.assertion.junit.data.NestedComplexObject;
+import com.github.vladislavsevruk.assertion.junit.data.ParentObject;
+import com.github.vladislavsevruk.assertion.junit.data.SlowComparedNumber;
 import com.github.vladislavsevruk.assertion.junit.extension.ComparatorExtension;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.opentest4j.MultipleFailuresError;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -362,6 +370,147 @@ class IterableAssertionTest {
         Assertions.assertThrows(MultipleFailuresError.class, () -> recursiveAssertion2.isEqualTo(expected));
     }
 
+    @Test
+    void iterableInterruptedTest() {
+        List<Integer> actual = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            actual.add(1000 + i);
+            expected.add(1000 + i);
+        }
+        Thread.currentThread().interrupt();
+        try {
+            RecursiveAssertion.assertThat(actual).isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("Verification was interrupted after 63 value(s) were verified.",
+                    mfEr.getFailures().get(0).getMessage());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void iterableMatchUnorderedElementsCyclicModelTest() {
+        ParentObject actual = newParentObject("a", "b", "c");
+        ParentObject expected = newParentObject("a", "x", "c");
+        RecursiveAssertion<ParentObject> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .matchUnorderedElements(true);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("[ParentObject.children[1].name] ==> expected: <b> but was: <x>",
+                    mfEr.getFailures().get(0).getMessage());
+        }
+    }
+
+    @Test
+    void iterableMatchUnorderedElementsIgnoreFieldTest() {
+        List<ComplexObjectWithoutComparator> actual = Arrays
+                .asList(newComplexObject(1L, "value1"), newComplexObject(2L, "value2"));
+        List<ComplexObjectWithoutComparator> expected = Arrays
+                .asList(newComplexObject(2L, "otherValue2"), newComplexObject(1L, "otherValue1"));
+        RecursiveAssertion.assertThat(actual).matchUnorderedElements(true).ignoreFields("simpleTypeField")
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void iterableMatchUnorderedElementsIgnoreIndexFieldPathTest() {
+        List<ComplexObjectWithoutComparator> actual = Arrays
+                .asList(newComplexObject(1L, "value1"), newComplexObject(2L, "value2"));
+        List<ComplexObjectWithoutComparator> expected = Arrays
+                .asList(newComplexObject(2L, "value2"), newComplexObject(1L, "otherValue1"));
+        RecursiveAssertion.assertThat(actual).matchUnorderedElements(true).maxPairingCost(0)
+                .ignoreFieldsByPath("ArrayList[1].simpleTypeField").isEqualTo(expected);
+    }
+
+    @Test
+    void iterableMatchUnorderedElementsInterruptedTest() {
+        List<ComplexObjectWithoutComparator> actual = new ArrayList<>();
+        List<ComplexObjectWithoutComparator> expected = new ArrayList<>();
+        for (long i = 0; i < 20; ++i) {
+            actual.add(newComplexObject(i, "value"));
+            expected.add(newComplexObject(i, "otherValue"));
+        }
+        RecursiveAssertion<List<ComplexObjectWithoutComparator>> recursiveAssertion = RecursiveAssertion
+                .assertThat(actual).matchUnorderedElements(true);
+        Thread.currentThread().interrupt();
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("Verification was interrupted after 1 value(s) were verified.",
+                    mfEr.getFailures().get(0).getMessage());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void iterableMatchUnorderedElementsMaxPairingCandidatesTest() {
+        List<ComplexObjectWithoutComparator> actual = Arrays
+                .asList(newComplexObject(1L, "value1"), newComplexObject(2L, "value2"),
+                        newComplexObject(3L, "value3"));
+        List<ComplexObjectWithoutComparator> expected = Arrays
+                .asList(newComplexObject(3L, "otherValue3"), newComplexObject(1L, "otherValue1"),
+                        newComplexObject(2L, "otherValue2"));
+        RecursiveAssertion<List<ComplexObjectWithoutComparator>> recursiveAssertion = RecursiveAssertion
+                .assertThat(actual).matchUnorderedElements(true).maxPairingCost(1).maxPairingCandidates(1);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(6, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(mfEr.getFailures().get(0).getMessage().startsWith("Missed element at 'ArrayList': "));
+            Assertions.assertTrue(mfEr.getFailures().get(5).getMessage()
+                    .startsWith("Unexpected element at 'ArrayList': "));
+        }
+    }
+
+    @Test
+    void iterableMatchUnorderedElementsMaxPairingCostTest() {
+        List<ComplexObjectWithoutComparator> actual = Arrays
+                .asList(newComplexObject(1L, "value1"), newComplexObject(2L, "value2"));
+        List<ComplexObjectWithoutComparator> expected = Arrays
+                .asList(newComplexObject(2L, "value2"), newComplexObject(1L, "otherValue1"));
+        RecursiveAssertion<List<ComplexObjectWithoutComparator>> recursiveAssertion = RecursiveAssertion
+                .assertThat(actual).matchUnorderedElements(true).maxPairingCost(0);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(2, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(mfEr.getFailures().get(0).getMessage().startsWith("Missed element at 'ArrayList': "));
+            Assertions.assertTrue(mfEr.getFailures().get(1).getMessage()
+                    .startsWith("Unexpected element at 'ArrayList': "));
+        }
+    }
+
+    @Test
+    void iterableMatchUnorderedElementsTest() {
+        List<ComplexObjectWithoutComparator> actual = Arrays
+                .asList(newComplexObject(1L, "value1"), newComplexObject(2L, "value2"),
+                        newComplexObject(3L, "value3"));
+        List<ComplexObjectWithoutComparator> expected = Arrays
+                .asList(newComplexObject(3L, "value3"), newComplexObject(1L, "value1"),
+                        newComplexObject(2L, "otherValue2"));
+        RecursiveAssertion<List<ComplexObjectWithoutComparator>> recursiveAssertion = RecursiveAssertion
+                .assertThat(actual).matchUnorderedElements(true);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals(
+                    "[ArrayList[2].simpleTypeField] ==> expected: <value2> but was: <otherValue2>",
+                    mfEr.getFailures().get(0).getMessage());
+        }
+    }
+
     @Test
     void iterableNotBreakOnIdInequalityTest() {
         ComplexObjectWithComparator actualElement = new ComplexObjectWithComparator();
@@ -428,6 +577,49 @@ class IterableAssertionTest {
         Assertions.assertThrows(MultipleFailuresError.class, () -> recursiveAssertion.isEqualTo(expected));
     }
 
+    @Test
+    void iterableSortCollectionsByCompositeIdentifierTest() {
+        List<CompositeIdObject> actual = Arrays
+                .asList(new CompositeIdObject("US", 1L, "c"), new CompositeIdObject("EU", 2L, "b"),
+                        new CompositeIdObject("EU", 1L, "a"));
+        List<CompositeIdObject> expected = Arrays
+                .asList(new CompositeIdObject("EU", 1L, "a"), new CompositeIdObject("EU", 2L, "x"),
+                        new CompositeIdObject("US", 1L, "c"));
+        RecursiveAssertion<List<CompositeIdObject>> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .sortCollections(true);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("[ArrayList[region=EU,number=2].simpleTypeField] ==> expected: <b> but was: <x>",
+                    mfEr.getFailures().get(0).getMessage());
+        }
+    }
+
+    @Test
+    void iterableSortCollectionsByIdentifierTest() {
+        List<NestedComplexObject> actual = Arrays
+                .asList(newNestedComplexObject(3L, "c"), newNestedComplexObject(1L, "a"),
+                        newNestedComplexObject(2L, "b"));
+        List<NestedComplexObject> expected = Arrays
+                .asList(newNestedComplexObject(1L, "a"), newNestedComplexObject(2L, "x"),
+                        newNestedComplexObject(4L, "d"));
+        RecursiveAssertion<List<NestedComplexObject>> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .sortCollections(true);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(3, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertTrue(mfEr.getFailures().get(0).getMessage()
+                    .startsWith("[ArrayList[id=2].simpleTypeField] ==> expected: "));
+            Assertions.assertTrue(mfEr.getFailures().get(1).getMessage().startsWith("Missed element at 'ArrayList': "));
+            Assertions.assertTrue(mfEr.getFailures().get(2).getMessage()
+                    .startsWith("Unexpected element at 'ArrayList': "));
+        }
+    }
+
     @Test
     void iterableSortCollectionsCustomComparatorTest() {
         // expecting no exception because of id comparator usage
@@ -493,4 +685,107 @@ class IterableAssertionTest {
         List<String> actual = Collections.singletonList("a");
         RecursiveAssertion.assertThat(actual).isEqualTo(actual);
     }
+
+    @Test
+    void iterableWithinMillisNotReachedTest() {
+        List<Integer> actual = Arrays.asList(1, 2, 3);
+        List<Integer> expected = Arrays.asList(1, 2, 3);
+        RecursiveAssertion.assertThat(actual).withinMillis(60_000L).isEqualTo(expected);
+    }
+
+    @Test
+    void iterableWithinMillisTest() {
+        List<SlowComparedNumber> actual = new ArrayList<>();
+        List<SlowComparedNumber> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            actual.add(new SlowComparedNumber(i));
+            expected.add(new SlowComparedNumber(i));
+        }
+        RecursiveAssertion<List<SlowComparedNumber>> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .withinMillis(1L);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("Verification was stopped after 1 ms timeout, 63 value(s) were verified.",
+                    mfEr.getFailures().get(0).getMessage());
+        }
+    }
+
+    @Test
+    void setDifferentIterationOrderTest() {
+        Set<String> actual = new LinkedHashSet<>(Arrays.asList("value1", "value2", "value3"));
+        Set<String> expected = new LinkedHashSet<>(Arrays.asList("value3", "value1", "value2"));
+        RecursiveAssertion.assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void setElementsEqualByIdTest() {
+        Set<EntityObject> actual = new LinkedHashSet<>(
+                Arrays.asList(new EntityObject(1L, "a"), new EntityObject(2L, "b")));
+        Set<EntityObject> expected = new LinkedHashSet<>(
+                Arrays.asList(new EntityObject(2L, "x"), new EntityObject(1L, "a")));
+        RecursiveAssertion<Set<EntityObject>> recursiveAssertion = RecursiveAssertion.assertThat(actual);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("[LinkedHashSet[0].name] ==> expected: <b> but was: <x>",
+                    mfEr.getFailures().get(0).getMessage());
+        }
+    }
+
+    @Test
+    void setNotEqualElementsTest() {
+        Set<NestedComplexObject> actual = new LinkedHashSet<>(Arrays
+                .asList(newNestedComplexObject(1L, "a"), newNestedComplexObject(2L, "b"),
+                        newNestedComplexObject(3L, "c")));
+        Set<NestedComplexObject> expected = new LinkedHashSet<>(Arrays
+                .asList(newNestedComplexObject(3L, "c"), newNestedComplexObject(2L, "x"),
+                        newNestedComplexObject(1L, "a")));
+        RecursiveAssertion<Set<NestedComplexObject>> recursiveAssertion = RecursiveAssertion.assertThat(actual);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(1, mfEr.getFailures().size(), "Wrong issues size");
+            Assertions.assertEquals("[LinkedHashSet[id=2].simpleTypeField] ==> expected: <b> but was: <x>",
+                    mfEr.getFailures().get(0).getMessage());
+        }
+    }
+
+    @Test
+    void setWithIterableActualTest() {
+        Iterable<String> actual = Arrays.asList("value2", "value1");
+        Iterable<String> expected = new LinkedHashSet<>(Arrays.asList("value1", "value2"));
+        RecursiveAssertion<Iterable<String>> recursiveAssertion = RecursiveAssertion.assertThat(actual);
+        Assertions.assertThrows(MultipleFailuresError.class, () -> recursiveAssertion.isEqualTo(expected));
+    }
+
+    private ComplexObjectWithoutComparator newComplexObject(Long id, String simpleTypeField) {
+        ComplexObjectWithoutComparator complexObject = new ComplexObjectWithoutComparator();
+        complexObject.setId(id);
+        complexObject.setSimpleTypeField(simpleTypeField);
+        return complexObject;
+    }
+
+    private NestedComplexObject newNestedComplexObject(Long id, String simpleTypeField) {
+        NestedComplexObject nestedComplexObject = new NestedComplexObject();
+        nestedComplexObject.setId(id);
+        nestedComplexObject.setSimpleTypeField(simpleTypeField);
+        return nestedComplexObject;
+    }
+
+    private ParentObject newParentObject(String... childNames) {
+        ParentObject parentObject = new ParentObject();
+        for (String childName : childNames) {
+            ChildObject childObject = new ChildObject();
+            childObject.setName(childName);
+            childObject.setParent(parentObject);
+            parentObject.getChildren().add(childObject);
+        }
+        return parentObject;
+    }
 }
@@ -23,15 +23,51 @@
  */
 package com.github.vladislavsevruk.assertion.junit;
 
+import com.github.vladislavsevruk.assertion.verifier.ConcurrentSoftAssertion;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.MultipleFailuresError;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 class RecursiveAssertionTest {
 
+    @Test
+    void concurrentSoftAssertionKeepsVerificationOrderTest() {
+        ConcurrentSoftAssertion concurrentSoftAssertion = RecursiveAssertion.newConcurrentSoftAssertion();
+        List<String> actual = IntStream.range(0, 11).mapToObj(i -> "a" + i).collect(Collectors.toList());
+        List<String> expected = IntStream.range(0, 11).mapToObj(i -> "e" + i).collect(Collectors.toList());
+        IntStream.range(0, 2).parallel().forEach(i -> RecursiveAssertion.assertThat(actual).as("list" + i)
+                .useConcurrentSoftAssertion(concurrentSoftAssertion).isEqualTo(expected));
+        try {
+            concurrentSoftAssertion.assertAll();
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(22, mfEr.getFailures().size());
+            Assertions.assertTrue(mfEr.getFailures().get(2).getMessage().startsWith("[list0[2]]"));
+            Assertions.assertTrue(mfEr.getFailures().get(10).getMessage().startsWith("[list0[10]]"));
+            Assertions.assertTrue(mfEr.getFailures().get(11).getMessage().startsWith("[list1[0]]"));
+        }
+    }
+
+    @Test
+    void concurrentSoftAssertionTest() {
+        ConcurrentSoftAssertion concurrentSoftAssertion = RecursiveAssertion.newConcurrentSoftAssertion();
+        IntStream.range(0, 50).parallel().forEach(i -> RecursiveAssertion.assertThat(Collections.singletonList("a" + i))
+                .as(String.format("list%02d", i)).useConcurrentSoftAssertion(concurrentSoftAssertion)
+                .isEqualTo(Collections.singletonList("e" + i)));
+        try {
+            concurrentSoftAssertion.assertAll();
+            Assertions.fail("Exception wasn't thrown");
+        } catch (MultipleFailuresError mfEr) {
+            Assertions.assertEquals(50, mfEr.getFailures().size());
+            Assertions.assertTrue(mfEr.getFailures().get(0).getMessage().startsWith("[list00[0]]"));
+        }
+    }
+
     @Test
     void customObjectNameTest() {
         List<String> actual = Collections.singletonList("a");
@@ -0,0 +1,337 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.processor;
+
+import com.github.vladislavsevruk.assertion.annotation.GenerateVerifier;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates field verifiers for classes marked with {@link GenerateVerifier} annotation. Generated verifier reads
+ * values of fields directly if they are accessible from model package or using getters otherwise and is registered as
+ * <code>FieldVerifierFactory</code> service so it's added to every assertion context automatically.
+ */
+@SupportedAnnotationTypes("com.github.vladislavsevruk.assertion.annotation.GenerateVerifier")
+public final class GenerateVerifierProcessor extends AbstractProcessor {
+
+    private static final String FACTORY_SERVICE_FILE
+            = "META-INF/services/com.github.vladislavsevruk.assertion.verifier.FieldVerifierFactory";
+    private static final Set<String> SIMPLE_TYPES = new HashSet<>(Arrays
+            .asList(String.class.getName(), Boolean.class.getName(), Character.class.getName(), Byte.class.getName(),
+                    Short.class.getName(), Integer.class.getName(), Long.class.getName(), Float.class.getName(),
+                    Double.class.getName()));
+    private final List<String> factoryNames = new ArrayList<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(GenerateVerifier.class)) {
+            if (isSuitableModel(element)) {
+                generateVerifier((TypeElement) element);
+            }
+        }
+        if (roundEnvironment.processingOver() && !factoryNames.isEmpty()) {
+            writeServiceFile();
+        }
+        return true;
+    }
+
+    private List<VerifiedField> collectFields(TypeElement model, String packageName) {
+        List<VerifiedField> fields = new ArrayList<>();
+        Set<String> fieldNames = new HashSet<>();
+        boolean hasInaccessibleFields = false;
+        TypeElement type = model;
+        while (type != null && !Object.class.getName().equals(type.getQualifiedName().toString())) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String fieldName = field.getSimpleName().toString();
+                String accessTemplate = resolveAccessTemplate(model, type, field, packageName,
+                        !fieldNames.add(fieldName));
+                if (accessTemplate == null) {
+                    error(field, String.format("Field '%s' of '%s' isn't accessible from generated verifier, make it "
+                            + "non-private or add getter.", fieldName, type.getQualifiedName()));
+                    hasInaccessibleFields = true;
+                    continue;
+                }
+                fields.add(new VerifiedField(fieldName, accessTemplate, field.asType()));
+            }
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement()
+                    : null;
+        }
+        return hasInaccessibleFields ? null : fields;
+    }
+
+    private String comparisonTemplate(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case CHAR:
+            case SHORT:
+            case INT:
+            case LONG:
+                return "%s != %s";
+            case FLOAT:
+                return "Float.compare(%s, %s) != 0";
+            case DOUBLE:
+                return "Double.compare(%s, %s) != 0";
+            case DECLARED:
+                Element typeElement = ((DeclaredType) type).asElement();
+                if (typeElement.getKind() == ElementKind.ENUM || SIMPLE_TYPES
+                        .contains(((TypeElement) typeElement).getQualifiedName().toString())) {
+                    return "!java.util.Objects.equals(%s, %s)";
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private ExecutableElement findGetter(TypeElement model, VariableElement field, String packageName) {
+        String fieldName = field.getSimpleName().toString();
+        String capitalizedName = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        List<String> getterNames = new ArrayList<>();
+        getterNames.add("get" + capitalizedName);
+        if (field.asType().getKind() == TypeKind.BOOLEAN) {
+            getterNames.add("is" + capitalizedName);
+        }
+        for (ExecutableElement method : ElementFilter
+                .methodsIn(processingEnv.getElementUtils().getAllMembers(model))) {
+            if (getterNames.contains(method.getSimpleName().toString()) && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.STATIC) && isAccessible(method, packageName)
+                    && isSameErasure(method.getReturnType(), field.asType())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private void generateVerifier(TypeElement model) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(model).getQualifiedName().toString();
+        List<VerifiedField> fields = collectFields(model, packageName);
+        if (fields == null) {
+            return;
+        }
+        String verifierName = getVerifierName(model);
+        String qualifiedVerifierName = packageName.isEmpty() ? verifierName : packageName + "." + verifierName;
+        try {
+            writeVerifier(model, packageName, verifierName, qualifiedVerifierName, fields);
+            factoryNames.add(qualifiedVerifierName + "$Factory");
+        } catch (IOException ioEx) {
+            error(model, "Failed to generate verifier: " + ioEx.getMessage());
+        }
+    }
+
+    private String getModelReference(TypeElement model) {
+        String modelName = model.getQualifiedName().toString();
+        return model.getTypeParameters().isEmpty() ? modelName : modelName + "<?>";
+    }
+
+    private String getVerifierName(TypeElement model) {
+        StringBuilder verifierName = new StringBuilder(model.getSimpleName());
+        Element enclosingElement = model.getEnclosingElement();
+        while (enclosingElement instanceof TypeElement) {
+            verifierName.insert(0, '_').insert(0, enclosingElement.getSimpleName());
+            enclosingElement = enclosingElement.getEnclosingElement();
+        }
+        return verifierName.append("_FieldVerifier").toString();
+    }
+
+    private boolean isAccessible(Element member, String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE) && packageName
+                .equals(processingEnv.getElementUtils().getPackageOf(member).getQualifiedName().toString());
+    }
+
+    private boolean isSameErasure(TypeMirror type, TypeMirror anotherType) {
+        return processingEnv.getTypeUtils().isSameType(processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(anotherType));
+    }
+
+    private boolean isSuitableModel(Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            error(element, "Verifier can be generated only for classes.");
+            return false;
+        }
+        TypeElement model = (TypeElement) element;
+        Set<Modifier> modifiers = model.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT)) {
+            error(element, "Verifier can't be generated for abstract class.");
+            return false;
+        }
+        Element type = model;
+        while (type instanceof TypeElement) {
+            if (type.getModifiers().contains(Modifier.PRIVATE) || ((TypeElement) type).getNestingKind().isNested()
+                    && !type.getModifiers().contains(Modifier.STATIC)) {
+                error(element, "Verifier can be generated only for top level or non-private static nested classes.");
+                return false;
+            }
+            type = type.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private String resolveAccessTemplate(TypeElement model, TypeElement declaringType, VariableElement field,
+            String packageName, boolean isHidden) {
+        if (isAccessible(field, packageName)) {
+            if (isHidden) {
+                return String.format("((%s) %%s).%s", processingEnv.getTypeUtils().erasure(declaringType.asType()),
+                        field.getSimpleName());
+            }
+            return "%s." + field.getSimpleName();
+        }
+        if (isHidden) {
+            return null;
+        }
+        ExecutableElement getter = findGetter(model, field, packageName);
+        return getter == null ? null : "%s." + getter.getSimpleName() + "()";
+    }
+
+    private void writeFieldVerification(PrintWriter writer, VerifiedField field, int index) {
+        String actualValue = String.format(field.accessTemplate, "actual");
+        String expectedValue = String.format(field.accessTemplate, "expected");
+        String comparisonTemplate = comparisonTemplate(field.type);
+        if (comparisonTemplate == null) {
+            writer.printf("        verifyField(configuration, \"%s\", %s, %s);%n", field.name, actualValue,
+                    expectedValue);
+            return;
+        }
+        String localType = field.type.getKind().isPrimitive() ? field.type.getKind().name().toLowerCase() : "Object";
+        String actualLocal = "actualValue" + index;
+        String expectedLocal = "expectedValue" + index;
+        writer.printf("        %s %s = %s;%n", localType, actualLocal, actualValue);
+        writer.printf("        %s %s = %s;%n", localType, expectedLocal, expectedValue);
+        writer.printf("        if (%s) {%n", String.format(comparisonTemplate, actualLocal, expectedLocal));
+        writer.printf("            verifyField(configuration, \"%s\", %s, %s);%n        }%n", field.name, actualLocal,
+                expectedLocal);
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject serviceFile = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", FACTORY_SERVICE_FILE);
+            try (PrintWriter writer = new PrintWriter(serviceFile.openWriter())) {
+                factoryNames.forEach(writer::println);
+            }
+        } catch (IOException ioEx) {
+            processingEnv.getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Failed to write verifier factories: " + ioEx.getMessage());
+        }
+    }
+
+    private void writeVerifier(TypeElement model, String packageName, String verifierName,
+            String qualifiedVerifierName, List<VerifiedField> fields) throws IOException {
+        String modelReference = getModelReference(model);
+        try (PrintWriter writer = new PrintWriter(
+                processingEnv.getFiler().createSourceFile(qualifiedVerifierName, model).openWriter())) {
+            if (!packageName.isEmpty()) {
+                writer.printf("package %s;%n%n", packageName);
+            }
+            writer.printf("/**%n * Field verifier for <code>%s</code> generated by <code>%s</code>.%n */%n",
+                    model.getQualifiedName(), GenerateVerifierProcessor.class.getSimpleName());
+            writer.printf("public final class %s%n", verifierName);
+            writer.printf("        extends com.github.vladislavsevruk.assertion.verifier.impl"
+                    + ".AbstractGeneratedObjectVerifier {%n%n");
+            writer.printf("    public %s(com.github.vladislavsevruk.assertion.context.AssertionContext "
+                    + "assertionContext) {%n", verifierName);
+            writer.printf("        super(assertionContext, %s.class);%n    }%n%n", model.getQualifiedName());
+            writer.printf("    @Override%n    protected void verifyFields(%n");
+            writer.printf("            com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration<?> "
+                    + "configuration,%n            Object actualObject, Object expectedObject) {%n");
+            writer.printf("        %1$s actual = (%1$s) actualObject;%n", modelReference);
+            writer.printf("        %1$s expected = (%1$s) expectedObject;%n", modelReference);
+            for (int i = 0; i < fields.size(); ++i) {
+                writeFieldVerification(writer, fields.get(i), i);
+            }
+            writer.printf("    }%n%n");
+            writer.printf("    public static final class Factory%n");
+            writer.printf("            implements com.github.vladislavsevruk.assertion.verifier.FieldVerifierFactory "
+                    + "{%n%n");
+            writer.printf("        @Override%n");
+            writer.printf("        public com.github.vladislavsevruk.assertion.verifier.FieldVerifier create(%n");
+            writer.printf("                com.github.vladislavsevruk.assertion.context.AssertionContext "
+                    + "assertionContext) {%n");
+            writer.printf("            return new %s(assertionContext);%n        }%n    }%n}%n", verifierName);
+        }
+    }
+
+    /**
+     * Contains information required to generate verification of single field.
+     */
+    private static final class VerifiedField {
+
+        private final String accessTemplate;
+        private final String name;
+        private final TypeMirror type;
+
+        private VerifiedField(String name, String accessTemplate, TypeMirror type) {
+            this.name = name;
+            this.accessTemplate = accessTemplate;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.processor;
+
+import com.github.vladislavsevruk.assertion.annotation.GenerateVerifier;
+import com.github.vladislavsevruk.assertion.configuration.AssertionConfigurationBuilder;
+import com.github.vladislavsevruk.assertion.context.AssertionContext;
+import com.github.vladislavsevruk.assertion.engine.AssertionEngine;
+import com.github.vladislavsevruk.assertion.field.FieldTrace;
+import com.github.vladislavsevruk.assertion.field.FieldVerificationConfiguration;
+import com.github.vladislavsevruk.assertion.field.VerificationField;
+import com.github.vladislavsevruk.assertion.storage.FieldVerifierStorage;
+import com.github.vladislavsevruk.assertion.storage.FieldVerifierStorageImpl;
+import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.FieldVerifier;
+import com.github.vladislavsevruk.assertion.verifier.FieldVerifierFactory;
+import com.github.vladislavsevruk.assertion.verifier.impl.ComplexObjectVerifier;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ExtendWith(MockitoExtension.class)
+class GenerateVerifierProcessorTest {
+
+    private static final String BASE_MODEL_SOURCE = "package sample;\n"
+            + "class BaseModel {\n"
+            + "    protected double ratio;\n"
+            + "}\n";
+    private static final String MODEL_SOURCE = "package sample;\n"
+            + "@com.github.vladislavsevruk.assertion.annotation.GenerateVerifier\n"
+            + "public class Model extends BaseModel {\n"
+            + "    private static int instances;\n"
+            + "    int count;\n"
+            + "    private String name;\n"
+            + "    private boolean active;\n"
+            + "    java.util.List<String> items;\n"
+            + "    public Model(int count, String name, boolean active, java.util.List<String> items, double ratio) {\n"
+            + "        this.count = count;\n"
+            + "        this.name = name;\n"
+            + "        this.active = active;\n"
+            + "        this.items = items;\n"
+            + "        this.ratio = ratio;\n"
+            + "    }\n"
+            + "    public String getName() {\n"
+            + "        return name;\n"
+            + "    }\n"
+            + "    public boolean isActive() {\n"
+            + "        return active;\n"
+            + "    }\n"
+            + "}\n";
+    @Mock
+    private AssertionContext assertionContext;
+    @Mock
+    private AssertionEngine assertionEngine;
+    @Mock
+    private CommonSoftAssertion commonSoftAssertion;
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void generatedFactoryIsListedAsServiceTest() throws IOException {
+        Assertions.assertTrue(compile(new SourceFile("sample.BaseModel", BASE_MODEL_SOURCE),
+                new SourceFile("sample.Model", MODEL_SOURCE)).isEmpty());
+        Path serviceFile = outputDirectory
+                .resolve("META-INF/services/com.github.vladislavsevruk.assertion.verifier.FieldVerifierFactory");
+        List<String> factories = Files.readAllLines(serviceFile, StandardCharsets.UTF_8);
+        Assertions.assertEquals(Collections.singletonList("sample.Model_FieldVerifier$Factory"), factories);
+    }
+
+    @Test
+    void generatedVerifierIsAddedToStorageTest() throws Exception {
+        Assertions.assertTrue(compile(new SourceFile("sample.BaseModel", BASE_MODEL_SOURCE),
+                new SourceFile("sample.Model", MODEL_SOURCE)).isEmpty());
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = createClassLoader()) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            FieldVerifierStorage fieldVerifierStorage = new FieldVerifierStorageImpl(assertionContext);
+            List<String> verifierNames = fieldVerifierStorage.getAll().stream()
+                    .map(verifier -> verifier.getClass().getName()).collect(Collectors.toList());
+            int generatedVerifierIndex = verifierNames.indexOf("sample.Model_FieldVerifier");
+            Assertions.assertNotEquals(-1, generatedVerifierIndex);
+            Assertions.assertEquals(ComplexObjectVerifier.class.getName(),
+                    verifierNames.get(generatedVerifierIndex + 1));
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    void generatedVerifierPassesMismatchedAndComplexFieldsToEngineTest() throws Exception {
+        Assertions.assertTrue(compile(new SourceFile("sample.BaseModel", BASE_MODEL_SOURCE),
+                new SourceFile("sample.Model", MODEL_SOURCE)).isEmpty());
+        Mockito.when(assertionContext.getAssertionEngine()).thenReturn(assertionEngine);
+        try (URLClassLoader classLoader = createClassLoader()) {
+            Class<?> modelClass = classLoader.loadClass("sample.Model");
+            Object actual = modelClass.getConstructor(int.class, String.class, boolean.class, List.class, double.class)
+                    .newInstance(1, "actual", true, Collections.emptyList(), 0.5);
+            Object expected = modelClass.getConstructor(int.class, String.class, boolean.class, List.class,
+                    double.class).newInstance(1, "expected", true, Collections.emptyList(), 1.5);
+            FieldVerifier verifier = ((FieldVerifierFactory) classLoader
+                    .loadClass("sample.Model_FieldVerifier$Factory").getConstructor().newInstance())
+                    .create(assertionContext);
+            VerificationField<Object> verificationField = new VerificationField<>(actual, expected,
+                    new FieldTrace("Model"));
+            Assertions.assertTrue(verifier.canVerify(verificationField));
+            verifier.verify(FieldVerificationConfiguration.forRootField(commonSoftAssertion, verificationField,
+                    new AssertionConfigurationBuilder().build()));
+        }
+        List<String> traces = captureEngineTraces();
+        Assertions.assertEquals(Arrays.asList("Model.name", "Model.items", "Model.ratio"), traces);
+    }
+
+    @Test
+    void inaccessibleFieldTest() {
+        String source = "package sample;\n"
+                + "@com.github.vladislavsevruk.assertion.annotation.GenerateVerifier\n"
+                + "public class HiddenModel {\n"
+                + "    private String secret;\n"
+                + "}\n";
+        List<String> errors = compile(new SourceFile("sample.HiddenModel", source));
+        Assertions.assertEquals(1, errors.size());
+        Assertions.assertTrue(errors.get(0).contains("'secret'"));
+    }
+
+    @Test
+    void privateNestedClassTest() {
+        String source = "package sample;\n"
+                + "public class Outer {\n"
+                + "    @com.github.vladislavsevruk.assertion.annotation.GenerateVerifier\n"
+                + "    private static class Inner {\n"
+                + "    }\n"
+                + "}\n";
+        List<String> errors = compile(new SourceFile("sample.Outer", source));
+        Assertions.assertEquals(1, errors.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> captureEngineTraces() {
+        ArgumentCaptor<FieldVerificationConfiguration<Object>> captor = ArgumentCaptor
+                .forClass(FieldVerificationConfiguration.class);
+        Mockito.verify(assertionEngine, Mockito.atLeastOnce()).compareObjects(captor.capture());
+        return captor.getAllValues().stream()
+                .map(configuration -> configuration.getVerificationField().trace().getTrace())
+                .collect(Collectors.toList());
+    }
+
+    private List<String> compile(SourceFile... sourceFiles) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = Arrays.asList("-classpath", getCompilationClasspath(), "-d", outputDirectory.toString());
+        JavaCompiler.CompilationTask task = compiler
+                .getTask(null, null, diagnostics, options, null, Arrays.asList(sourceFiles));
+        task.setProcessors(Collections.singletonList(new GenerateVerifierProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null)).collect(Collectors.toList());
+    }
+
+    private URLClassLoader createClassLoader() throws IOException {
+        return new URLClassLoader(new URL[]{ outputDirectory.toUri().toURL() }, getClass().getClassLoader());
+    }
+
+    private String getCompilationClasspath() {
+        return Arrays.asList(GenerateVerifier.class, AssertionContext.class, Logger.class).stream()
+                .map(this::getLocation).collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private String getLocation(Class<?> clazz) {
+        try {
+            return new File(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (URISyntaxException usEx) {
+            throw new IllegalStateException(usEx);
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        private SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -25,6 +25,7 @@ package com.github.vladislavsevruk.assertion.testng;
 
 import com.github.vladislavsevruk.assertion.AbstractRecursiveAssertion;
 import com.github.vladislavsevruk.assertion.verifier.CommonSoftAssertion;
+import com.github.vladislavsevruk.assertion.verifier.ConcurrentSoftAssertion;
 import com.github.vladislavsevruk.assertion.verifier.TestNgSoftAssertionAdapter;
 import org.testng.asserts.SoftAssert;
 
@@ -51,6 +52,17 @@ public final class RecursiveAssertion<T> extends AbstractRecursiveAssertion<T, R
         return new RecursiveAssertion<>(actual);
     }
 
+    /**
+     * Creates new concurrent soft assertion that may collect verifications of several assertions performed at
+     * different threads and passes them to TestNG soft assertion at <code>ConcurrentSoftAssertion.assertAll()</code>
+     * call.
+     *
+     * @return new <code>ConcurrentSoftAssertion</code> instance.
+     */
+    public static ConcurrentSoftAssertion newConcurrentSoftAssertion() {
+        return new ConcurrentSoftAssertion(new TestNgSoftAssertionAdapter(new SoftAssert()));
+    }
+
     /**
      * Sets SoftAssert to use for verifications. If set then no exception will be thrown at verification end and
      * additional <code>SoftAssert.assertAll()</code> call is required.
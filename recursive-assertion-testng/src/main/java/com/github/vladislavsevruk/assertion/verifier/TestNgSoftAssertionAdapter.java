@@ -31,7 +31,7 @@ import java.util.stream.StreamSupport;
 /**
  * Adapts TestNG SoftAssert functionality to common interface with required soft assertion actions.
  */
-public class TestNgSoftAssertionAdapter implements CommonSoftAssertion {
+public class TestNgSoftAssertionAdapter extends AbstractCommonSoftAssertion {
 
     private SoftAssert softAssert;
 
@@ -51,7 +51,7 @@ public class TestNgSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEmpty(Object[] actual, String message) {
+    protected void verifyEmpty(Object[] actual, String message) {
         softAssert.assertEquals(actual.length, 0, wrapMessage(message));
     }
 
@@ -59,7 +59,7 @@ public class TestNgSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEmpty(Iterable<?> actual, String message) {
+    protected void verifyEmpty(Iterable<?> actual, String message) {
         softAssert.assertEquals(getIterableSize(actual), 0, wrapMessage(message));
     }
 
@@ -67,7 +67,7 @@ public class TestNgSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEmpty(Map<?, ?> actual, String message) {
+    protected void verifyEmpty(Map<?, ?> actual, String message) {
         softAssert.assertTrue(actual.isEmpty(), wrapMessage(message));
     }
 
@@ -75,7 +75,7 @@ public class TestNgSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEqualSize(Object[] actual, Object[] expected, String message) {
+    protected void verifyEqualSize(Object[] actual, Object[] expected, String message) {
         softAssert.assertEquals(actual.length, expected.length, wrapMessage(message));
     }
 
@@ -83,7 +83,7 @@ public class TestNgSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public void assertEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
+    protected void verifyEqualSize(Iterable<?> actual, Iterable<?> expected, String message) {
         softAssert.assertEquals(getIterableSize(actual), getIterableSize(expected), wrapMessage(message));
     }
 
@@ -91,7 +91,7 @@ public class TestNgSoftAssertionAdapter implements CommonSoftAssertion {
      * {@inheritDoc}
      */
     @Override
-    public <T> void assertEquals(T actual, T expected, String message) {
+    protected <T> void verifyEquals(T actual, T expected, String message) {
         softAssert.assertEquals(actual, expected, wrapMessage(message));
     }
 
@@ -344,6 +344,33 @@ class ArrayAssertionTest {
         Assertions.assertThrows(AssertionError.class, () -> recursiveAssertion2.isEqualTo(expected));
     }
 
+    @Test
+    void arrayMatchUnorderedElementsTest() {
+        ComplexObjectWithoutComparator actual1 = new ComplexObjectWithoutComparator();
+        actual1.setId(1L);
+        actual1.setSimpleTypeField("value1");
+        ComplexObjectWithoutComparator actual2 = new ComplexObjectWithoutComparator();
+        actual2.setId(2L);
+        actual2.setSimpleTypeField("value2");
+        ComplexObjectWithoutComparator expected1 = new ComplexObjectWithoutComparator();
+        expected1.setId(2L);
+        expected1.setSimpleTypeField("value2");
+        ComplexObjectWithoutComparator expected2 = new ComplexObjectWithoutComparator();
+        expected2.setId(3L);
+        expected2.setSimpleTypeField("value1");
+        ComplexObjectWithoutComparator[] actual = new ComplexObjectWithoutComparator[]{ actual1, actual2 };
+        ComplexObjectWithoutComparator[] expected = new ComplexObjectWithoutComparator[]{ expected1, expected2 };
+        RecursiveAssertion<ComplexObjectWithoutComparator[]> recursiveAssertion = RecursiveAssertion
+                .assertThat(actual).matchUnorderedElements(true);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertEquals("The following asserts failed:\n\t"
+                    + "[ComplexObjectWithoutComparator[1].id] expected [3] but found [1]", asEr.getMessage());
+        }
+    }
+
     @Test
     void arrayNotBreakOnIdInequalityTest() {
         ComplexObjectWithComparator actualElement = new ComplexObjectWithComparator();
@@ -485,4 +512,47 @@ class ArrayAssertionTest {
         Double[] expected = null;
         RecursiveAssertion.assertThat(actual).ignoreNullFields(true).isEqualTo(expected);
     }
+    @Test
+    void primitiveArrayEmptyCollectionEqualNullTest() {
+        int[] actual = new int[0];
+        int[] expected = null;
+        RecursiveAssertion.assertThat(actual).emptyCollectionEqualNull(true).isEqualTo(expected);
+    }
+
+    @Test
+    void primitiveArrayEqualsTest() {
+        long[] actual = new long[]{ 1L, 2L, 3L };
+        long[] expected = new long[]{ 1L, 2L, 3L };
+        RecursiveAssertion.assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void primitiveArrayNotEqualsTest() {
+        int[] actual = new int[]{ 1, 2, 3 };
+        int[] expected = new int[]{ 1, 5, 3 };
+        try {
+            RecursiveAssertion.assertThat(actual).isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertEquals("The following asserts failed:\n\t[int[1]] expected [5] but found [2]",
+                    asEr.getMessage());
+        }
+    }
+
+    @Test
+    void primitiveArrayReportedElementsLimitTest() {
+        double[] actual = new double[20];
+        double[] expected = new double[20];
+        for (int i = 0; i < expected.length; ++i) {
+            expected[i] = i + 1;
+        }
+        try {
+            RecursiveAssertion.assertThat(actual).isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertTrue(asEr.getMessage().contains("[double[9]] expected [10.0] but found [0.0],\n\t"
+                    + "[double[]] 10 more differing element(s) weren't reported"));
+            Assertions.assertFalse(asEr.getMessage().contains("[double[10]]"));
+        }
+    }
 }
@@ -23,6 +23,7 @@
  */
 package com.github.vladislavsevruk.assertion.testng;
 
+import com.github.vladislavsevruk.assertion.configuration.DepthLimitFallback;
 import com.github.vladislavsevruk.assertion.testng.data.ComplexObjectWithoutComparator;
 import com.github.vladislavsevruk.assertion.testng.data.NestedComplexObject;
 import com.github.vladislavsevruk.assertion.testng.extension.ComparatorExtension;
@@ -385,6 +386,25 @@ class ComplexModelAssertionTest {
         RecursiveAssertion.assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void complexObjectFailFastTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 2, 2 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .failFast();
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertEquals("The following asserts failed:\n\t"
+                            + "[[ComplexObjectWithoutComparator.nestedSimpleTypeArray] Length of actual and expected arrays differs] expected [1] but found [2],\n\t"
+                            + "Verification was stopped after 1 failure(s), remaining values weren't verified.",
+                    asEr.getMessage());
+        }
+    }
+
     @Test
     void complexObjectIgnoreFieldByNameTest() {
         ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
@@ -461,6 +481,113 @@ class ComplexModelAssertionTest {
         Assertions.assertThrows(AssertionError.class, () -> recursiveAssertion.isEqualTo(expected));
     }
 
+    @Test
+    void complexObjectMaxDepthComparatorEqualArraysTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        RecursiveAssertion.assertThat(actual).maxDepth(0, DepthLimitFallback.COMPARATOR).isEqualTo(expected);
+    }
+
+    @Test
+    void complexObjectMaxDepthEqualArraysTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        RecursiveAssertion.assertThat(actual).maxDepth(0).isEqualTo(expected);
+    }
+
+    @Test
+    void complexObjectMaxDepthEqualsTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        NestedComplexObject actualNestedObject = new NestedComplexObject();
+        actualNestedObject.setId(1L);
+        actual.setNestedComplexObject(actualNestedObject);
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        NestedComplexObject expectedNestedObject = new NestedComplexObject();
+        expectedNestedObject.setId(2L);
+        expected.setNestedComplexObject(expectedNestedObject);
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .maxDepth(0);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertTrue(asEr.getMessage().startsWith(
+                    "The following asserts failed:\n\t[ComplexObjectWithoutComparator.nestedComplexObject] expected ["));
+        }
+    }
+
+    @Test
+    void complexObjectMaxDepthNotEqualArraysTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 3 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1, 2, 4 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .maxDepth(0);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertTrue(asEr.getMessage().startsWith(
+                    "The following asserts failed:\n\t[ComplexObjectWithoutComparator.nestedSimpleTypeArray] "));
+        }
+    }
+
+    @Test
+    void complexObjectMaxDepthSkipTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        NestedComplexObject actualNestedObject = new NestedComplexObject();
+        actualNestedObject.setId(1L);
+        actual.setNestedComplexObject(actualNestedObject);
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        NestedComplexObject expectedNestedObject = new NestedComplexObject();
+        expectedNestedObject.setId(2L);
+        expected.setNestedComplexObject(expectedNestedObject);
+        RecursiveAssertion.assertThat(actual).maxDepth(0, DepthLimitFallback.SKIP).isEqualTo(expected);
+    }
+
+    @Test
+    void complexObjectMaxFailuresNotReachedTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 2, 2 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .breakOnSizeInequality(false).maxFailures(4);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertTrue(asEr.getMessage()
+                    .endsWith("Unexpected element at 'ComplexObjectWithoutComparator.nestedSimpleTypeArray': 2"));
+            Assertions.assertFalse(asEr.getMessage().contains("Verification was stopped"));
+        }
+    }
+
+    @Test
+    void complexObjectMaxFailuresTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setNestedSimpleTypeArray(new Integer[]{ 2, 2 });
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setNestedSimpleTypeArray(new Integer[]{ 1 });
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .breakOnSizeInequality(false).maxFailures(2);
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertEquals("The following asserts failed:\n\t"
+                            + "[[ComplexObjectWithoutComparator.nestedSimpleTypeArray] Length of actual and expected arrays differs] expected [1] but found [2],\n\t"
+                            + "[ComplexObjectWithoutComparator.nestedSimpleTypeArray[0]] expected [1] but found [2],\n\t"
+                            + "Verification was stopped after 2 failure(s), remaining values weren't verified.",
+                    asEr.getMessage());
+        }
+    }
+
     @Test
     void complexObjectNotBreakOnIdInequalityArrayTest() {
         ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
@@ -587,6 +714,37 @@ class ComplexModelAssertionTest {
         }
     }
 
+    @Test
+    void complexObjectOnlyFieldsByPathTest() {
+        ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
+        actual.setId(1L);
+        actual.setSimpleTypeField("simpleTestValue1");
+        NestedComplexObject actualNestedObject = new NestedComplexObject();
+        actualNestedObject.setId(1L);
+        actualNestedObject.setSimpleTypeField("simpleTestValue1");
+        actual.setNestedComplexObject(actualNestedObject);
+        ComplexObjectWithoutComparator expected = new ComplexObjectWithoutComparator();
+        expected.setId(2L);
+        expected.setSimpleTypeField("simpleTestValue2");
+        NestedComplexObject expectedNestedObject = new NestedComplexObject();
+        expectedNestedObject.setId(1L);
+        expectedNestedObject.setSimpleTypeField("simpleTestValue2");
+        expected.setNestedComplexObject(expectedNestedObject);
+        RecursiveAssertion.assertThat(actual).onlyFieldsByPath("ComplexObjectWithoutComparator.nestedComplexObject.id")
+                .isEqualTo(expected);
+        RecursiveAssertion<ComplexObjectWithoutComparator> recursiveAssertion = RecursiveAssertion.assertThat(actual)
+                .onlyFieldsByPath("ComplexObjectWithoutComparator.id", "ComplexObjectWithoutComparator.nestedComplexObject");
+        try {
+            recursiveAssertion.isEqualTo(expected);
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertEquals("The following asserts failed:\n\t"
+                    + "[ComplexObjectWithoutComparator.id] expected [2] but found [1],\n\t"
+                    + "[ComplexObjectWithoutComparator.nestedComplexObject.simpleTypeField] expected [simpleTestValue2] but found [simpleTestValue1]",
+                    asEr.getMessage());
+        }
+    }
+
     @Test
     void complexObjectSortInnerSimpleTypeArrayTest() {
         ComplexObjectWithoutComparator actual = new ComplexObjectWithoutComparator();
@@ -23,15 +23,51 @@
  */
 package com.github.vladislavsevruk.assertion.testng;
 
+import com.github.vladislavsevruk.assertion.verifier.ConcurrentSoftAssertion;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.testng.asserts.SoftAssert;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 class RecursiveAssertionTest {
 
+    @Test
+    void concurrentSoftAssertionKeepsVerificationOrderTest() {
+        ConcurrentSoftAssertion concurrentSoftAssertion = RecursiveAssertion.newConcurrentSoftAssertion();
+        List<String> actual = IntStream.range(0, 11).mapToObj(i -> "a" + i).collect(Collectors.toList());
+        List<String> expected = IntStream.range(0, 11).mapToObj(i -> "e" + i).collect(Collectors.toList());
+        IntStream.range(0, 2).parallel().forEach(i -> RecursiveAssertion.assertThat(actual).as("list" + i)
+                .useConcurrentSoftAssertion(concurrentSoftAssertion).isEqualTo(expected));
+        try {
+            concurrentSoftAssertion.assertAll();
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            String message = asEr.getMessage();
+            Assertions.assertNotEquals(-1, message.indexOf("[list0[2]]"));
+            Assertions.assertTrue(message.indexOf("[list0[2]]") < message.indexOf("[list0[10]]"));
+            Assertions.assertTrue(message.indexOf("[list0[10]]") < message.indexOf("[list1[0]]"));
+        }
+    }
+
+    @Test
+    void concurrentSoftAssertionTest() {
+        ConcurrentSoftAssertion concurrentSoftAssertion = RecursiveAssertion.newConcurrentSoftAssertion();
+        IntStream.range(0, 50).parallel().forEach(i -> RecursiveAssertion.assertThat(Collections.singletonList("a" + i))
+                .as(String.format("list%02d", i)).useConcurrentSoftAssertion(concurrentSoftAssertion)
+                .isEqualTo(Collections.singletonList("e" + i)));
+        try {
+            concurrentSoftAssertion.assertAll();
+            Assertions.fail("Exception wasn't thrown");
+        } catch (AssertionError asEr) {
+            Assertions.assertTrue(asEr.getMessage().startsWith("The following asserts failed:\n\t[list00[0]]"));
+            Assertions.assertTrue(asEr.getMessage().contains("[list49[0]]"));
+        }
+    }
+
     @Test
     void customObjectNameTest() {
         List<String> actual = Collections.singletonList("a");
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.assertion.verifier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.testng.asserts.SoftAssert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+class TestNgSoftAssertionAdapterTest {
+
+    @Test
+    void failedAssertionsKeepFrameworkMessagesTest() {
+        List<String> list = Collections.singletonList("a");
+        List<String> longerList = Arrays.asList("a", "b");
+        assertSameMessage(adapter -> adapter.assertEquals(1, 2, "field"),
+                softAssert -> softAssert.assertEquals(1, 2, "[field]"));
+        assertSameMessage(adapter -> adapter.assertEmpty(new Object[1], "array"),
+                softAssert -> softAssert.assertEquals(1, 0, "[array]"));
+        assertSameMessage(adapter -> adapter.assertEmpty(list, "iterable"),
+                softAssert -> softAssert.assertEquals(1L, 0, "[iterable]"));
+        assertSameMessage(adapter -> adapter.assertEmpty(Collections.singletonMap("k", "v"), "map"),
+                softAssert -> softAssert.assertTrue(false, "[map]"));
+        assertSameMessage(adapter -> adapter.assertEqualSize(new Object[1], new Object[2], "array"),
+                softAssert -> softAssert.assertEquals(1, 2, "[array]"));
+        assertSameMessage(adapter -> adapter.assertEqualSize(list, longerList, "iterable"),
+                softAssert -> softAssert.assertEquals(1L, 2L, "[iterable]"));
+        assertSameMessage(adapter -> adapter.fail("message"), softAssert -> softAssert.fail("message"));
+    }
+
+    @Test
+    void passedAssertionsAreNotPassedToSoftAssertTest() {
+        SoftAssert softAssert = Mockito.mock(SoftAssert.class);
+        TestNgSoftAssertionAdapter adapter = new TestNgSoftAssertionAdapter(softAssert);
+        adapter.assertEquals("a", "a", "message");
+        adapter.assertEquals(null, null, () -> "message");
+        adapter.assertEmpty(new Object[0], "message");
+        adapter.assertEmpty(Collections.emptyList(), () -> "message");
+        adapter.assertEmpty(Collections.emptyMap(), "message");
+        adapter.assertEqualSize(new Object[1], new Object[1], "message");
+        adapter.assertEqualSize(Collections.singletonList(1), Collections.singletonList(2), () -> "message");
+        Mockito.verifyNoInteractions(softAssert);
+    }
+
+    private void assertSameMessage(Consumer<TestNgSoftAssertionAdapter> adapterAssertion,
+            Consumer<SoftAssert> softAssertAssertion) {
+        SoftAssert adaptedSoftAssert = new SoftAssert();
+        adapterAssertion.accept(new TestNgSoftAssertionAdapter(adaptedSoftAssert));
+        SoftAssert softAssert = new SoftAssert();
+        softAssertAssertion.accept(softAssert);
+        AssertionError expectedError = Assertions.assertThrows(AssertionError.class, softAssert::assertAll);
+        AssertionError actualError = Assertions.assertThrows(AssertionError.class, adaptedSoftAssert::assertAll);
+        Assertions.assertEquals(expectedError.getMessage(), actualError.getMessage());
+    }
+}